@@ -3,32 +3,108 @@ package io.jenkins.plugins.security.scan;
 import hudson.EnvVars;
 import hudson.FilePath;
 import hudson.model.TaskListener;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import hudson.util.StreamTaskListener;
 import io.jenkins.plugins.security.scan.bridge.BridgeDownloadManager;
 import io.jenkins.plugins.security.scan.bridge.BridgeDownloadParameters;
 import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
 import io.jenkins.plugins.security.scan.global.*;
 import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
-import io.jenkins.plugins.security.scan.service.ParameterMappingService;
 import io.jenkins.plugins.security.scan.service.bridge.BridgeDownloadParametersService;
 import io.jenkins.plugins.security.scan.service.scan.ScanParametersService;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
+import org.springframework.security.core.Authentication;
 
 public class ScanInitializer {
     private final SecurityScanner scanner;
     private final FilePath workspace;
     private final TaskListener listener;
     private final EnvVars envVars;
+    private final JobContext jobContext;
     private final LoggerWrapper logger;
 
+    private static final ExecutorService PRE_SCAN_EXECUTOR = Executors.newCachedThreadPool(
+            new NamingThreadFactory(new DaemonThreadFactory(), ScanInitializer.class.getSimpleName()));
+
     public ScanInitializer(SecurityScanner scanner, FilePath workspace, EnvVars envVars, TaskListener listener) {
+        this(scanner, workspace, new JobContext(listener, envVars), listener);
+    }
+
+    public ScanInitializer(
+            SecurityScanner scanner, FilePath workspace, JobContext jobContext, TaskListener listener) {
         this.scanner = scanner;
         this.workspace = workspace;
         this.listener = listener;
-        this.envVars = envVars;
+        this.envVars = jobContext.getEnvVars();
+        this.jobContext = jobContext;
         this.logger = new LoggerWrapper(listener);
     }
 
     public int initializeScanner(Map<String, Object> scanParameters) throws PluginExceptionHandler {
+        return initializeScanner(scanParameters, new ParameterDiagnostics());
+    }
+
+    public int initializeScanner(Map<String, Object> scanParameters, ParameterDiagnostics diagnostics)
+            throws PluginExceptionHandler {
+        PreparedScan preparedScan = prepareScan(scanParameters, diagnostics);
+        if (preparedScan == null) {
+            return ErrorCode.PRODUCT_SERVER_UNAVAILABLE_SCAN_SKIPPED;
+        }
+
+        int exitCode = scanner.runScanner(
+                preparedScan.scanConfiguration, preparedScan.bridgeInstallationPath, preparedScan.bridgeDownloadParams);
+
+        recordScanOutcome(preparedScan.productServerUrls, exitCode, scanParameters);
+
+        return exitCode;
+    }
+
+    /**
+     * Runs the pre-scan phase on the calling thread and then only starts Bridge CLI. The returned future completes
+     * with the exit code once Bridge CLI has ended, see {@link SecurityScanner#runScannerAsync}. A stopped scan
+     * says nothing about the product servers, so it is not recorded with the circuit breaker.
+     */
+    public CompletableFuture<Integer> initializeScannerAsync(
+            Map<String, Object> scanParameters, ParameterDiagnostics diagnostics, Executor executor)
+            throws PluginExceptionHandler {
+        PreparedScan preparedScan = prepareScan(scanParameters, diagnostics);
+        if (preparedScan == null) {
+            return CompletableFuture.completedFuture(ErrorCode.PRODUCT_SERVER_UNAVAILABLE_SCAN_SKIPPED);
+        }
+
+        return scanner.runScannerAsync(
+                        preparedScan.scanConfiguration,
+                        preparedScan.bridgeInstallationPath,
+                        preparedScan.bridgeDownloadParams,
+                        executor)
+                .thenApply(exitCode -> {
+                    recordScanOutcome(preparedScan.productServerUrls, exitCode, scanParameters);
+                    return exitCode;
+                });
+    }
+
+    // Returns null when the scan is skipped because a product server is unavailable
+    private PreparedScan prepareScan(Map<String, Object> scanParameters, ParameterDiagnostics diagnostics)
+            throws PluginExceptionHandler {
+        PreScanDeadline preScanDeadline = PreScanDeadline.forPreScanPhase();
+        ScanConfiguration scanConfiguration = ScanConfiguration.from(scanParameters);
         ScanParametersService scanParametersService = new ScanParametersService(listener);
         BridgeDownloadParameters bridgeDownloadParameters =
                 new BridgeDownloadParameters(workspace, listener, envVars, scanParameters);
@@ -37,35 +113,67 @@ public class ScanInitializer {
         BridgeDownloadParameters bridgeDownloadParams =
                 bridgeDownloadParametersService.getBridgeDownloadParams(scanParameters, bridgeDownloadParameters);
 
-        logMessagesForParameters(scanParameters, scanParametersService.getSecurityProducts(scanParameters));
+        Set<String> securityProducts = scanConfiguration.getSecurityProductNames();
 
-        scanParametersService.performScanParameterValidation(scanParameters, envVars);
+        logMessagesForParameters(scanParameters, securityProducts, diagnostics);
 
-        bridgeDownloadParametersService.performBridgeDownloadParameterValidation(bridgeDownloadParams);
+        scanParametersService.performScanParameterValidation(scanConfiguration, jobContext);
+        preScanDeadline.checkNotExpired();
 
-        BridgeDownloadManager bridgeDownloadManager =
-                new BridgeDownloadManager(workspace, listener, envVars, scanParameters);
+        // the SCM lookups only need validated scan parameters, so they run while Bridge CLI is being prepared
+        RepositoryContextResolution repositoryContextResolution = startRepositoryContextResolution(scanConfiguration);
 
-        bridgeDownloadParametersService.updateBridgeInstallationPath(bridgeDownloadParameters);
+        Set<String> productServerUrls;
+        try {
+            bridgeDownloadParametersService.performBridgeDownloadParameterValidation(bridgeDownloadParams);
 
-        boolean isNetworkAirGap = checkNetworkAirgap(scanParameters);
-        boolean isBridgeInstalled =
-                bridgeDownloadManager.checkIfBridgeInstalled(bridgeDownloadParams.getBridgeInstallationPath());
-        boolean isBridgeDownloadRequired = true;
+            BridgeDownloadManager bridgeDownloadManager =
+                    new BridgeDownloadManager(workspace, listener, envVars, scanParameters, preScanDeadline);
 
-        handleNetworkAirgap(isNetworkAirGap, bridgeDownloadParams, isBridgeInstalled);
+            bridgeDownloadParametersService.updateBridgeInstallationPath(bridgeDownloadParameters);
 
-        if (scanParameters.containsKey(ApplicationConstants.NETWORK_SSL_TRUSTALL_KEY)
-                && (Boolean) scanParameters.get(ApplicationConstants.NETWORK_SSL_TRUSTALL_KEY)
-                && scanParameters.containsKey(ApplicationConstants.NETWORK_SSL_CERT_FILE_KEY)) {
-            throw new PluginExceptionHandler(ErrorCode.SSL_CONFIG_CONFLICT_ERROR);
-        }
+            boolean isNetworkAirGap = scanConfiguration.isNetworkAirGap();
+            boolean isBridgeInstalled =
+                    bridgeDownloadManager.checkIfBridgeInstalled(bridgeDownloadParams.getBridgeInstallationPath());
+            boolean isBridgeDownloadRequired = true;
+
+            handleNetworkAirgap(isNetworkAirGap, bridgeDownloadParams, isBridgeInstalled);
+
+            if (scanConfiguration.isNetworkSslTrustAll() && scanConfiguration.getNetworkSslCertFile() != null) {
+                throw new PluginExceptionHandler(ErrorCode.SSL_CONFIG_CONFLICT_ERROR);
+            }
 
-        if (isBridgeInstalled) {
-            isBridgeDownloadRequired = bridgeDownloadManager.isBridgeDownloadRequired(bridgeDownloadParams);
+            productServerUrls = getProductServerUrls(scanParameters, securityProducts);
+            if (!verifyProductServerAvailability(productServerUrls, scanParameters)) {
+                cancelRepositoryContextResolution(repositoryContextResolution, null);
+                return null;
+            }
+            logWarningForDegradedProductServers(productServerUrls);
+
+            if (isBridgeInstalled) {
+                isBridgeDownloadRequired = bridgeDownloadManager.isBridgeDownloadRequired(bridgeDownloadParams);
+                if (isBridgeDownloadRequired && preScanDeadline.isExpired()) {
+                    logWarningForInstalledBridgeFallback(preScanDeadline, bridgeDownloadParams);
+                    isBridgeDownloadRequired = false;
+                }
+            }
+
+            try {
+                handleBridgeDownload(
+                        isBridgeDownloadRequired, isNetworkAirGap, bridgeDownloadParams, bridgeDownloadManager);
+            } catch (PluginExceptionHandler e) {
+                if (e.getCode() != ErrorCode.PRE_SCAN_DEADLINE_EXCEEDED || !isBridgeInstalled) {
+                    throw e;
+                }
+                logWarningForInstalledBridgeFallback(preScanDeadline, bridgeDownloadParams);
+                handleBridgeDownload(false, isNetworkAirGap, bridgeDownloadParams, bridgeDownloadManager);
+            }
+        } catch (PluginExceptionHandler | RuntimeException e) {
+            cancelRepositoryContextResolution(repositoryContextResolution, e);
+            throw e;
         }
 
-        handleBridgeDownload(isBridgeDownloadRequired, isNetworkAirGap, bridgeDownloadParams, bridgeDownloadManager);
+        awaitRepositoryContextResolution(repositoryContextResolution);
 
         FilePath bridgeInstallationPath =
                 new FilePath(workspace.getChannel(), bridgeDownloadParams.getBridgeInstallationPath());
@@ -80,12 +188,212 @@ public class ScanInitializer {
             logger.warn(ApplicationConstants.POLARIS_SOURCE_UPLOAD_DEPRECATION_WARNING);
         }
 
-        return scanner.runScanner(scanParameters, bridgeInstallationPath, bridgeDownloadParams);
+        return new PreparedScan(scanConfiguration, bridgeInstallationPath, bridgeDownloadParams, productServerUrls);
     }
 
-    private boolean checkNetworkAirgap(Map<String, Object> scanParameters) {
-        return scanParameters.containsKey(ApplicationConstants.NETWORK_AIRGAP_KEY)
-                && scanParameters.get(ApplicationConstants.NETWORK_AIRGAP_KEY).equals(true);
+    static boolean isConcurrentPreScanEnabled() {
+        return SystemProperties.getBoolean(ScanInitializer.class.getName() + ".concurrentPreScan", false);
+    }
+
+    private RepositoryContextResolution startRepositoryContextResolution(ScanConfiguration scanConfiguration) {
+        if (!isConcurrentPreScanEnabled() || !jobContext.isMultibranchJob()) {
+            return null;
+        }
+        // looked up on this thread, as it logs the job name to the build log
+        jobContext.getSCMSource();
+
+        RepositoryContextResolution resolution = new RepositoryContextResolution();
+        Authentication authentication = Jenkins.getAuthentication2();
+        resolution.future = PRE_SCAN_EXECUTOR.submit(() -> {
+            try (ACLContext ignored = ACL.as2(authentication)) {
+                scanner.prepareRepositoryContext(scanConfiguration, resolution.listener);
+            }
+            return null;
+        });
+        return resolution;
+    }
+
+    private void awaitRepositoryContextResolution(RepositoryContextResolution repositoryContextResolution)
+            throws PluginExceptionHandler {
+        if (repositoryContextResolution == null) {
+            return;
+        }
+        try {
+            repositoryContextResolution.future.get();
+        } catch (InterruptedException e) {
+            repositoryContextResolution.future.cancel(true);
+            Thread.currentThread().interrupt();
+            logger.error(ApplicationConstants.INTERRUPTED_WHILE_WAITING_FOR_SCM_REPOSITORY_DETAILS);
+            throw new PluginExceptionHandler(ErrorCode.SCAN_INTERRUPTED);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof PluginExceptionHandler) {
+                throw (PluginExceptionHandler) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        } finally {
+            repositoryContextResolution.copyLogTo(listener);
+        }
+    }
+
+    private void cancelRepositoryContextResolution(
+            RepositoryContextResolution repositoryContextResolution, Exception failure) {
+        if (repositoryContextResolution == null) {
+            return;
+        }
+        Future<Void> future = repositoryContextResolution.future;
+        if (!future.isDone()) {
+            future.cancel(true);
+            return;
+        }
+        repositoryContextResolution.copyLogTo(listener);
+        if (failure != null && !future.isCancelled()) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                failure.addSuppressed(e.getCause());
+            }
+        }
+    }
+
+    private Set<String> getProductServerUrls(Map<String, Object> scanParameters, Set<String> securityProducts) {
+        Set<String> productServerUrls = new LinkedHashSet<>();
+
+        for (String securityProduct : securityProducts) {
+            String urlKey = null;
+            if (securityProduct.equals(SecurityProduct.BLACKDUCK.name())
+                    || securityProduct.equals(SecurityProduct.BLACKDUCKSCA.name())) {
+                urlKey = ApplicationConstants.BLACKDUCKSCA_URL_KEY;
+            } else if (securityProduct.equals(SecurityProduct.COVERITY.name())) {
+                urlKey = ApplicationConstants.COVERITY_URL_KEY;
+            } else if (securityProduct.equals(SecurityProduct.POLARIS.name())) {
+                urlKey = ApplicationConstants.POLARIS_SERVER_URL_KEY;
+            } else if (securityProduct.equals(SecurityProduct.SRM.name())) {
+                urlKey = ApplicationConstants.SRM_URL_KEY;
+            }
+
+            if (urlKey != null && scanParameters.get(urlKey) != null) {
+                productServerUrls.add(scanParameters.get(urlKey).toString());
+            }
+        }
+
+        return productServerUrls;
+    }
+
+    private boolean verifyProductServerAvailability(Set<String> productServerUrls, Map<String, Object> scanParameters)
+            throws PluginExceptionHandler {
+        ProductCircuitBreaker circuitBreaker = ProductCircuitBreaker.getInstance();
+
+        for (String productServerUrl : productServerUrls) {
+            if (circuitBreaker.allowRequest(productServerUrl)) {
+                if (circuitBreaker.getState(productServerUrl) == ProductCircuitBreaker.State.HALF_OPEN) {
+                    probeProductServer(productServerUrl, scanParameters, circuitBreaker);
+                }
+                if (circuitBreaker.getState(productServerUrl) == ProductCircuitBreaker.State.CLOSED) {
+                    continue;
+                }
+            }
+
+            boolean skipScan =
+                    ProductCircuitBreaker.getOpenCircuitPolicy() == ProductCircuitBreaker.OpenCircuitPolicy.SKIP;
+            if (circuitBreaker.getState(productServerUrl) == ProductCircuitBreaker.State.HALF_OPEN) {
+                // another build is probing the server right now, so there is no next probe time to report
+                logger.error(
+                        skipScan
+                                ? ApplicationConstants.PRODUCT_SERVER_BEING_PROBED_AND_SCAN_SKIPPED
+                                : ApplicationConstants.PRODUCT_SERVER_BEING_PROBED,
+                        productServerUrl);
+            } else {
+                logger.error(
+                        skipScan
+                                ? ApplicationConstants.PRODUCT_SERVER_CIRCUIT_OPEN_AND_SCAN_SKIPPED
+                                : ApplicationConstants.PRODUCT_SERVER_CIRCUIT_OPEN,
+                        productServerUrl,
+                        Math.max(1, circuitBreaker.getRemainingOpenMillis(productServerUrl) / 1000));
+            }
+            if (skipScan) {
+                return false;
+            }
+            throw new PluginExceptionHandler(ErrorCode.PRODUCT_SERVER_UNAVAILABLE);
+        }
+
+        return true;
+    }
+
+    private void logWarningForDegradedProductServers(Set<String> productServerUrls) {
+        for (String productServerUrl : productServerUrls) {
+            ProductServerHealthRegistry.getInstance()
+                    .getSnapshot(productServerUrl)
+                    .filter(ProductServerHealthRegistry.Snapshot::isDegraded)
+                    .ifPresent(health -> logger.warn(
+                            ApplicationConstants.PRODUCT_SERVER_HEALTH_DEGRADED,
+                            productServerUrl,
+                            health.getAvailabilityPercentage(),
+                            health.getSampleCount(),
+                            health.getP95LatencyMillis(),
+                            health.getLastStatusCode()));
+        }
+    }
+
+    private void probeProductServer(
+            String productServerUrl, Map<String, Object> scanParameters, ProductCircuitBreaker circuitBreaker) {
+        if (isProductServerReachable(productServerUrl, scanParameters)) {
+            circuitBreaker.recordSuccess(productServerUrl);
+            logger.info("%s is reachable again, resuming scans against it", productServerUrl);
+        } else {
+            circuitBreaker.recordFailure(productServerUrl);
+        }
+    }
+
+    // Only an I/O failure or a 5xx answer counts as the server being unavailable
+    private boolean isProductServerReachable(String productServerUrl, Map<String, Object> scanParameters) {
+        try {
+            int statusCode = HttpClientProvider.getHttpStatusCode(
+                    productServerUrl,
+                    envVars,
+                    logger,
+                    scanParameters,
+                    PreScanDeadline.ofMillis(
+                            TimeUnit.SECONDS.toMillis(ApplicationConstants.PRODUCT_SERVER_PROBE_TIMEOUT_IN_SECONDS)));
+            return statusCode < HttpURLConnection.HTTP_INTERNAL_ERROR;
+        } catch (IOException | RuntimeException e) {
+            logger.warn(ApplicationConstants.EXCEPTION_WHILE_CHECKING_THE_HTTP_STATUS_CODE, e.getMessage());
+            return false;
+        }
+    }
+
+    private void recordScanOutcome(Set<String> productServerUrls, int exitCode, Map<String, Object> scanParameters) {
+        ProductCircuitBreaker circuitBreaker = ProductCircuitBreaker.getInstance();
+
+        for (String productServerUrl : productServerUrls) {
+            // a build break still means every server answered
+            if (exitCode == ErrorCode.SCAN_SUCCESSFUL || exitCode == ErrorCode.BRIDGE_BUILD_BREAK) {
+                circuitBreaker.recordSuccess(productServerUrl);
+            } else if (exitCode == ErrorCode.BRIDGE_ADAPTER_ERROR) {
+                // only the adapters talk to the servers, and their errors do not tell a misconfiguration apart from
+                // an outage, so each server is probed and only the ones that cannot be reached are charged. Other
+                // failures say nothing about the servers and are not recorded.
+                if (isProductServerReachable(productServerUrl, scanParameters)) {
+                    circuitBreaker.recordSuccess(productServerUrl);
+                } else {
+                    logger.warn(ApplicationConstants.PRODUCT_SERVER_UNREACHABLE_AFTER_FAILED_SCAN, productServerUrl);
+                    circuitBreaker.recordFailure(productServerUrl);
+                }
+            }
+        }
+    }
+
+    private void logWarningForInstalledBridgeFallback(
+            PreScanDeadline preScanDeadline, BridgeDownloadParameters bridgeDownloadParams) {
+        logger.warn(
+                ApplicationConstants.PRE_SCAN_DEADLINE_EXCEEDED_USING_INSTALLED_BRIDGE_CLI,
+                preScanDeadline.getBudgetInMinutes(),
+                bridgeDownloadParams.getBridgeInstallationPath());
     }
 
     private void handleNetworkAirgap(
@@ -135,23 +443,50 @@ public class ScanInitializer {
     }
 
     public void logMessagesForParameters(Map<String, Object> scanParameters, Set<String> securityProducts) {
+        logMessagesForParameters(scanParameters, securityProducts, new ParameterDiagnostics());
+    }
+
+    public void logMessagesForParameters(
+            Map<String, Object> scanParameters, Set<String> securityProducts, ParameterDiagnostics diagnostics) {
         logger.println("-------------------------- Parameter Validation Initiated --------------------------");
 
-        Map<String, Object> parametersCopy = new HashMap<>(scanParameters);
+        Map<String, List<String>> productParameterLines = new LinkedHashMap<>();
+        for (String product : securityProducts) {
+            productParameterLines.put(product, new ArrayList<>());
+        }
+        List<String> additionalParameterLines = new ArrayList<>();
 
-        logMessagesForProductParameters(parametersCopy, securityProducts);
+        for (Map.Entry<String, Object> entry : scanParameters.entrySet()) {
+            ParameterKeyRegistry.ParameterKey parameterKey = ParameterKeyRegistry.lookup(entry.getKey());
+
+            for (Map.Entry<String, List<String>> productLines : productParameterLines.entrySet()) {
+                if (parameterKey.isLoggedFor(productLines.getKey())) {
+                    Object value = parameterKey.isSensitive() ? LogMessages.ASTERISKS : entry.getValue();
+                    productLines.getValue().add(LogMessages.LOG_DASH + entry.getKey() + " = " + value.toString());
+                }
+            }
+            if (parameterKey.isAdditional()) {
+                additionalParameterLines.add(
+                        LogMessages.LOG_DASH + entry.getKey() + " = " + entry.getValue().toString());
+            }
+        }
+
+        logMessagesForProductParameters(productParameterLines, securityProducts, diagnostics);
 
-        logMessagesForAdditionalParameters(parametersCopy);
+        logMessagesForAdditionalParameters(additionalParameterLines);
 
-        if ((Objects.equals(parametersCopy.get(ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_CREATE_KEY), true)
+        if ((Objects.equals(scanParameters.get(ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_CREATE_KEY), true)
                         || Objects.equals(
-                                parametersCopy.get(ApplicationConstants.POLARIS_REPORTS_SARIF_CREATE_KEY), true))
+                                scanParameters.get(ApplicationConstants.POLARIS_REPORTS_SARIF_CREATE_KEY), true))
                 && envVars.get(ApplicationConstants.ENV_CHANGE_ID_KEY) != null) {
             logger.info("SARIF report create/upload is ignored for PR/MR scans");
         }
     }
 
-    private void logMessagesForProductParameters(Map<String, Object> scanParameters, Set<String> securityProducts) {
+    private void logMessagesForProductParameters(
+            Map<String, List<String>> productParameterLines,
+            Set<String> securityProducts,
+            ParameterDiagnostics diagnostics) {
         logger.info(LogMessages.LOG_DASH + ApplicationConstants.PRODUCT_KEY + " = " + securityProducts.toString());
 
         // Warning message for blackduck stage
@@ -163,82 +498,66 @@ public class ScanInitializer {
                     SecurityProduct.BLACKDUCKSCA.name().toLowerCase());
         }
 
-        for (String product : securityProducts) {
-            String securityProduct = product.toLowerCase();
-
-            logger.info("Parameters for %s:", securityProduct);
-            logParameters(scanParameters, securityProduct);
+        for (Map.Entry<String, List<String>> productLines : productParameterLines.entrySet()) {
+            logger.info("Parameters for %s:", productLines.getKey().toLowerCase());
+            for (String line : productLines.getValue()) {
+                logger.info(line);
+            }
 
             logger.println(LogMessages.DASHES);
         }
 
-        logWarningForDeprecatedParameters();
+        logWarningForDeprecatedParameters(diagnostics);
     }
 
-    private void logParameters(Map<String, Object> scanParameters, String securityProduct) {
-        for (Map.Entry<String, Object> entry : scanParameters.entrySet()) {
-            String key = entry.getKey();
-            Object value = entry.getValue();
-
-            if (shouldLogParameter(securityProduct, key)) {
-                if (isSensitiveKey(key)) {
-                    value = LogMessages.ASTERISKS;
-                }
-                logger.info(LogMessages.LOG_DASH + key + " = " + value.toString());
+    private void logMessagesForAdditionalParameters(List<String> additionalParameterLines) {
+        if (!additionalParameterLines.isEmpty()) {
+            logger.info("Parameters for additional configuration:");
+            for (String line : additionalParameterLines) {
+                logger.info(line);
             }
         }
     }
 
-    private boolean shouldLogParameter(String securityProduct, String key) {
-        List<String> arbitraryParamList = ApplicationConstants.ARBITRARY_PARAM_KEYS;
-        if (!(securityProduct.equalsIgnoreCase(SecurityProduct.BLACKDUCKSCA.name())
-                        || securityProduct.equalsIgnoreCase(SecurityProduct.BLACKDUCK.name()))
-                && key.contains(ApplicationConstants.BLACKDUCKSCA_SCAN_FULL_KEY)) return false;
-        return key.contains(securityProduct)
-                || key.equals(ApplicationConstants.PROJECT_DIRECTORY_KEY)
-                || key.startsWith("detect_")
-                || (securityProduct.equals(SecurityProduct.POLARIS.name().toLowerCase())
-                        && (key.startsWith("project_") || arbitraryParamList.contains(key)))
-                || (securityProduct.equals(SecurityProduct.SRM.name().toLowerCase())
-                        && (key.equals(ApplicationConstants.DETECT_EXECUTION_PATH_KEY)
-                                || key.equals(ApplicationConstants.COVERITY_EXECUTION_PATH_KEY)
-                                || arbitraryParamList.contains(key)));
-    }
-
-    private boolean isSensitiveKey(String key) {
-        return key.equals(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY)
-                || key.equals(ApplicationConstants.POLARIS_ACCESS_TOKEN_KEY)
-                || key.equals(ApplicationConstants.COVERITY_PASSPHRASE_KEY)
-                || key.equals(ApplicationConstants.SRM_APIKEY_KEY);
+    private void logWarningForDeprecatedParameters(ParameterDiagnostics diagnostics) {
+        if (diagnostics.hasDeprecatedParameters()) {
+            logger.warn(
+                    ApplicationConstants
+                            .DEPRECATED_PARAMETERS_WILL_BE_REMOVED_IN_FUTURE_AND_CHECK_DOCUMENTATION_FOR_NEW_PARAMETERS,
+                    diagnostics.getDeprecatedParameters().toString(),
+                    ApplicationConstants.BLACKDUCK_SECURITY_SCAN_PLUGIN_DOCS_URL);
+        }
     }
 
-    private void logMessagesForAdditionalParameters(Map<String, Object> scanParameters) {
-        boolean additionalParamsFound = false;
-
-        for (Map.Entry<String, Object> entry : scanParameters.entrySet()) {
-            String key = entry.getKey();
-            if (key.startsWith("bridgecli_")
-                    || key.startsWith("network_")
-                    || key.equals(ApplicationConstants.INCLUDE_DIAGNOSTICS_KEY)
-                    || key.equals(ApplicationConstants.MARK_BUILD_STATUS)) {
-                if (!additionalParamsFound) {
-                    logger.info("Parameters for additional configuration:");
-                    additionalParamsFound = true;
-                }
-                Object value = entry.getValue();
-                logger.info(LogMessages.LOG_DASH + key + " = " + value.toString());
-            }
+    // The SCM lookups log into a buffer that is copied to the build log once they are done, so that their lines do
+    // not interleave with the Bridge CLI download output
+    private static final class RepositoryContextResolution {
+        private final ByteArrayOutputStream log = new ByteArrayOutputStream();
+        private final TaskListener listener = new StreamTaskListener(log, StandardCharsets.UTF_8);
+        private Future<Void> future;
+
+        private void copyLogTo(TaskListener buildListener) {
+            listener.getLogger().flush();
+            byte[] lines = log.toByteArray();
+            buildListener.getLogger().write(lines, 0, lines.length);
         }
     }
 
-    private void logWarningForDeprecatedParameters() {
-        if (!ParameterMappingService.getDeprecatedParameters().isEmpty()) {
-            logger.warn(
-                    ApplicationConstants
-                            .DEPRECATED_PARAMETERS_WILL_BE_REMOVED_IN_FUTURE_AND_CHECK_DOCUMENTATION_FOR_NEW_PARAMETERS,
-                    ParameterMappingService.getDeprecatedParameters().toString(),
-                    ApplicationConstants.BLACKDUCK_SECURITY_SCAN_PLUGIN_DOCS_URL);
-            ParameterMappingService.getDeprecatedParameters().clear();
+    private static final class PreparedScan {
+        private final ScanConfiguration scanConfiguration;
+        private final FilePath bridgeInstallationPath;
+        private final BridgeDownloadParameters bridgeDownloadParams;
+        private final Set<String> productServerUrls;
+
+        private PreparedScan(
+                ScanConfiguration scanConfiguration,
+                FilePath bridgeInstallationPath,
+                BridgeDownloadParameters bridgeDownloadParams,
+                Set<String> productServerUrls) {
+            this.scanConfiguration = scanConfiguration;
+            this.bridgeInstallationPath = bridgeInstallationPath;
+            this.bridgeDownloadParams = bridgeDownloadParams;
+            this.productServerUrls = productServerUrls;
         }
     }
 }
@@ -1,31 +1,46 @@
 package io.jenkins.plugins.security.scan;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import hudson.EnvVars;
 import hudson.FilePath;
 import hudson.Launcher;
+import hudson.console.LineTransformationOutputStream;
 import hudson.model.Run;
 import hudson.model.TaskListener;
 import hudson.tasks.ArtifactArchiver;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
 import io.jenkins.plugins.security.scan.action.IssueAction;
 import io.jenkins.plugins.security.scan.bridge.BridgeDownloadParameters;
+import io.jenkins.plugins.security.scan.bridge.BridgeProcessWatcher;
 import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+import io.jenkins.plugins.security.scan.global.ErrorCode;
 import io.jenkins.plugins.security.scan.global.IssueCalculator;
 import io.jenkins.plugins.security.scan.global.LoggerWrapper;
+import io.jenkins.plugins.security.scan.global.ScanConfiguration;
 import io.jenkins.plugins.security.scan.global.Utility;
 import io.jenkins.plugins.security.scan.global.enums.ReportType;
 import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
 import io.jenkins.plugins.security.scan.service.ParameterMappingService;
 import io.jenkins.plugins.security.scan.service.ToolsParameterService;
 import io.jenkins.plugins.security.scan.service.diagnostics.UploadReportService;
-import io.jenkins.plugins.security.scan.service.scan.ScanParametersService;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import jenkins.util.SystemProperties;
 
 public class SecurityScanner {
     private final Run<?, ?> run;
@@ -35,15 +50,22 @@ public class SecurityScanner {
     private final FilePath workspace;
     private final EnvVars envVars;
     private final ToolsParameterService toolsParameterService;
+    private volatile CompletableFuture<Integer> runningBridge;
+    private volatile boolean stopped;
 
     public SecurityScanner(
             Run<?, ?> run, TaskListener listener, Launcher launcher, FilePath workspace, EnvVars envVars) {
+        this(run, listener, launcher, workspace, new JobContext(listener, envVars));
+    }
+
+    public SecurityScanner(
+            Run<?, ?> run, TaskListener listener, Launcher launcher, FilePath workspace, JobContext jobContext) {
         this.run = run;
         this.listener = listener;
         this.launcher = launcher;
         this.workspace = workspace;
-        this.envVars = envVars;
-        this.toolsParameterService = new ToolsParameterService(listener, envVars, workspace);
+        this.envVars = jobContext.getEnvVars();
+        this.toolsParameterService = new ToolsParameterService(listener, jobContext, workspace);
         this.logger = new LoggerWrapper(listener);
     }
 
@@ -52,10 +74,117 @@ public class SecurityScanner {
             FilePath bridgeInstallationPath,
             BridgeDownloadParameters bridgeDownloadParams)
             throws PluginExceptionHandler {
+        return runScanner(ScanConfiguration.from(scanParams), bridgeInstallationPath, bridgeDownloadParams);
+    }
+
+    public int runScanner(
+            ScanConfiguration scanConfiguration,
+            FilePath bridgeInstallationPath,
+            BridgeDownloadParameters bridgeDownloadParams)
+            throws PluginExceptionHandler {
+        if (shouldRunScannerPerProduct(scanConfiguration)) {
+            return runScannerPerProduct(scanConfiguration, bridgeInstallationPath, bridgeDownloadParams);
+        }
+
         int scanner = 0;
 
         List<String> commandLineArgs =
-                toolsParameterService.getCommandLineArgs(scanParams, bridgeInstallationPath, bridgeDownloadParams);
+                getCommandLineArgs(scanConfiguration, bridgeInstallationPath, bridgeDownloadParams);
+
+        try {
+            logger.println();
+            logger.println(
+                    "******************************* %s *******************************",
+                    "START EXECUTION OF BRIDGE CLI");
+
+            scanner = bridgeProcStarter(commandLineArgs).join();
+        } catch (Exception e) {
+            logger.error(ApplicationConstants.EXCEPTION_WHILE_INVOKING_BRIDGE_CLI, e.getMessage());
+            Thread.currentThread().interrupt();
+        } finally {
+            finishScanner(scanConfiguration, commandLineArgs);
+        }
+
+        return scanner;
+    }
+
+    /**
+     * Starts Bridge CLI and returns right away. The returned future completes with the exit code once the process
+     * has ended and its results have been processed on the given executor, no thread is held while Bridge CLI is
+     * running. A scan stopped through {@link #stopScanner} completes with a {@link CancellationException}, as it has
+     * no exit code to report.
+     */
+    public CompletableFuture<Integer> runScannerAsync(
+            ScanConfiguration scanConfiguration,
+            FilePath bridgeInstallationPath,
+            BridgeDownloadParameters bridgeDownloadParams,
+            Executor executor)
+            throws PluginExceptionHandler {
+        if (shouldRunScannerPerProduct(scanConfiguration)) {
+            // the per product processes are awaited on the calling thread
+            return CompletableFuture.completedFuture(
+                    runScannerPerProduct(scanConfiguration, bridgeInstallationPath, bridgeDownloadParams));
+        }
+
+        if (stopped) {
+            CompletableFuture<Integer> stoppedScan = new CompletableFuture<>();
+            stoppedScan.cancel(false);
+            return stoppedScan;
+        }
+
+        List<String> commandLineArgs =
+                getCommandLineArgs(scanConfiguration, bridgeInstallationPath, bridgeDownloadParams);
+
+        logger.println();
+        logger.println(
+                "******************************* %s *******************************",
+                "START EXECUTION OF BRIDGE CLI");
+
+        CompletableFuture<Integer> bridgeExitCode;
+        try {
+            bridgeExitCode = BridgeProcessWatcher.watch(bridgeProcStarter(commandLineArgs).start());
+        } catch (IOException | RuntimeException e) {
+            logger.error(ApplicationConstants.EXCEPTION_WHILE_INVOKING_BRIDGE_CLI, e.getMessage());
+            bridgeExitCode = CompletableFuture.completedFuture(ErrorCode.BRIDGE_UNDEFINED_ERROR);
+        }
+
+        runningBridge = bridgeExitCode;
+        if (stopped) {
+            bridgeExitCode.cancel(true);
+        }
+
+        return bridgeExitCode.handleAsync(
+                (exitCode, failure) -> {
+                    if (failure != null && !bridgeExitCode.isCancelled()) {
+                        logger.error(ApplicationConstants.EXCEPTION_WHILE_INVOKING_BRIDGE_CLI, failure.getMessage());
+                    }
+                    finishScanner(scanConfiguration, commandLineArgs);
+                    if (bridgeExitCode.isCancelled()) {
+                        throw new CancellationException("Bridge CLI was stopped");
+                    }
+                    return failure != null ? ErrorCode.BRIDGE_UNDEFINED_ERROR : exitCode;
+                },
+                executor);
+    }
+
+    /**
+     * Kills the Bridge CLI process started by {@link #runScannerAsync}, or prevents it from being started.
+     */
+    public void stopScanner() {
+        stopped = true;
+        CompletableFuture<Integer> bridgeExitCode = runningBridge;
+        if (bridgeExitCode != null) {
+            bridgeExitCode.cancel(true);
+        }
+    }
+
+    private List<String> getCommandLineArgs(
+            ScanConfiguration scanConfiguration,
+            FilePath bridgeInstallationPath,
+            BridgeDownloadParameters bridgeDownloadParams)
+            throws PluginExceptionHandler {
+        List<String> commandLineArgs = toolsParameterService.getCommandLineArgs(
+                scanConfiguration, bridgeInstallationPath, bridgeDownloadParams);
 
         logger.info("Executable command line arguments: "
                 + commandLineArgs.stream()
@@ -63,40 +192,157 @@ public class SecurityScanner {
                         .collect(Collectors.joining())
                         .trim());
 
+        return commandLineArgs;
+    }
+
+    private Launcher.ProcStarter bridgeProcStarter(List<String> commandLineArgs) {
+        return launcher.launch()
+                .cmds(commandLineArgs)
+                .envs(envVars)
+                .pwd(workspace)
+                .stdout(listener)
+                .quiet(true);
+    }
+
+    private void finishScanner(ScanConfiguration scanConfiguration, List<String> commandLineArgs) {
+        logger.println(
+                "******************************* %s *******************************",
+                "END EXECUTION OF BRIDGE CLI");
+
+        toolsParameterService.removeTemporaryInputJson(commandLineArgs);
+
+        handleDiagnostics(scanConfiguration);
+        handleSarifReports(scanConfiguration);
+
+        handleIssueCount(scanConfiguration.getParameters());
+    }
+
+    // Separate Bridge CLI processes let the products scan at the same time instead of one stage after another
+    private int runScannerPerProduct(
+            ScanConfiguration scanConfiguration,
+            FilePath bridgeInstallationPath,
+            BridgeDownloadParameters bridgeDownloadParams)
+            throws PluginExceptionHandler {
+        List<ToolsParameterService.ProductCommandLine> productCommandLines =
+                toolsParameterService.getProductCommandLines(
+                        scanConfiguration, bridgeInstallationPath, bridgeDownloadParams);
+        int parallelism = Math.min(getMaxConcurrentProducts(), productCommandLines.size());
+        ExecutorService executorService = Executors.newFixedThreadPool(
+                parallelism,
+                new NamingThreadFactory(new DaemonThreadFactory(), SecurityScanner.class.getSimpleName()));
+        List<Future<Integer>> productExitCodes = new ArrayList<>();
+        int scanner = 0;
+
         try {
             logger.println();
             logger.println(
                     "******************************* %s *******************************",
                     "START EXECUTION OF BRIDGE CLI");
+            logger.info(
+                    ApplicationConstants.CONCURRENT_BRIDGE_CLI_EXECUTION,
+                    scanConfiguration.getSecurityProductNames(),
+                    parallelism);
 
-            scanner = launcher.launch()
-                    .cmds(commandLineArgs)
-                    .envs(envVars)
-                    .pwd(workspace)
-                    .stdout(listener)
-                    .quiet(true)
-                    .join();
-        } catch (Exception e) {
+            for (ToolsParameterService.ProductCommandLine productCommandLine : productCommandLines) {
+                logger.info("Executable command line arguments for " + productCommandLine.getProduct() + ": "
+                        + String.join(" ", productCommandLine.getCommandLineArgs()));
+                productExitCodes.add(executorService.submit(() -> launchBridge(productCommandLine)));
+            }
+
+            scanner = getProductsExitCode(productExitCodes, logger);
+        } catch (InterruptedException e) {
             logger.error(ApplicationConstants.EXCEPTION_WHILE_INVOKING_BRIDGE_CLI, e.getMessage());
             Thread.currentThread().interrupt();
         } finally {
+            // interrupting the workers stops the Bridge CLI processes that are still running
+            executorService.shutdownNow();
             logger.println(
                     "******************************* %s *******************************",
                     "END EXECUTION OF BRIDGE CLI");
 
-            toolsParameterService.removeTemporaryInputJson(commandLineArgs);
-
-            handleDiagnostics(scanParams);
-            handleSarifReports(scanParams);
+            for (ToolsParameterService.ProductCommandLine productCommandLine : productCommandLines) {
+                toolsParameterService.removeTemporaryInputJson(productCommandLine.getCommandLineArgs());
+            }
 
-            handleIssueCount(scanParams);
+            for (ToolsParameterService.ProductCommandLine productCommandLine : productCommandLines) {
+                handleIssueCount(
+                        scanConfiguration.getParameters(),
+                        productCommandLine.getProduct(),
+                        productCommandLine.getScanInfoOutFile());
+            }
         }
 
         return scanner;
     }
 
+    // The exit code of the first product that did not succeed decides the build result
+    static int getProductsExitCode(List<Future<Integer>> productExitCodes, LoggerWrapper logger)
+            throws InterruptedException {
+        int scanner = 0;
+        for (Future<Integer> productExitCode : productExitCodes) {
+            int exitCode;
+            try {
+                exitCode = productExitCode.get();
+            } catch (ExecutionException e) {
+                logger.error(ApplicationConstants.EXCEPTION_WHILE_INVOKING_BRIDGE_CLI, e.getCause().getMessage());
+                // the product could not be scanned, which must not pass as a successful scan
+                exitCode = ErrorCode.BRIDGE_UNDEFINED_ERROR;
+            }
+            if (scanner == 0) {
+                scanner = exitCode;
+            }
+        }
+        return scanner;
+    }
+
+    private int launchBridge(ToolsParameterService.ProductCommandLine productCommandLine)
+            throws IOException, InterruptedException {
+        try (ProductOutputStream productOutput =
+                new ProductOutputStream(listener.getLogger(), productCommandLine.getProduct())) {
+            return launcher.launch()
+                    .cmds(productCommandLine.getCommandLineArgs())
+                    .envs(envVars)
+                    .pwd(workspace)
+                    .stdout(productOutput)
+                    .quiet(true)
+                    .join();
+        }
+    }
+
+    // The per product processes share the .bridge directory, so its diagnostics and the SARIF reports could not be
+    // told apart and are only collected when the products run in a single process
+    boolean shouldRunScannerPerProduct(ScanConfiguration scanConfiguration) {
+        if (!isConcurrentProductExecutionEnabled() || scanConfiguration.getSecurityProducts().size() < 2) {
+            return false;
+        }
+        if (scanConfiguration.isIncludeDiagnostics()
+                || scanConfiguration.isBlackDuckSCASarifCreate()
+                || scanConfiguration.isPolarisSarifCreate()) {
+            logger.warn(ApplicationConstants.CONCURRENT_BRIDGE_CLI_EXECUTION_NOT_SUPPORTED);
+            return false;
+        }
+        return true;
+    }
+
+    public static boolean isConcurrentProductExecutionEnabled() {
+        return SystemProperties.getBoolean(SecurityScanner.class.getName() + ".concurrentProducts", false);
+    }
+
+    static int getMaxConcurrentProducts() {
+        return Math.max(1, SystemProperties.getInteger(SecurityScanner.class.getName() + ".maxConcurrentProducts", 4));
+    }
+
+    public void prepareRepositoryContext(ScanConfiguration scanConfiguration, TaskListener listener)
+            throws PluginExceptionHandler {
+        toolsParameterService.prepareRepositoryContext(scanConfiguration, listener);
+    }
+
     public void handleDiagnostics(Map<String, Object> scanParams) {
-        if (Objects.equals(scanParams.get(ApplicationConstants.INCLUDE_DIAGNOSTICS_KEY), true)) {
+        handleDiagnostics(ScanConfiguration.from(scanParams));
+    }
+
+    private void handleDiagnostics(ScanConfiguration scanConfiguration) {
+        if (scanConfiguration.isIncludeDiagnostics()) {
             UploadReportService uploadReportService = new UploadReportService(
                     run,
                     listener,
@@ -109,11 +355,11 @@ public class SecurityScanner {
     }
 
     public void handleSarifReports(Map<String, Object> scanParams) {
-        boolean createBlackDuckSarif =
-                Objects.equals(scanParams.get(ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_CREATE_KEY), true);
-        boolean createPolarisSarif =
-                Objects.equals(scanParams.get(ApplicationConstants.POLARIS_REPORTS_SARIF_CREATE_KEY), true);
-        if (!createBlackDuckSarif && !createPolarisSarif) {
+        handleSarifReports(ScanConfiguration.from(scanParams));
+    }
+
+    private void handleSarifReports(ScanConfiguration scanConfiguration) {
+        if (!scanConfiguration.isBlackDuckSCASarifCreate() && !scanConfiguration.isPolarisSarifCreate()) {
             return;
         }
 
@@ -122,25 +368,22 @@ public class SecurityScanner {
         logger.info((isPullRequest ? "This is a (PR/MR) event" : "This is not a (PR/MR) event")
                 + (isPullRequest ? " (PR/MR Number: " + changeId + ")" : ""));
 
-        ScanParametersService scanParametersService = new ScanParametersService(listener);
-        Set<String> scanType = scanParametersService.getSecurityProducts(scanParams);
-        boolean isBlackDuckScan = scanType.contains(SecurityProduct.BLACKDUCK.name())
-                || scanType.contains(SecurityProduct.BLACKDUCKSCA.name());
-        boolean isPolarisScan = scanType.contains(SecurityProduct.POLARIS.name());
+        boolean isBlackDuckScan = scanConfiguration.isBlackDuckSCAScan();
+        boolean isPolarisScan = scanConfiguration.hasSecurityProduct(SecurityProduct.POLARIS);
 
         boolean waitForScan = true;
-        if (isBlackDuckScan && scanParams.containsKey(ApplicationConstants.BLACKDUCKSCA_WAITFORSCAN_KEY)) {
-            waitForScan = (Boolean) scanParams.get(ApplicationConstants.BLACKDUCKSCA_WAITFORSCAN_KEY);
-        } else if (isPolarisScan && scanParams.containsKey(ApplicationConstants.POLARIS_WAITFORSCAN_KEY)) {
-            waitForScan = (Boolean) scanParams.get(ApplicationConstants.POLARIS_WAITFORSCAN_KEY);
+        if (isBlackDuckScan && scanConfiguration.getBlackDuckSCAWaitForScan() != null) {
+            waitForScan = scanConfiguration.getBlackDuckSCAWaitForScan();
+        } else if (isPolarisScan && scanConfiguration.getPolarisWaitForScan() != null) {
+            waitForScan = scanConfiguration.getPolarisWaitForScan();
         }
 
         if (isPullRequest || !waitForScan) {
             return;
         }
 
-        String reportFilePath =
-                Utility.resolveSarifReportFilePath(scanParams, workspace, isBlackDuckScan, isPolarisScan, logger);
+        String reportFilePath = Utility.resolveSarifReportFilePath(
+                scanConfiguration.getParameters(), workspace, isBlackDuckScan, isPolarisScan, logger);
         String reportFileName = Utility.determineSARIFReportFileName(reportFilePath);
 
         UploadReportService uploadReportService =
@@ -149,8 +392,15 @@ public class SecurityScanner {
     }
 
     public void handleIssueCount(Map<String, Object> scanParams) {
+        handleIssueCount(
+                scanParams,
+                scanParams.get(ApplicationConstants.PRODUCT_KEY).toString(),
+                ApplicationConstants.SCAN_INFO_OUT_FILE_NAME);
+    }
+
+    private void handleIssueCount(Map<String, Object> scanParams, String product, String scanInfoOutFile) {
         try {
-            FilePath filePath = workspace.child(ApplicationConstants.SCAN_INFO_OUT_FILE_NAME);
+            FilePath filePath = workspace.child(scanInfoOutFile);
             if (!filePath.exists()) {
                 logger.info(ApplicationConstants.SCAN_INFO_FILE_NOT_FOUND);
                 return;
@@ -158,13 +408,13 @@ public class SecurityScanner {
 
             logger.info("Retrieving the issue count from the scan results");
 
-            String product = scanParams.get(ApplicationConstants.PRODUCT_KEY).toString();
-            String productUrl = ParameterMappingService.getProductUrl(scanParams);
-            JsonNode rootNode = Utility.parseJsonFile(filePath.readToString());
-
-            IssueCalculator issueCalculator = new IssueCalculator();
-            String issuesUrl = issueCalculator.getIssuesUrl(rootNode, product.toLowerCase());
-            int totalIssues = issueCalculator.calculateTotalIssues(rootNode, product.toLowerCase());
+            String productUrl = ParameterMappingService.getProductUrl(scanParams, product);
+            IssueCalculator.IssueSummary issueSummary;
+            try (InputStream scanInfo = filePath.read()) {
+                issueSummary = new IssueCalculator().calculateIssueSummary(scanInfo, product.toLowerCase());
+            }
+            String issuesUrl = issueSummary.getIssuesUrl();
+            int totalIssues = issueSummary.getTotalIssues();
 
             boolean isPullRequestEvent = Utility.isPullRequestEvent(envVars);
             if (totalIssues != -1 && !isPullRequestEvent) {
@@ -181,4 +431,26 @@ public class SecurityScanner {
             Thread.currentThread().interrupt();
         }
     }
+
+    /**
+     * Prefixes every line a Bridge CLI process prints with its product, so that the output of processes running at
+     * the same time can be told apart in the build log.
+     */
+    private static final class ProductOutputStream extends LineTransformationOutputStream {
+        private final PrintStream out;
+        private final byte[] prefix;
+
+        private ProductOutputStream(PrintStream out, String product) {
+            this.out = out;
+            this.prefix = ("[" + product + "] ").getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        protected void eol(byte[] b, int len) {
+            synchronized (out) {
+                out.write(prefix, 0, prefix.length);
+                out.write(b, 0, len);
+            }
+        }
+    }
 }
@@ -6,12 +6,11 @@ import hudson.model.TaskListener;
 import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
 import io.jenkins.plugins.security.scan.global.ErrorCode;
+import io.jenkins.plugins.security.scan.global.HttpClientProvider;
 import io.jenkins.plugins.security.scan.global.LoggerWrapper;
-import io.jenkins.plugins.security.scan.global.Utility;
+import io.jenkins.plugins.security.scan.global.PreScanDeadline;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.Map;
 
 public class BridgeDownload {
@@ -19,13 +18,24 @@ public class BridgeDownload {
     private final FilePath workspace;
     private final EnvVars envVars;
     private final Map<String, Object> scanParameters;
+    private final PreScanDeadline preScanDeadline;
 
     public BridgeDownload(
             FilePath workspace, TaskListener listener, EnvVars envVars, Map<String, Object> scanParameters) {
+        this(workspace, listener, envVars, scanParameters, PreScanDeadline.unbounded());
+    }
+
+    public BridgeDownload(
+            FilePath workspace,
+            TaskListener listener,
+            EnvVars envVars,
+            Map<String, Object> scanParameters,
+            PreScanDeadline preScanDeadline) {
         this.workspace = workspace;
         this.logger = new LoggerWrapper(listener);
         this.envVars = envVars;
         this.scanParameters = scanParameters;
+        this.preScanDeadline = preScanDeadline;
     }
 
     public FilePath downloadBridgeCLI(String bridgeDownloadUrl, String bridgeInstallationPath)
@@ -41,6 +51,14 @@ public class BridgeDownload {
         boolean downloadSuccess = false;
 
         while (!downloadSuccess && retryCount <= ApplicationConstants.BRIDGE_DOWNLOAD_MAX_RETRIES) {
+            if (preScanDeadline.isExpired()) {
+                logger.error(
+                        ApplicationConstants.PRE_SCAN_DEADLINE_EXCEEDED_WHILE_DOWNLOADING_BRIDGE_CLI,
+                        preScanDeadline.getBudgetInMinutes(),
+                        bridgeDownloadUrl);
+                throw new PluginExceptionHandler(ErrorCode.PRE_SCAN_DEADLINE_EXCEEDED);
+            }
+
             try {
                 logger.info("Downloading Bridge CLI from: " + bridgeDownloadUrl);
                 bridgeZipFilePath = downloadBridge(bridgeDownloadUrl, bridgeInstallationFilePath);
@@ -74,15 +92,9 @@ public class BridgeDownload {
     private FilePath downloadBridge(String bridgeDownloadUrl, FilePath bridgeInstallationFilePath)
             throws InterruptedException, IOException {
         FilePath bridgeZipFilePath = bridgeInstallationFilePath.child(ApplicationConstants.BRIDGE_ZIP_FILE_FORMAT);
-        HttpURLConnection connection =
-                Utility.getHttpURLConnection(new URL(bridgeDownloadUrl), envVars, logger, scanParameters);
-
-        if (connection != null) {
-            try (InputStream inputStream = connection.getInputStream()) {
-                bridgeZipFilePath.copyFrom(inputStream);
-                logger.info("Bridge CLI successfully downloaded in: " + bridgeZipFilePath);
-            }
-        }
+        HttpClientProvider.downloadToFile(
+                bridgeDownloadUrl, bridgeZipFilePath, envVars, logger, scanParameters, preScanDeadline);
+        logger.info("Bridge CLI successfully downloaded in: " + bridgeZipFilePath);
 
         return bridgeZipFilePath;
     }
@@ -96,7 +108,8 @@ public class BridgeDownload {
         }
 
         try {
-            Thread.sleep(ApplicationConstants.INTERVAL_BETWEEN_CONSECUTIVE_RETRY_ATTEMPTS);
+            Thread.sleep(Math.min(
+                    ApplicationConstants.INTERVAL_BETWEEN_CONSECUTIVE_RETRY_ATTEMPTS, preScanDeadline.remainingMillis()));
         } catch (InterruptedException ie) {
             logger.warn(ApplicationConstants.EXCEPTION_OCCURRED_IN_BETWEEN_CONSECUTIVE_RETRY_ATTEMPTS, ie.getMessage());
             Thread.currentThread().interrupt();
@@ -108,13 +121,8 @@ public class BridgeDownload {
         int statusCode = -1;
 
         try {
-            HttpURLConnection connection = Utility.getHttpURLConnection(new URL(url), envVars, logger, scanParameters);
-            if (connection != null) {
-                connection.setRequestMethod("HEAD");
-                statusCode = connection.getResponseCode();
-                connection.disconnect();
-            }
-        } catch (IOException e) {
+            statusCode = HttpClientProvider.getHttpStatusCode(url, envVars, logger, scanParameters, preScanDeadline);
+        } catch (IOException | RuntimeException e) {
             logger.error(ApplicationConstants.EXCEPTION_WHILE_CHECKING_THE_HTTP_STATUS_CODE, e.getMessage());
         }
 
@@ -131,13 +139,9 @@ public class BridgeDownload {
 
     public boolean checkIfBridgeUrlExists(String bridgeDownloadUrl) {
         try {
-            URL url = new URL(bridgeDownloadUrl);
-
-            HttpURLConnection connection = Utility.getHttpURLConnection(url, envVars, logger, scanParameters);
-            if (connection != null) {
-                connection.setRequestMethod("HEAD");
-                return (connection.getResponseCode() == HttpURLConnection.HTTP_OK);
-            }
+            return HttpClientProvider.getHttpStatusCode(
+                            bridgeDownloadUrl, envVars, logger, scanParameters, preScanDeadline)
+                    == HttpURLConnection.HTTP_OK;
         } catch (Exception e) {
             logger.error(ApplicationConstants.EXCEPTION_WHILE_CHECKING_BRIDGE_URL_EXISTS_OR_NOT, e.getMessage());
         }
@@ -5,14 +5,13 @@ import hudson.FilePath;
 import hudson.model.TaskListener;
 import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+import io.jenkins.plugins.security.scan.global.HttpClientProvider;
 import io.jenkins.plugins.security.scan.global.LoggerWrapper;
+import io.jenkins.plugins.security.scan.global.PreScanDeadline;
 import io.jenkins.plugins.security.scan.global.Utility;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URL;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -24,19 +23,31 @@ public class BridgeDownloadManager {
     private final LoggerWrapper logger;
     private final EnvVars envVars;
     private final Map<String, Object> scanParameters;
+    private final PreScanDeadline preScanDeadline;
 
     public BridgeDownloadManager(
             FilePath workspace, TaskListener listener, EnvVars envVars, Map<String, Object> scanParameters) {
+        this(workspace, listener, envVars, scanParameters, PreScanDeadline.unbounded());
+    }
+
+    public BridgeDownloadManager(
+            FilePath workspace,
+            TaskListener listener,
+            EnvVars envVars,
+            Map<String, Object> scanParameters,
+            PreScanDeadline preScanDeadline) {
         this.workspace = workspace;
         this.listener = listener;
         this.logger = new LoggerWrapper(listener);
         this.envVars = envVars;
         this.scanParameters = scanParameters;
+        this.preScanDeadline = preScanDeadline;
     }
 
     public void initiateBridgeDownloadAndUnzip(BridgeDownloadParameters bridgeDownloadParams)
             throws PluginExceptionHandler {
-        BridgeDownload bridgeDownload = new BridgeDownload(workspace, listener, envVars, scanParameters);
+        BridgeDownload bridgeDownload =
+                new BridgeDownload(workspace, listener, envVars, scanParameters, preScanDeadline);
         BridgeInstall bridgeInstall = new BridgeInstall(workspace, listener, envVars, scanParameters);
 
         String bridgeDownloadUrl = bridgeDownloadParams.getBridgeDownloadUrl();
@@ -141,15 +152,9 @@ public class BridgeDownloadManager {
 
         try {
             FilePath tempFilePath = workspace.createTempFile("versions", ".txt");
-            URL url = new URL(versionFileUrl);
-
-            HttpURLConnection connection = Utility.getHttpURLConnection(url, envVars, logger, scanParameters);
-            if (connection != null) {
-                try (InputStream inputStream = connection.getInputStream()) {
-                    tempFilePath.copyFrom(inputStream);
-                }
-                tempVersionFilePath = tempFilePath.getRemote();
-            }
+            HttpClientProvider.downloadToFile(
+                    versionFileUrl, tempFilePath, envVars, logger, scanParameters, preScanDeadline);
+            tempVersionFilePath = tempFilePath.getRemote();
         } catch (IOException | InterruptedException e) {
             logger.error(ApplicationConstants.EXCEPTION_WHILE_DOWNLOADING_VERSIONS_TXT, e.getMessage());
             Thread.currentThread().interrupt();
@@ -159,14 +164,14 @@ public class BridgeDownloadManager {
 
     public boolean isVersionFileAvailableInArtifactory(String directoryUrl) {
         try {
-            URL url = new URL(String.join("/", directoryUrl, ApplicationConstants.VERSION_FILE));
-
-            HttpURLConnection connection = Utility.getHttpURLConnection(url, envVars, logger, scanParameters);
-            if (connection != null) {
-                connection.setRequestMethod("HEAD");
-                return (connection.getResponseCode() >= 200 && connection.getResponseCode() < 300);
-            }
-        } catch (IOException e) {
+            int statusCode = HttpClientProvider.getHttpStatusCode(
+                    String.join("/", directoryUrl, ApplicationConstants.VERSION_FILE),
+                    envVars,
+                    logger,
+                    scanParameters,
+                    preScanDeadline);
+            return (statusCode >= 200 && statusCode < 300);
+        } catch (IOException | RuntimeException e) {
             logger.warn(
                     ApplicationConstants.EXCEPTION_WHILE_CHECKING_VERSIONS_TXT_IS_AVAILABLE_OR_NOT_IN_THE_URL,
                     e.getMessage());
@@ -0,0 +1,80 @@
+package io.jenkins.plugins.security.scan.bridge;
+
+import hudson.Proc;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.util.SystemProperties;
+
+/**
+ * Waits for a started Bridge CLI process without holding a thread for it: the process is polled and the returned
+ * future completes with its exit code. Cancelling the future kills the process. Checking a process on an agent is a
+ * remoting call that may block, so the polls run on threads of their own instead of the shared Jenkins timer.
+ */
+public final class BridgeProcessWatcher {
+    private static final Logger LOGGER = Logger.getLogger(BridgeProcessWatcher.class.getName());
+
+    private static final long POLL_INTERVAL_IN_MILLIS = Math.max(
+            100L, SystemProperties.getLong(BridgeProcessWatcher.class.getName() + ".pollIntervalInMillis", 1000L));
+    private static final int POLLER_THREADS =
+            Math.max(1, SystemProperties.getInteger(BridgeProcessWatcher.class.getName() + ".pollerThreads", 4));
+
+    private static final ScheduledExecutorService POLLER = Executors.newScheduledThreadPool(
+            POLLER_THREADS,
+            new NamingThreadFactory(new DaemonThreadFactory(), BridgeProcessWatcher.class.getSimpleName()));
+
+    private BridgeProcessWatcher() {}
+
+    public static CompletableFuture<Integer> watch(Proc proc) {
+        return watch(proc, POLLER, POLL_INTERVAL_IN_MILLIS);
+    }
+
+    static CompletableFuture<Integer> watch(Proc proc, ScheduledExecutorService scheduler, long pollIntervalInMillis) {
+        CompletableFuture<Integer> exitCode = new CompletableFuture<>();
+
+        ScheduledFuture<?> poll = scheduler.scheduleWithFixedDelay(
+                () -> {
+                    try {
+                        if (!exitCode.isDone() && !proc.isAlive()) {
+                            exitCode.complete(proc.join());
+                        }
+                    } catch (InterruptedException e) {
+                        exitCode.completeExceptionally(e);
+                        Thread.currentThread().interrupt();
+                    } catch (IOException | RuntimeException e) {
+                        exitCode.completeExceptionally(e);
+                    }
+                },
+                0,
+                pollIntervalInMillis,
+                TimeUnit.MILLISECONDS);
+
+        exitCode.whenCompleteAsync(
+                (code, failure) -> {
+                    poll.cancel(false);
+                    if (exitCode.isCancelled()) {
+                        kill(proc);
+                    }
+                },
+                scheduler);
+
+        return exitCode;
+    }
+
+    private static void kill(Proc proc) {
+        try {
+            proc.kill();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Failed to kill the Bridge CLI process", e);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import io.jenkins.plugins.security.scan.extension.SecurityScan;
 import io.jenkins.plugins.security.scan.global.*;
 import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
 import io.jenkins.plugins.security.scan.service.ParameterMappingService;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -1178,10 +1179,10 @@ public class SecurityScanFreestyle extends Builder implements SecurityScan, Free
         this.srm_waitForScan = this.srm_waitForScan_actualValue = srm_waitForScan;
     }
 
-    private Map<String, Object> getParametersMap(FilePath workspace, TaskListener listener)
+    private Map<String, Object> getParametersMap(
+            FilePath workspace, TaskListener listener, ParameterDiagnostics diagnostics)
             throws PluginExceptionHandler {
-        return ParameterMappingService.preparePipelineParametersMap(
-                this, ParameterMappingService.getGlobalConfigurationValues(workspace, listener), listener);
+        return ParameterMappingService.prepareParametersMap(this, workspace, listener, diagnostics);
     }
 
     @Override
@@ -1196,17 +1197,19 @@ public class SecurityScanFreestyle extends Builder implements SecurityScan, Free
         Exception unknownException = new Exception();
         LoggerWrapper logger = new LoggerWrapper(listener);
         Map<String, Object> scanparametersMap = null;
+        ParameterDiagnostics diagnostics = new ParameterDiagnostics();
 
         logger.info(
                 "**************************** START EXECUTION OF BLACK DUCK SECURITY SCAN ****************************");
         try {
-            scanparametersMap = getParametersMap(workspace, listener);
-            SecurityScanner securityScanner = new SecurityScanner(run, listener, launcher, workspace, envVars);
-            ScanInitializer scanInitializer = new ScanInitializer(securityScanner, workspace, envVars, listener);
+            scanparametersMap = getParametersMap(workspace, listener, diagnostics);
+            JobContext jobContext = new JobContext(listener, envVars);
+            SecurityScanner securityScanner = new SecurityScanner(run, listener, launcher, workspace, jobContext);
+            ScanInitializer scanInitializer = new ScanInitializer(securityScanner, workspace, jobContext, listener);
 
             Map<String, Object> scanParamMapExp = handleScanParametersEnvVarsResolution(scanparametersMap, envVars);
 
-            exitCode = scanInitializer.initializeScanner(scanParamMapExp);
+            exitCode = scanInitializer.initializeScanner(scanParamMapExp, diagnostics);
         } catch (Exception e) {
             if (e instanceof PluginExceptionHandler) {
                 exitCode = ((PluginExceptionHandler) e).getCode();
@@ -1254,6 +1257,11 @@ public class SecurityScanFreestyle extends Builder implements SecurityScan, Free
         if (exitCode == ErrorCode.SCAN_SUCCESSFUL) {
             logger.info(
                     "**************************** END EXECUTION OF BLACK DUCK SECURITY SCAN ****************************");
+        } else if (exitCode == ErrorCode.PRODUCT_SERVER_UNAVAILABLE_SCAN_SKIPPED) {
+            logger.warn("Marking build as " + Result.UNSTABLE + " since the scan was skipped");
+            run.setResult(Result.UNSTABLE);
+            logger.info(
+                    "**************************** END EXECUTION OF BLACK DUCK SECURITY SCAN ****************************");
         } else {
             Result result = ParameterMappingService.getBuildResultIfIssuesAreFound(
                     exitCode, this.getMark_build_status(), logger);
@@ -1,17 +1,22 @@
 package io.jenkins.plugins.security.scan.extension.global;
 
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+import io.jenkins.plugins.security.scan.global.HttpClientProvider;
+import io.jenkins.plugins.security.scan.global.ProductCircuitBreaker;
 import io.jenkins.plugins.security.scan.global.ScanCredentialsHelper;
+import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.codec.binary.Base64;
-import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.config.RequestConfig;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.util.Timeout;
 
 public class AuthenticationSupport {
@@ -19,6 +24,89 @@ public class AuthenticationSupport {
 
     public final HttpResponse attemptBlackDuckSCAAuthentication(
             String blackDuckSCAUrl, String blackDuckSCACredentialsId, int timeoutInSeconds) {
+        return executeProbe(
+                blackDuckSCAUrl,
+                createBlackDuckSCAAuthenticationRequest(blackDuckSCAUrl, blackDuckSCACredentialsId),
+                timeoutInSeconds,
+                HttpClientContext.create());
+    }
+
+    public final HttpResponse attemptPolarisAuthentication(
+            String polarisServerUrl, String polarisCredentialsId, int timeoutInSeconds) {
+        return executeProbe(
+                polarisServerUrl,
+                createPolarisAuthenticationRequest(polarisServerUrl, polarisCredentialsId),
+                timeoutInSeconds,
+                HttpClientContext.create());
+    }
+
+    public final HttpResponse attemptCoverityAuthentication(
+            String coverityConnectUrl, String coverityCredentialsId, int timeoutInSeconds) {
+        return executeProbe(
+                coverityConnectUrl,
+                createCoverityAuthenticationRequest(coverityConnectUrl, coverityCredentialsId),
+                timeoutInSeconds,
+                HttpClientContext.create());
+    }
+
+    public final HttpResponse attemptSrmAuthentication(String srmUrl, String srmCredentialsId, int timeoutInSeconds) {
+        return executeProbe(
+                srmUrl,
+                createSrmAuthenticationRequest(srmUrl, srmCredentialsId),
+                timeoutInSeconds,
+                HttpClientContext.create());
+    }
+
+    /**
+     * Runs the authentication request of the given product and reports status, total latency and, when a new TLS
+     * connection had to be opened, the handshake time. Failures are returned in the result instead of thrown so
+     * that several targets can be tested side by side.
+     */
+    public ConnectionTestResult testConnection(
+            SecurityProduct securityProduct, String productUrl, String credentialsId, int timeoutInSeconds) {
+        HttpClientContext context = HttpClientContext.create();
+        long startNanos = System.nanoTime();
+        try {
+            HttpResponse response = executeProbe(
+                    productUrl,
+                    createAuthenticationRequest(securityProduct, productUrl, credentialsId),
+                    timeoutInSeconds,
+                    context);
+            return new ConnectionTestResult(
+                    securityProduct.getProductLabel(),
+                    productUrl,
+                    response.getCode(),
+                    elapsedMillis(startNanos),
+                    getTlsHandshakeMillis(context),
+                    null);
+        } catch (RuntimeException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return new ConnectionTestResult(
+                    securityProduct.getProductLabel(),
+                    productUrl,
+                    ConnectionTestResult.NO_STATUS_CODE,
+                    elapsedMillis(startNanos),
+                    getTlsHandshakeMillis(context),
+                    String.valueOf(cause.getMessage()));
+        }
+    }
+
+    private HttpUriRequest createAuthenticationRequest(
+            SecurityProduct securityProduct, String productUrl, String credentialsId) {
+        switch (securityProduct) {
+            case COVERITY:
+                return createCoverityAuthenticationRequest(productUrl, credentialsId);
+            case POLARIS:
+                return createPolarisAuthenticationRequest(productUrl, credentialsId);
+            case SRM:
+                return createSrmAuthenticationRequest(productUrl, credentialsId);
+            default:
+                return createBlackDuckSCAAuthenticationRequest(productUrl, credentialsId);
+        }
+    }
+
+    private HttpUriRequest createBlackDuckSCAAuthenticationRequest(
+            String blackDuckSCAUrl, String blackDuckSCACredentialsId) {
         String blackDuckSCAAuthApi = blackDuckSCAUrl.endsWith("/")
                 ? blackDuckSCAUrl.concat(ApplicationConstants.BLACKDUCKSCA_AUTH_API)
                 : blackDuckSCAUrl.concat("/").concat(ApplicationConstants.BLACKDUCKSCA_AUTH_API);
@@ -29,11 +117,10 @@ public class AuthenticationSupport {
         HttpPost httpPost = new HttpPost(blackDuckSCAAuthApi);
         httpPost.setHeader(ApplicationConstants.AUTHORIZATION_HEADER_NAME, "token " + blackDuckSCAApiToken);
 
-        return executeRequest(httpPost, timeoutInSeconds);
+        return httpPost;
     }
 
-    public final HttpResponse attemptPolarisAuthentication(
-            String polarisServerUrl, String polarisCredentialsId, int timeoutInSeconds) {
+    private HttpUriRequest createPolarisAuthenticationRequest(String polarisServerUrl, String polarisCredentialsId) {
         String polarisAuthApi = polarisServerUrl.endsWith("/")
                 ? polarisServerUrl.concat(ApplicationConstants.POLARIS_PORTFOLIO_API)
                 : polarisServerUrl.concat("/").concat(ApplicationConstants.POLARIS_PORTFOLIO_API);
@@ -44,11 +131,11 @@ public class AuthenticationSupport {
         HttpGet httpGet = new HttpGet(polarisAuthApi);
         httpGet.setHeader("Api-token", polarisAccessToken);
 
-        return executeRequest(httpGet, timeoutInSeconds);
+        return httpGet;
     }
 
-    public final HttpResponse attemptCoverityAuthentication(
-            String coverityConnectUrl, String coverityCredentialsId, int timeoutInSeconds) {
+    private HttpUriRequest createCoverityAuthenticationRequest(
+            String coverityConnectUrl, String coverityCredentialsId) {
         String coverityAuthApi = coverityConnectUrl.endsWith("/")
                 ? coverityConnectUrl.concat(ApplicationConstants.COVERITY_LOCALES_API)
                 : coverityConnectUrl.concat("/").concat(ApplicationConstants.COVERITY_LOCALES_API);
@@ -67,10 +154,10 @@ public class AuthenticationSupport {
             httpGet.setHeader(ApplicationConstants.AUTHORIZATION_HEADER_NAME, "Basic " + encodedAuth);
         }
 
-        return executeRequest(httpGet, timeoutInSeconds);
+        return httpGet;
     }
 
-    public final HttpResponse attemptSrmAuthentication(String srmUrl, String srmCredentialsId, int timeoutInSeconds) {
+    private HttpUriRequest createSrmAuthenticationRequest(String srmUrl, String srmCredentialsId) {
         String srmAuthApi = srmUrl.endsWith("/")
                 ? srmUrl.concat(ApplicationConstants.SRM_SYSTEM_INFO_API)
                 : srmUrl.concat("/").concat(ApplicationConstants.SRM_SYSTEM_INFO_API);
@@ -81,15 +168,48 @@ public class AuthenticationSupport {
         HttpGet httpGet = new HttpGet(srmAuthApi);
         httpGet.setHeader("API-Key", srmApiKey);
 
-        return executeRequest(httpGet, timeoutInSeconds);
+        return httpGet;
+    }
+
+    private HttpResponse executeProbe(
+            String productUrl, HttpUriRequest httpUriRequest, int timeoutInSeconds, HttpClientContext context) {
+        ProductCircuitBreaker circuitBreaker = ProductCircuitBreaker.getInstance();
+        try {
+            context.setRequestConfig(getRequestConfig(timeoutInSeconds));
+            HttpResponse response = execute(httpUriRequest, context);
+            if (response.getCode() < HttpStatus.SC_SERVER_ERROR) {
+                circuitBreaker.recordSuccess(productUrl);
+            } else {
+                circuitBreaker.recordFailure(productUrl);
+            }
+            return response;
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure(productUrl);
+            throw e;
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static long getTlsHandshakeMillis(HttpClientContext context) {
+        Object handshakeNanos = context.getAttribute(HttpClientProvider.TLS_HANDSHAKE_NANOS_ATTRIBUTE);
+        return handshakeNanos instanceof Long ? TimeUnit.NANOSECONDS.toMillis((Long) handshakeNanos) : -1;
     }
 
     public HttpResponse executeRequest(HttpUriRequest httpUriRequest, int timeoutInSeconds) {
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(getRequestConfig(timeoutInSeconds));
+        return execute(httpUriRequest, context);
+    }
+
+    private HttpResponse execute(HttpUriRequest httpUriRequest, HttpClientContext context) {
         try {
-            RequestConfig requestConfig = getRequestConfig(timeoutInSeconds);
-            HttpClient httpClient =
-                    HttpClients.custom().setDefaultRequestConfig(requestConfig).build();
-            return httpClient.execute(httpUriRequest);
+            return HttpClientProvider.getHttpClient().execute(httpUriRequest, context, response -> {
+                EntityUtils.consume(response.getEntity());
+                return response;
+            });
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,83 @@
+package io.jenkins.plugins.security.scan.extension.global;
+
+import java.net.HttpURLConnection;
+
+/**
+ * Outcome of a single connection test. The TLS handshake time is {@code -1} when no new TLS connection was
+ * opened, e.g. for plain HTTP targets or when a pooled connection was reused. A credentials lookup only checks that
+ * the credentials exist in Jenkins and does not contact any server.
+ */
+public class ConnectionTestResult {
+    public static final int NO_STATUS_CODE = -1;
+
+    private final String targetLabel;
+    private final String targetUrl;
+    private final int statusCode;
+    private final long latencyMillis;
+    private final long tlsHandshakeMillis;
+    private final String errorMessage;
+    private final boolean serverContacted;
+
+    ConnectionTestResult(
+            String targetLabel,
+            String targetUrl,
+            int statusCode,
+            long latencyMillis,
+            long tlsHandshakeMillis,
+            String errorMessage) {
+        this(targetLabel, targetUrl, statusCode, latencyMillis, tlsHandshakeMillis, errorMessage, true);
+    }
+
+    private ConnectionTestResult(
+            String targetLabel,
+            String targetUrl,
+            int statusCode,
+            long latencyMillis,
+            long tlsHandshakeMillis,
+            String errorMessage,
+            boolean serverContacted) {
+        this.targetLabel = targetLabel;
+        this.targetUrl = targetUrl;
+        this.statusCode = statusCode;
+        this.latencyMillis = latencyMillis;
+        this.tlsHandshakeMillis = tlsHandshakeMillis;
+        this.errorMessage = errorMessage;
+        this.serverContacted = serverContacted;
+    }
+
+    static ConnectionTestResult ofCredentialsLookup(String targetLabel, long latencyMillis, String errorMessage) {
+        return new ConnectionTestResult(targetLabel, null, NO_STATUS_CODE, latencyMillis, -1, errorMessage, false);
+    }
+
+    public String getTargetLabel() {
+        return targetLabel;
+    }
+
+    public String getTargetUrl() {
+        return targetUrl;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public long getTlsHandshakeMillis() {
+        return tlsHandshakeMillis;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public boolean isServerContacted() {
+        return serverContacted;
+    }
+
+    public boolean isSuccessful() {
+        return errorMessage == null && (statusCode == NO_STATUS_CODE || statusCode == HttpURLConnection.HTTP_OK);
+    }
+}
@@ -0,0 +1,99 @@
+package io.jenkins.plugins.security.scan.extension.global;
+
+import hudson.EnvVars;
+import hudson.Extension;
+import hudson.model.AsyncPeriodicWork;
+import hudson.model.TaskListener;
+import io.jenkins.plugins.security.scan.global.HttpClientProvider;
+import io.jenkins.plugins.security.scan.global.LoggerWrapper;
+import io.jenkins.plugins.security.scan.global.PreScanDeadline;
+import io.jenkins.plugins.security.scan.global.ProductCircuitBreaker;
+import io.jenkins.plugins.security.scan.global.ProductServerHealthRegistry;
+import io.jenkins.plugins.security.scan.global.Utility;
+import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jenkins.model.GlobalConfiguration;
+import jenkins.util.SystemProperties;
+import org.apache.hc.core5.http.HttpStatus;
+
+/**
+ * Samples the reachability of the configured product servers for the health table of the global configuration
+ * page. Off unless the {@code enabled} system property is set. The probe is an unauthenticated HEAD request to the
+ * server URL, so no credentials are sent in the background.
+ */
+@Extension
+public class ProductServerHealthMonitor extends AsyncPeriodicWork {
+    private static final int PROBE_TIMEOUT_IN_SECONDS = 30;
+    private static final long RECURRENCE_PERIOD_IN_MINUTES = SystemProperties.getLong(
+            ProductServerHealthMonitor.class.getName() + ".recurrencePeriodInMinutes", 5L);
+
+    public ProductServerHealthMonitor() {
+        super("Black Duck Security Scan product server health monitor");
+    }
+
+    public static boolean isEnabled() {
+        return SystemProperties.getBoolean(ProductServerHealthMonitor.class.getName() + ".enabled", false);
+    }
+
+    @Override
+    public long getRecurrencePeriod() {
+        return TimeUnit.MINUTES.toMillis(Math.max(1, RECURRENCE_PERIOD_IN_MINUTES));
+    }
+
+    @Override
+    protected void execute(TaskListener listener) {
+        if (!isEnabled()) {
+            return;
+        }
+        probeProductServers(GlobalConfiguration.all().get(ScannerGlobalConfig.class), listener);
+    }
+
+    void probeProductServers(ScannerGlobalConfig config, TaskListener listener) {
+        if (config == null) {
+            return;
+        }
+
+        ProductServerHealthRegistry registry = ProductServerHealthRegistry.getInstance();
+        ProductCircuitBreaker circuitBreaker = ProductCircuitBreaker.getInstance();
+        LoggerWrapper logger = new LoggerWrapper(listener);
+        List<String> configuredUrls = new ArrayList<>();
+
+        for (SecurityProduct securityProduct : SecurityProduct.values()) {
+            String productUrl = config.getProductServerUrl(securityProduct);
+            if (Utility.isStringNullOrBlank(productUrl)) {
+                continue;
+            }
+            configuredUrls.add(productUrl);
+
+            int statusCode = ConnectionTestResult.NO_STATUS_CODE;
+            long startNanos = System.nanoTime();
+            try {
+                statusCode = HttpClientProvider.getHttpStatusCode(
+                        productUrl,
+                        new EnvVars(),
+                        logger,
+                        Collections.emptyMap(),
+                        PreScanDeadline.ofMillis(TimeUnit.SECONDS.toMillis(PROBE_TIMEOUT_IN_SECONDS)));
+            } catch (IOException | RuntimeException e) {
+                listener.getLogger().println("Health probe for " + productUrl + " failed: " + e.getMessage());
+            }
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+            // only a connection failure or a 5xx answer means the server is unavailable
+            boolean available =
+                    statusCode != ConnectionTestResult.NO_STATUS_CODE && statusCode < HttpStatus.SC_SERVER_ERROR;
+            registry.record(securityProduct.getProductLabel(), productUrl, latencyMillis, statusCode, available);
+            if (available) {
+                circuitBreaker.recordSuccess(productUrl);
+            } else {
+                circuitBreaker.recordFailure(productUrl);
+            }
+        }
+
+        registry.retainOnly(configuredUrls);
+    }
+}
@@ -3,32 +3,51 @@ package io.jenkins.plugins.security.scan.extension.global;
 import com.cloudbees.plugins.credentials.CredentialsMatchers;
 import com.cloudbees.plugins.credentials.common.StandardListBoxModel;
 import com.cloudbees.plugins.credentials.impl.BaseStandardCredentials;
+import hudson.BulkChange;
 import hudson.Extension;
 import hudson.security.ACL;
+import hudson.util.DaemonThreadFactory;
 import hudson.util.FormValidation;
 import hudson.util.ListBoxModel;
+import hudson.util.NamingThreadFactory;
 import io.jenkins.plugins.security.scan.global.LogMessages;
+import io.jenkins.plugins.security.scan.global.ProductServerHealthRegistry;
 import io.jenkins.plugins.security.scan.global.ScanCredentialsHelper;
 import io.jenkins.plugins.security.scan.global.Utility;
+import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
+import java.io.IOException;
 import java.io.Serializable;
 import java.net.HttpURLConnection;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import jenkins.model.GlobalConfiguration;
 import jenkins.model.Jenkins;
+import net.sf.json.JSONObject;
 import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.impl.EnglishReasonPhraseCatalog;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
 import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.StaplerRequest2;
 import org.kohsuke.stapler.verb.POST;
 
 @Extension
 public class ScannerGlobalConfig extends GlobalConfiguration implements Serializable {
     private static final long serialVersionUID = -3129542889827231427L;
     private static final int CONNECTION_TIMEOUT_IN_SECONDS = 120;
+    // the connection request, connect and response timeouts of a single test can each run out in full
+    static final long CONNECTION_TESTS_TIMEOUT_IN_SECONDS = 3L * CONNECTION_TIMEOUT_IN_SECONDS + 5;
     private String AUTHORIZATION_FAILURE = "Could not perform the authorization request: ";
     private String CONNECTION_SUCCESSFUL = "Connection successful.";
 
@@ -61,6 +80,22 @@ public class ScannerGlobalConfig extends GlobalConfiguration implements Serializ
         load();
     }
 
+    /**
+     * Binds the submitted form inside a bulk change. The setters still call {@link #save()}, but those calls are
+     * deferred until the change is committed, so a submit writes the configuration file once instead of once per
+     * field. Configuration as Code applies its values the same way for {@link hudson.model.Saveable} instances.
+     */
+    @Override
+    public boolean configure(StaplerRequest2 req, JSONObject json) throws FormException {
+        try (BulkChange bulkChange = new BulkChange(this)) {
+            req.bindJSON(this, json);
+            bulkChange.commit();
+        } catch (IOException e) {
+            throw new FormException("Failed to save the security scan configuration", e, "");
+        }
+        return true;
+    }
+
     @DataBoundSetter
     public void setBlackDuckSCAUrl(String blackDuckSCAUrl) {
         this.blackDuckSCAUrl = blackDuckSCAUrl;
@@ -178,11 +213,13 @@ public class ScannerGlobalConfig extends GlobalConfiguration implements Serializ
     @DataBoundSetter
     public void setSrmSCAInstallationPath(String srmSCAInstallationPath) {
         this.srmSCAInstallationPath = srmSCAInstallationPath;
+        save();
     }
 
     @DataBoundSetter
     public void setSrmSASTInstallationPath(String srmSASTInstallationPath) {
         this.srmSASTInstallationPath = srmSASTInstallationPath;
+        save();
     }
 
     @DataBoundSetter
@@ -366,6 +403,46 @@ public class ScannerGlobalConfig extends GlobalConfiguration implements Serializ
         return getOptionsWithApiTokenCredentials();
     }
 
+    public String getProductServerUrl(SecurityProduct securityProduct) {
+        switch (securityProduct) {
+            case BLACKDUCKSCA:
+                return blackDuckSCAUrl;
+            case COVERITY:
+                return coverityConnectUrl;
+            case POLARIS:
+                return polarisServerUrl;
+            case SRM:
+                return srmUrl;
+            default:
+                return null;
+        }
+    }
+
+    public String getProductCredentialsId(SecurityProduct securityProduct) {
+        switch (securityProduct) {
+            case BLACKDUCKSCA:
+                return blackDuckSCACredentialsId;
+            case COVERITY:
+                return coverityCredentialsId;
+            case POLARIS:
+                return polarisCredentialsId;
+            case SRM:
+                return srmCredentialsId;
+            default:
+                return null;
+        }
+    }
+
+    public List<ProductServerHealthRegistry.Snapshot> getProductServerHealth() {
+        List<ProductServerHealthRegistry.Snapshot> productServerHealth = new ArrayList<>();
+        for (SecurityProduct securityProduct : SecurityProduct.values()) {
+            ProductServerHealthRegistry.getInstance()
+                    .getSnapshot(getProductServerUrl(securityProduct))
+                    .ifPresent(productServerHealth::add);
+        }
+        return productServerHealth;
+    }
+
     @POST
     public FormValidation doTestBlackDuckSCAConnection(
             @QueryParameter("blackDuckSCAUrl") String blackDuckSCAUrl,
@@ -516,6 +593,152 @@ public class ScannerGlobalConfig extends GlobalConfiguration implements Serializ
         return FormValidation.ok(CONNECTION_SUCCESSFUL);
     }
 
+    @POST
+    public FormValidation doTestAllConnections(
+            @QueryParameter("blackDuckSCAUrl") String blackDuckSCAUrl,
+            @QueryParameter("blackDuckSCACredentialsId") String blackDuckSCACredentialsId,
+            @QueryParameter("coverityConnectUrl") String coverityConnectUrl,
+            @QueryParameter("coverityCredentialsId") String coverityCredentialsId,
+            @QueryParameter("polarisServerUrl") String polarisServerUrl,
+            @QueryParameter("polarisCredentialsId") String polarisCredentialsId,
+            @QueryParameter("srmUrl") String srmUrl,
+            @QueryParameter("srmCredentialsId") String srmCredentialsId,
+            @QueryParameter("bitbucketCredentialsId") String bitbucketCredentialsId,
+            @QueryParameter("githubCredentialsId") String githubCredentialsId,
+            @QueryParameter("gitlabCredentialsId") String gitlabCredentialsId) {
+        Jenkins jenkins = Jenkins.getInstanceOrNull();
+        if (jenkins == null) {
+            return FormValidation.warning(LogMessages.JENKINS_INSTANCE_MISSING_WARNING);
+        }
+        jenkins.checkPermission(Jenkins.ADMINISTER);
+
+        AuthenticationSupport authenticationSupport = new AuthenticationSupport();
+        List<Callable<ConnectionTestResult>> connectionTests = new ArrayList<>();
+        addProductConnectionTest(
+                connectionTests,
+                authenticationSupport,
+                SecurityProduct.BLACKDUCKSCA,
+                blackDuckSCAUrl,
+                blackDuckSCACredentialsId);
+        addProductConnectionTest(
+                connectionTests,
+                authenticationSupport,
+                SecurityProduct.COVERITY,
+                coverityConnectUrl,
+                coverityCredentialsId);
+        addProductConnectionTest(
+                connectionTests,
+                authenticationSupport,
+                SecurityProduct.POLARIS,
+                polarisServerUrl,
+                polarisCredentialsId);
+        addProductConnectionTest(
+                connectionTests, authenticationSupport, SecurityProduct.SRM, srmUrl, srmCredentialsId);
+        addScmCredentialsTest(connectionTests, "Bitbucket", bitbucketCredentialsId);
+        addScmCredentialsTest(connectionTests, "GitHub", githubCredentialsId);
+        addScmCredentialsTest(connectionTests, "GitLab", gitlabCredentialsId);
+
+        if (connectionTests.isEmpty()) {
+            return FormValidation.warning("No product server or SCM credentials are configured");
+        }
+
+        return FormValidation.aggregate(runConnectionTests(connectionTests, CONNECTION_TESTS_TIMEOUT_IN_SECONDS));
+    }
+
+    private void addProductConnectionTest(
+            List<Callable<ConnectionTestResult>> connectionTests,
+            AuthenticationSupport authenticationSupport,
+            SecurityProduct securityProduct,
+            String productUrl,
+            String credentialsId) {
+        if (Utility.isStringNullOrBlank(productUrl) || Utility.isStringNullOrBlank(credentialsId)) {
+            return;
+        }
+        connectionTests.add(() -> authenticationSupport.testConnection(
+                securityProduct, productUrl, credentialsId, CONNECTION_TIMEOUT_IN_SECONDS));
+    }
+
+    private void addScmCredentialsTest(
+            List<Callable<ConnectionTestResult>> connectionTests, String scmLabel, String credentialsId) {
+        if (Utility.isStringNullOrBlank(credentialsId)) {
+            return;
+        }
+        connectionTests.add(() -> lookUpScmCredentials(scmLabel, credentialsId));
+    }
+
+    // the SCM servers are not contacted, the check only tells whether the configured credentials exist
+    static ConnectionTestResult lookUpScmCredentials(String scmLabel, String credentialsId) {
+        long startNanos = System.nanoTime();
+        ScanCredentialsHelper scanCredentialsHelper = new ScanCredentialsHelper();
+        boolean hasToken =
+                scanCredentialsHelper.getApiTokenByCredentialsId(credentialsId).isPresent();
+        boolean hasPassword =
+                scanCredentialsHelper.getPasswordByCredentialsId(credentialsId).isPresent();
+        return ConnectionTestResult.ofCredentialsLookup(
+                scmLabel + " credentials lookup",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                hasToken || hasPassword ? null : "Credentials '" + credentialsId + "' could not be found");
+    }
+
+    List<FormValidation> runConnectionTests(
+            List<Callable<ConnectionTestResult>> connectionTests, long timeoutInSeconds) {
+        List<FormValidation> validations = new ArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(
+                connectionTests.size(),
+                new NamingThreadFactory(new DaemonThreadFactory(), ScannerGlobalConfig.class.getSimpleName()));
+        try {
+            List<Future<ConnectionTestResult>> futures =
+                    executorService.invokeAll(connectionTests, timeoutInSeconds, TimeUnit.SECONDS);
+            for (Future<ConnectionTestResult> future : futures) {
+                validations.add(toFormValidation(future, timeoutInSeconds));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            validations.add(FormValidation.error("Connection tests were interrupted"));
+        } finally {
+            executorService.shutdownNow();
+        }
+        return validations;
+    }
+
+    private FormValidation toFormValidation(Future<ConnectionTestResult> future, long timeoutInSeconds)
+            throws InterruptedException {
+        ConnectionTestResult result;
+        try {
+            result = future.get();
+        } catch (CancellationException e) {
+            return FormValidation.error(
+                    "ERROR: Connection test did not finish within " + timeoutInSeconds + " seconds");
+        } catch (ExecutionException e) {
+            return FormValidation.error(AUTHORIZATION_FAILURE + e.getCause().getMessage());
+        }
+
+        String target = result.getTargetUrl() == null
+                ? result.getTargetLabel()
+                : result.getTargetLabel() + " (" + result.getTargetUrl() + ")";
+        StringBuilder timings = new StringBuilder(" [").append(result.getLatencyMillis()).append(" ms");
+        if (result.getTlsHandshakeMillis() >= 0) {
+            timings.append(", TLS handshake ")
+                    .append(result.getTlsHandshakeMillis())
+                    .append(" ms");
+        }
+        timings.append("]");
+
+        if (!result.isServerContacted()) {
+            return result.getErrorMessage() == null
+                    ? FormValidation.ok(target + ": Credentials found. The server was not contacted." + timings)
+                    : FormValidation.error(target + ": " + result.getErrorMessage() + timings);
+        }
+        if (result.getErrorMessage() != null) {
+            return FormValidation.error(target + ": " + AUTHORIZATION_FAILURE
+                    + getFormattedExceptionMessage(result.getErrorMessage()) + timings);
+        }
+        if (!result.isSuccessful()) {
+            return FormValidation.error(target + ": " + getValidationMessage(result.getStatusCode()) + timings);
+        }
+        return FormValidation.ok(target + ": " + CONNECTION_SUCCESSFUL + timings);
+    }
+
     private String getFormattedExceptionMessage(String message) {
         Pattern pattern = Pattern.compile("failed: (.*)");
         Matcher matcher = pattern.matcher(message);
@@ -7,8 +7,12 @@ import hudson.model.Node;
 import hudson.model.Result;
 import hudson.model.Run;
 import hudson.model.TaskListener;
+import hudson.security.ACL;
+import hudson.security.ACLContext;
+import hudson.util.DaemonThreadFactory;
 import hudson.util.ListBoxModel;
 import hudson.util.ListBoxModel.Option;
+import hudson.util.NamingThreadFactory;
 import io.jenkins.plugins.gitlabbranchsource.GitLabSCMSource;
 import io.jenkins.plugins.security.scan.ScanInitializer;
 import io.jenkins.plugins.security.scan.SecurityScanner;
@@ -16,26 +20,39 @@ import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
 import io.jenkins.plugins.security.scan.exception.ScannerException;
 import io.jenkins.plugins.security.scan.extension.SecurityScan;
 import io.jenkins.plugins.security.scan.global.*;
+import io.jenkins.plugins.security.scan.global.enums.BranchSourcePlugin;
 import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
 import io.jenkins.plugins.security.scan.service.ParameterMappingService;
-import io.jenkins.plugins.security.scan.service.scm.SCMRepositoryService;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import jenkins.model.Jenkins;
 import jenkins.scm.api.SCMSource;
+import jenkins.util.SystemProperties;
 import org.jenkinsci.plugins.github_branch_source.GitHubSCMSource;
 import org.jenkinsci.plugins.workflow.actions.WarningAction;
 import org.jenkinsci.plugins.workflow.graph.FlowNode;
 import org.jenkinsci.plugins.workflow.steps.*;
 import org.kohsuke.stapler.DataBoundConstructor;
 import org.kohsuke.stapler.DataBoundSetter;
+import org.springframework.security.core.Authentication;
 
 public class SecurityScanStep extends Step
         implements SecurityScan, PrCommentScan, FixPrScan, ReturnStatusScan, NetworkParams, Serializable {
     private static final long serialVersionUID = 6294070801130995534L;
 
+    private static final ExecutorService ASYNC_EXECUTION_EXECUTOR = Executors.newCachedThreadPool(
+            new NamingThreadFactory(new DaemonThreadFactory(), SecurityScanStep.class.getSimpleName()));
+
     private String product;
 
     private String blackducksca_url;
@@ -1360,14 +1377,127 @@ public class SecurityScanStep extends Step
             this.mark_build_status = Util.fixEmptyAndTrim(srm_mark_build_status);
     }
 
-    private Map<String, Object> getParametersMap(FilePath workspace, TaskListener listener)
+    private Map<String, Object> getParametersMap(
+            FilePath workspace, TaskListener listener, ParameterDiagnostics diagnostics)
+            throws PluginExceptionHandler {
+        return ParameterMappingService.prepareParametersMap(this, workspace, listener, diagnostics);
+    }
+
+    private int completeScan(
+            int exitCode, Exception failure, Run<?, ?> run, FlowNode flowNode, LoggerWrapper logger)
+            throws PluginExceptionHandler, ScannerException {
+        String undefinedErrorMessage = null;
+        Exception unknownException = new Exception();
+
+        if (failure instanceof PluginExceptionHandler) {
+            exitCode = ((PluginExceptionHandler) failure).getCode();
+        } else if (failure != null) {
+            exitCode = ErrorCode.UNDEFINED_PLUGIN_ERROR;
+            undefinedErrorMessage = failure.getMessage();
+            unknownException = failure;
+        }
+
+        String exitMessage = ExceptionMessages.getErrorMessage(exitCode, undefinedErrorMessage);
+        if (exitMessage != null) {
+            if (exitCode == 0) {
+                logger.info(exitMessage);
+            } else {
+                logger.error(exitMessage);
+            }
+        }
+
+        handleExitCode(exitCode, exitMessage, unknownException, run, flowNode, logger);
+
+        return exitCode;
+    }
+
+    private void handleExitCode(
+            int exitCode, String exitMessage, Exception e, Run<?, ?> run, FlowNode flowNode, LoggerWrapper logger)
+            throws PluginExceptionHandler, ScannerException {
+        if (exitCode != ErrorCode.BRIDGE_BUILD_BREAK && !Utility.isStringNullOrBlank(getMark_build_status())) {
+            logger.info("Marking build status as " + getMark_build_status() + " is ignored since exit code is: "
+                    + exitCode);
+        }
+
+        if (exitCode == ErrorCode.SCAN_SUCCESSFUL) {
+            logger.println(
+                    "**************************** END EXECUTION OF BLACK DUCK SECURITY SCAN ****************************");
+        } else if (exitCode == ErrorCode.PRODUCT_SERVER_UNAVAILABLE_SCAN_SKIPPED) {
+            logger.warn("Marking build as " + Result.UNSTABLE + " since the scan was skipped");
+            flowNode.addOrReplaceAction(new WarningAction(Result.UNSTABLE));
+            run.setResult(Result.UNSTABLE);
+            logger.println(
+                    "**************************** END EXECUTION OF BLACK DUCK SECURITY SCAN ****************************");
+        } else {
+            Result result =
+                    ParameterMappingService.getBuildResultIfIssuesAreFound(exitCode, getMark_build_status(), logger);
+            if (result != null) {
+                logger.info("Marking build as " + result + " since issues are present");
+                handleNonZeroExitCode(exitCode, result, exitMessage, e, run, flowNode, logger);
+            } else {
+                handleNonZeroExitCode(exitCode, Result.FAILURE, exitMessage, e, run, flowNode, logger);
+            }
+        }
+    }
+
+    private void handleNonZeroExitCode(
+            int exitCode,
+            Result result,
+            String exitMessage,
+            Exception e,
+            Run<?, ?> run,
+            FlowNode flowNode,
+            LoggerWrapper logger)
+            throws PluginExceptionHandler, ScannerException {
+        flowNode.addOrReplaceAction(new WarningAction(result)); // Setting the stage result
+        run.setResult(result); // Setting the build result
+
+        logger.println(
+                "**************************** END EXECUTION OF BLACK DUCK SECURITY SCAN ****************************");
+
+        if (Objects.equals(isReturn_status(), true)) {
+            return;
+        }
+
+        if (exitCode == ErrorCode.UNDEFINED_PLUGIN_ERROR) {
+            // Throw exception with stack trace for undefined errors
+            throw new ScannerException(exitMessage, e);
+        } else {
+            throw new PluginExceptionHandler(exitMessage);
+        }
+    }
+
+    private static void verifyRequiredBranchSourcePlugins(LoggerWrapper logger, JobContext jobContext)
             throws PluginExceptionHandler {
-        return ParameterMappingService.preparePipelineParametersMap(
-                this, ParameterMappingService.getGlobalConfigurationValues(workspace, listener), listener);
+        Set<BranchSourcePlugin> installedBranchSourcePlugins = jobContext.getInstalledBranchSourcePlugins();
+
+        if (jobContext.isMultibranchJob()) {
+            if (installedBranchSourcePlugins.isEmpty()) {
+                logger.error(ApplicationConstants.NECESSARY_BRANCH_SOURCE_PLUGIN_IS_NOT_INSTALLED);
+                throw new PluginExceptionHandler(ErrorCode.REQUIRED_BRANCH_SOURCE_PLUGIN_NOT_INSTALLED);
+            }
+            SCMSource scmSource = jobContext.getSCMSource();
+            if (!((installedBranchSourcePlugins.contains(BranchSourcePlugin.BITBUCKET)
+                            && scmSource instanceof BitbucketSCMSource)
+                    || (installedBranchSourcePlugins.contains(BranchSourcePlugin.GITHUB)
+                            && scmSource instanceof GitHubSCMSource)
+                    || (installedBranchSourcePlugins.contains(BranchSourcePlugin.GITLAB)
+                            && scmSource instanceof GitLabSCMSource))) {
+                logger.error(ApplicationConstants.NECESSARY_BRANCH_SOURCE_PLUGIN_IS_NOT_INSTALLED);
+                throw new PluginExceptionHandler(ErrorCode.REQUIRED_BRANCH_SOURCE_PLUGIN_NOT_INSTALLED);
+            }
+        }
+    }
+
+    private static boolean isAsyncExecutionEnabled() {
+        return SystemProperties.getBoolean(SecurityScanStep.class.getName() + ".asyncExecution", false);
     }
 
     @Override
     public StepExecution start(StepContext context) throws Exception {
+        if (isAsyncExecutionEnabled()) {
+            return new AsyncExecution(context);
+        }
         return new Execution(context);
     }
 
@@ -1476,111 +1606,184 @@ public class SecurityScanStep extends Step
         protected Integer run() throws PluginExceptionHandler, ScannerException {
             LoggerWrapper logger = new LoggerWrapper(listener);
             int exitCode = 0;
-            String undefinedErrorMessage = null;
-            Exception unknownException = new Exception();
+            Exception failure = null;
 
             logger.println(
                     "**************************** START EXECUTION OF BLACK DUCK SECURITY SCAN ****************************");
 
-            Map<String, Object> scanparametersMap = getParametersMap(workspace, listener);
+            ParameterDiagnostics diagnostics = new ParameterDiagnostics();
+            Map<String, Object> scanparametersMap = getParametersMap(workspace, listener, diagnostics);
 
             try {
-                verifyRequiredPlugins(logger, envVars);
+                JobContext jobContext = new JobContext(listener, envVars);
+                verifyRequiredPlugins(logger, jobContext);
 
-                SecurityScanner securityScanner = new SecurityScanner(run, listener, launcher, workspace, envVars);
-                ScanInitializer scanInitializer = new ScanInitializer(securityScanner, workspace, envVars, listener);
+                SecurityScanner securityScanner =
+                        new SecurityScanner(run, listener, launcher, workspace, jobContext);
+                ScanInitializer scanInitializer =
+                        new ScanInitializer(securityScanner, workspace, jobContext, listener);
 
-                exitCode = scanInitializer.initializeScanner(scanparametersMap);
+                exitCode = scanInitializer.initializeScanner(scanparametersMap, diagnostics);
             } catch (Exception e) {
-                if (e instanceof PluginExceptionHandler) {
-                    exitCode = ((PluginExceptionHandler) e).getCode();
-                } else {
-                    exitCode = ErrorCode.UNDEFINED_PLUGIN_ERROR;
-                    undefinedErrorMessage = e.getMessage();
-                    unknownException = e;
-                }
-            } finally {
-                String exitMessage = ExceptionMessages.getErrorMessage(exitCode, undefinedErrorMessage);
-                if (exitMessage != null) {
-                    if (exitCode == 0) {
-                        logger.info(exitMessage);
-                    } else {
-                        logger.error(exitMessage);
-                    }
-                }
-
-                handleExitCode(exitCode, exitMessage, unknownException, logger);
+                failure = e;
             }
 
-            return exitCode;
+            return completeScan(exitCode, failure, run, flowNode, logger);
+        }
+
+        public void verifyRequiredPlugins(LoggerWrapper logger, EnvVars envVars) throws PluginExceptionHandler {
+            verifyRequiredPlugins(logger, new JobContext(listener, envVars));
+        }
+
+        public void verifyRequiredPlugins(LoggerWrapper logger, JobContext jobContext) throws PluginExceptionHandler {
+            verifyRequiredBranchSourcePlugins(logger, jobContext);
         }
+    }
 
-        private void handleExitCode(int exitCode, String exitMessage, Exception e, LoggerWrapper logger)
-                throws PluginExceptionHandler, ScannerException {
-            if (exitCode != ErrorCode.BRIDGE_BUILD_BREAK && !Utility.isStringNullOrBlank(getMark_build_status())) {
-                logger.info("Marking build status as " + getMark_build_status() + " is ignored since exit code is: "
-                        + exitCode);
+    /**
+     * Runs the scan without keeping a step thread busy while Bridge CLI is running. Parameters are prepared on a
+     * thread of the plugin under the authentication of the build, Bridge CLI is started and watched by
+     * {@code BridgeProcessWatcher}, and the step completes from the callback on its exit code. Stopping the step kills
+     * Bridge CLI and completes the step once its results have been cleaned up. The execution cannot be resumed after
+     * a controller restart.
+     */
+    public class AsyncExecution extends StepExecution {
+        private static final long serialVersionUID = 4871236650947215093L;
+        private final transient Run<?, ?> run;
+        private final transient Launcher launcher;
+        private final transient FlowNode flowNode;
+
+        @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
+        private final transient TaskListener listener;
+
+        @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
+        private final transient EnvVars envVars;
+
+        @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
+        private final transient FilePath workspace;
+
+        @SuppressFBWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
+        private final transient AtomicBoolean preScanStarted = new AtomicBoolean();
+
+        private transient volatile Authentication authentication;
+        private transient volatile Future<?> preScan;
+        private transient volatile SecurityScanner securityScanner;
+        private transient volatile Throwable stopCause;
+
+        protected AsyncExecution(@Nonnull StepContext context) throws InterruptedException, IOException {
+            super(context);
+            run = context.get(Run.class);
+            listener = context.get(TaskListener.class);
+            envVars = context.get(EnvVars.class);
+            workspace = context.get(FilePath.class);
+            launcher = context.get(Launcher.class);
+            flowNode = context.get(FlowNode.class);
+        }
+
+        @Override
+        public boolean start() {
+            authentication = Jenkins.getAuthentication2();
+            preScan = ASYNC_EXECUTION_EXECUTOR.submit(() -> runAsBuildUser(this::startScan));
+            return false;
+        }
+
+        @Override
+        public void stop(@Nonnull Throwable cause) throws Exception {
+            stopCause = cause;
+
+            if (preScanStarted.compareAndSet(false, true)) {
+                // the scan never started, so there is nothing to clean up
+                getContext().onFailure(cause);
+                return;
             }
 
-            if (exitCode == ErrorCode.SCAN_SUCCESSFUL) {
-                logger.println(
-                        "**************************** END EXECUTION OF BLACK DUCK SECURITY SCAN ****************************");
-            } else {
-                Result result = ParameterMappingService.getBuildResultIfIssuesAreFound(
-                        exitCode, getMark_build_status(), logger);
-                if (result != null) {
-                    logger.info("Marking build as " + result + " since issues are present");
-                    handleNonZeroExitCode(exitCode, result, exitMessage, e, logger);
-                } else {
-                    handleNonZeroExitCode(exitCode, Result.FAILURE, exitMessage, e, logger);
-                }
+            Future<?> currentPreScan = preScan;
+            if (currentPreScan != null) {
+                currentPreScan.cancel(true);
             }
+            SecurityScanner currentScanner = securityScanner;
+            if (currentScanner != null) {
+                currentScanner.stopScanner();
+            }
+            // onScanCompleted completes the step once the scan has finished its cleanup
         }
 
-        private void handleNonZeroExitCode(
-                int exitCode, Result result, String exitMessage, Exception e, LoggerWrapper logger)
-                throws PluginExceptionHandler, ScannerException {
-            flowNode.addOrReplaceAction(new WarningAction(result)); // Setting the stage result
-            run.setResult(result); // Setting the build result
+        @Override
+        public void onResume() {
+            getContext().onFailure(new PluginExceptionHandler(ApplicationConstants.ASYNC_SCAN_CANNOT_BE_RESUMED));
+        }
+
+        private void runAsBuildUser(Runnable task) {
+            try (ACLContext ignored = ACL.as2(authentication)) {
+                task.run();
+            }
+        }
+
+        private void executeAsBuildUser(Runnable task) {
+            ASYNC_EXECUTION_EXECUTOR.execute(() -> runAsBuildUser(task));
+        }
+
+        private void startScan() {
+            if (!preScanStarted.compareAndSet(false, true)) {
+                return;
+            }
+
+            LoggerWrapper logger = new LoggerWrapper(listener);
 
             logger.println(
-                    "**************************** END EXECUTION OF BLACK DUCK SECURITY SCAN ****************************");
+                    "**************************** START EXECUTION OF BLACK DUCK SECURITY SCAN ****************************");
 
-            if (Objects.equals(isReturn_status(), true)) {
+            ParameterDiagnostics diagnostics = new ParameterDiagnostics();
+            Map<String, Object> scanparametersMap;
+            try {
+                scanparametersMap = getParametersMap(workspace, listener, diagnostics);
+            } catch (PluginExceptionHandler | RuntimeException e) {
+                Throwable currentStopCause = stopCause;
+                getContext().onFailure(currentStopCause != null ? currentStopCause : e);
                 return;
             }
 
-            if (exitCode == ErrorCode.UNDEFINED_PLUGIN_ERROR) {
-                // Throw exception with stack trace for undefined errors
-                throw new ScannerException(exitMessage, e);
-            } else {
-                throw new PluginExceptionHandler(exitMessage);
+            CompletableFuture<Integer> scan;
+            try {
+                JobContext jobContext = new JobContext(listener, envVars);
+                verifyRequiredBranchSourcePlugins(logger, jobContext);
+
+                securityScanner = new SecurityScanner(run, listener, launcher, workspace, jobContext);
+                if (stopCause != null) {
+                    securityScanner.stopScanner();
+                }
+                ScanInitializer scanInitializer =
+                        new ScanInitializer(securityScanner, workspace, jobContext, listener);
+
+                scan = scanInitializer.initializeScannerAsync(
+                        scanparametersMap, diagnostics, this::executeAsBuildUser);
+            } catch (Exception e) {
+                scan = CompletableFuture.failedFuture(e);
             }
+
+            scan.whenCompleteAsync(
+                    (exitCode, failure) -> onScanCompleted(exitCode, failure, logger), this::executeAsBuildUser);
         }
 
-        public void verifyRequiredPlugins(LoggerWrapper logger, EnvVars envVars) throws PluginExceptionHandler {
-            String jobType = Utility.jenkinsJobType(envVars);
-            SCMRepositoryService scmRepositoryService = new SCMRepositoryService(listener, envVars);
-            Map<String, Boolean> installedBranchSourceDependencies = Utility.installedBranchSourceDependencies();
-
-            if (jobType.equalsIgnoreCase(ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME)) {
-                if (installedBranchSourceDependencies.isEmpty()) {
-                    logger.error(ApplicationConstants.NECESSARY_BRANCH_SOURCE_PLUGIN_IS_NOT_INSTALLED);
-                    throw new PluginExceptionHandler(ErrorCode.REQUIRED_BRANCH_SOURCE_PLUGIN_NOT_INSTALLED);
-                }
-                SCMSource scmSource = scmRepositoryService.findSCMSource();
-                if (!((installedBranchSourceDependencies.getOrDefault(
-                                        ApplicationConstants.BITBUCKET_BRANCH_SOURCE_PLUGIN_NAME, false)
-                                && scmSource instanceof BitbucketSCMSource)
-                        || (installedBranchSourceDependencies.getOrDefault(
-                                        ApplicationConstants.GITHUB_BRANCH_SOURCE_PLUGIN_NAME, false)
-                                && scmSource instanceof GitHubSCMSource)
-                        || (installedBranchSourceDependencies.getOrDefault(
-                                        ApplicationConstants.GITLAB_BRANCH_SOURCE_PLUGIN_NAME, false)
-                                && scmSource instanceof GitLabSCMSource))) {
-                    logger.error(ApplicationConstants.NECESSARY_BRANCH_SOURCE_PLUGIN_IS_NOT_INSTALLED);
-                    throw new PluginExceptionHandler(ErrorCode.REQUIRED_BRANCH_SOURCE_PLUGIN_NOT_INSTALLED);
-                }
+        private void onScanCompleted(Integer exitCode, Throwable failure, LoggerWrapper logger) {
+            Throwable currentStopCause = stopCause;
+            if (currentStopCause != null) {
+                getContext().onFailure(currentStopCause);
+                return;
+            }
+
+            Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+            if (cause != null && !(cause instanceof Exception)) {
+                getContext().onFailure(cause);
+                return;
+            }
+
+            try {
+                getContext()
+                        .onSuccess(completeScan(
+                                exitCode != null ? exitCode : 0, (Exception) cause, run, flowNode, logger));
+            } catch (Exception e) {
+                getContext().onFailure(e);
             }
         }
     }
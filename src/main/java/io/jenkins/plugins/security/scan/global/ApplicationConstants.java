@@ -26,12 +26,17 @@ public class ApplicationConstants {
     public static final String SARIF_REPORT_FILENAME = "report.sarif.json";
     public static final int BRIDGE_DOWNLOAD_MAX_RETRIES = 3;
     public static final int INTERVAL_BETWEEN_CONSECUTIVE_RETRY_ATTEMPTS = 10000;
+    public static final long DEFAULT_PRE_SCAN_TIMEOUT_IN_MINUTES = 0;
+    public static final long MAX_PRE_SCAN_TIMEOUT_IN_MINUTES = 7L * 24 * 60;
+    public static final int MAX_NETWORK_CONNECT_TIMEOUT_IN_SECONDS = 120;
+    public static final int PRODUCT_SERVER_PROBE_TIMEOUT_IN_SECONDS = 10;
     public static final String ALL_FILES_WILDCARD_SYMBOL = "**";
     public static final String BRIDGE_CLI_EXECUTABLE = "bridge-cli";
     public static final String BRIDGE_CLI_EXECUTABLE_WINDOWS = "bridge-cli.exe";
     public static final String VERSION_FILE = "versions.txt";
     public static final String NOT_AVAILABLE = "NA";
     public static final String SCAN_INFO_OUT_FILE_NAME = ".bridge/output/scan_info_out.json";
+    public static final String PRODUCT_SCAN_INFO_OUT_FILE_NAME = ".bridge/output/%s/scan_info_out.json";
     public static final String BLACK_DUCK_LOGO_FILE_NAME = "/plugin/blackduck-security-scan/icons/blackduck.png";
     public static final String BRIDGE_VERSION_EXTRACTION_REGEX = "[0-9.]+[a-zA-Z0-9]*";
 
@@ -224,10 +229,9 @@ public class ApplicationConstants {
             "Failed to create json file in workspace parent path";
     public static final String WRITING_INTO_JSON_FILE_EXCEPTION =
             "An exception occurred while writing into json file: %s";
+    public static final String BRIDGE_INPUT_JSON_WRITTEN = "Bridge CLI input file %s written (sha256: %s)";
     public static final String CREATING_INPUT_JSON_FILE_EXCEPTION =
             "An exception occurred while creating input.json file: %s";
-    public static final String HTTP_URL_CONNECTION_EXCEPTION =
-            "An exception occurred while getting HttpURLConnection: %s";
     public static final String DELETING_FILE_EXCEPTION = "An exception occurred while deleting file: %s";
     public static final String FETCHING_OS_ARCHITECTURE_INFORMATION_FOR_THE_AGENT_NODE_EXCEPTION =
             "An exception occurred while fetching the OS architecture information for the agent node: %s";
@@ -255,14 +259,35 @@ public class ApplicationConstants {
             "Bridge CLI executable file could not be found at %s";
     public static final String EXCEPTION_WHILE_INVOKING_BRIDGE_CLI =
             "An exception occurred while invoking bridge-cli from the plugin: %s";
+    public static final String CONCURRENT_BRIDGE_CLI_EXECUTION =
+            "Running one Bridge CLI process per product for %s, at most %d at a time";
+    public static final String CONCURRENT_BRIDGE_CLI_EXECUTION_NOT_SUPPORTED =
+            "Running the products one after another, as SARIF reports and diagnostics are only collected for a single "
+                    + "Bridge CLI process";
+    public static final String ASYNC_SCAN_CANNOT_BE_RESUMED =
+            "Black Duck Security Scan was running asynchronously and cannot be resumed after a Jenkins restart";
     public static final String INTERRUPTED_WHILE_WAITING_TO_RETRY_BRIDGE_CLI_DOWNLOAD =
             "Interrupted while waiting to retry Bridge CLI download";
+    public static final String INTERRUPTED_WHILE_WAITING_FOR_SCM_REPOSITORY_DETAILS =
+            "Interrupted while waiting for the SCM repository details";
     public static final String EXCEPTION_WHILE_CHECKING_THE_HTTP_STATUS_CODE =
             "An exception occurred while checking the http status code: %s";
     public static final String EXCEPTION_WHILE_CHECKING_BRIDGE_URL_EXISTS_OR_NOT =
             "An exception occurred while checking bridge url exists or not: %s";
     public static final String EXCEPTION_WHILE_CHECKING_IF_THE_BRIDGE_IS_INSTALLED =
             "An exception occurred while checking if the bridge is installed: %s";
+    public static final String PRE_SCAN_DEADLINE_EXCEEDED_WHILE_DOWNLOADING_BRIDGE_CLI =
+            "Pre-scan time budget of %s minute(s) exhausted while downloading Bridge CLI from: %s";
+    public static final String PRODUCT_SERVER_CIRCUIT_OPEN =
+            "%s is marked unavailable after repeated failures. Next probe in %s second(s)";
+    public static final String PRODUCT_SERVER_BEING_PROBED =
+            "%s is marked unavailable after repeated failures and another build is probing it right now";
+    public static final String PRODUCT_SERVER_CIRCUIT_OPEN_AND_SCAN_SKIPPED =
+            "Skipping the scan since %s is marked unavailable after repeated failures. Next probe in %s second(s)";
+    public static final String PRODUCT_SERVER_BEING_PROBED_AND_SCAN_SKIPPED =
+            "Skipping the scan since %s is marked unavailable and another build is probing it right now";
+    public static final String PRE_SCAN_DEADLINE_EXCEEDED_BEFORE_REQUEST =
+            "Pre-scan time budget exhausted before requesting: %s";
 
     // Warn Log Related Constants
     public static final String BRIDGE_CLI_WILL_BE_DOWNLOADED_FROM_THE_PROVIDED_CUSTOM_URL =
@@ -273,6 +298,12 @@ public class ApplicationConstants {
             "An exception occurred in between consecutive retry attempts: %s";
     public static final String BRIDGE_CLI_DOWNLOAD_FAILED_AND_ATTEMPT_TO_DOWNLOAD_AGAIN =
             "Bridge CLI download failed and attempt#%s to download again.";
+    public static final String PRODUCT_SERVER_HEALTH_DEGRADED =
+            "%s looks degraded: %s availability over the last %s health check(s), p95 latency %s ms, last status %s";
+    public static final String PRODUCT_SERVER_UNREACHABLE_AFTER_FAILED_SCAN =
+            "%s could not be reached after the scan failed, counting it as a connection failure";
+    public static final String PRE_SCAN_DEADLINE_EXCEEDED_USING_INSTALLED_BRIDGE_CLI =
+            "Pre-scan time budget of %s minute(s) exhausted, continuing with the Bridge CLI installed in: %s";
     public static final String EXCEPTION_WHILE_DELETING_BRIDGE_CLI_ZIP_FILE =
             "An exception occurred while deleting Bridge CLI Bundle zip file: %s";
     public static final String EMPTY_BRIDGE_CLI_URL = "Provided Bridge CLI URL cannot be empty";
@@ -311,6 +342,9 @@ public class ApplicationConstants {
     public static final String COVERITY_INPUT_JSON_PREFIX = "coverity_input";
     public static final String POLARIS_INPUT_JSON_PREFIX = "polaris_input";
     public static final String SRM_INPUT_JSON_PREFIX = "srm_input";
+    public static final String COMBINED_INPUT_JSON_PREFIX = "bridge_input";
+    public static final String COMBINED_INPUT_JSON_NOT_POSSIBLE =
+            "The selected products use different project settings, writing one Bridge CLI input file per product";
 
     public static final String HTTPS_PROXY = "HTTPS_PROXY";
     public static final String HTTP_PROXY = "HTTP_PROXY";
@@ -0,0 +1,337 @@
+package io.jenkins.plugins.security.scan.global;
+
+import hudson.EnvVars;
+import hudson.model.TaskListener;
+import java.net.InetAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Proxy route decision compiled once per distinct {@code NO_PROXY}/{@code HTTPS_PROXY}/{@code HTTP_PROXY}
+ * combination. Host entries of {@code NO_PROXY} are kept in a reversed-label suffix trie and IP/CIDR entries in a
+ * list of address ranges, so a lookup costs one walk over the host labels instead of a scan of the raw list.
+ * A host entry, with or without a leading {@code .} or {@code *.}, matches that host and its subdomains, and entries
+ * are compared with the host of the request only. Only the HTTP requests made by the plugin on the controller go
+ * through it; Bridge CLI on the agent reads the proxy variables itself.
+ */
+public class CompiledProxySelector {
+    private static final int MAX_CACHED_SELECTORS = 32;
+    private static final Pattern IPV4_PATTERN = Pattern.compile("^\\d{1,3}(\\.\\d{1,3}){3}$");
+
+    private static final Map<ProxyEnvironment, CompiledProxySelector> SELECTORS =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ProxyEnvironment, CompiledProxySelector> eldest) {
+                    return size() > MAX_CACHED_SELECTORS;
+                }
+            };
+
+    private final String noProxy;
+    private final String proxy;
+    private final String maskedProxy;
+    private final String proxyType;
+    private final boolean bypassAll;
+    private final HostSuffixTrie hostSuffixTrie = new HostSuffixTrie();
+    private final List<CidrRange> cidrRanges = new ArrayList<>();
+    // hosts whose route was already logged, per build listener so that every build shows its own routes
+    private final Map<TaskListener, Set<String>> loggedHostsByListener =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private CompiledProxySelector(ProxyEnvironment proxyEnvironment) {
+        this.noProxy = proxyEnvironment.noProxy;
+
+        if (!Utility.isStringNullOrBlank(proxyEnvironment.httpsProxy)) {
+            this.proxy = proxyEnvironment.httpsProxy;
+            this.proxyType = ApplicationConstants.HTTPS_PROXY;
+        } else if (!Utility.isStringNullOrBlank(proxyEnvironment.httpProxy)) {
+            this.proxy = proxyEnvironment.httpProxy;
+            this.proxyType = ApplicationConstants.HTTP_PROXY;
+        } else {
+            this.proxy = ApplicationConstants.NO_PROXY;
+            this.proxyType = null;
+        }
+        this.maskedProxy = proxyType != null ? maskProxyUrl(proxy) : null;
+
+        boolean matchAll = false;
+        if (!Utility.isStringNullOrBlank(noProxy)) {
+            for (String entry : noProxy.split(",")) {
+                matchAll |= compileEntry(entry);
+            }
+        }
+        this.bypassAll = matchAll;
+    }
+
+    public static CompiledProxySelector forEnvironment(EnvVars envVars) {
+        ProxyEnvironment proxyEnvironment = new ProxyEnvironment(
+                Utility.getEnvOrSystemProxyDetails(ApplicationConstants.NO_PROXY, envVars),
+                Utility.getEnvOrSystemProxyDetails(ApplicationConstants.HTTPS_PROXY, envVars),
+                Utility.getEnvOrSystemProxyDetails(ApplicationConstants.HTTP_PROXY, envVars));
+
+        synchronized (SELECTORS) {
+            return SELECTORS.computeIfAbsent(proxyEnvironment, CompiledProxySelector::new);
+        }
+    }
+
+    public String select(URL url, LoggerWrapper logger) {
+        String host = normalizeHost(url.getHost());
+        boolean bypassProxy = bypassAll || hostSuffixTrie.matches(host) || matchesCidr(host);
+        String route = bypassProxy ? ApplicationConstants.NO_PROXY : proxy;
+
+        Set<String> loggedHosts =
+                loggedHostsByListener.computeIfAbsent(logger.getListener(), listener -> ConcurrentHashMap.newKeySet());
+        if (loggedHosts.add(host)) {
+            if (!Utility.isStringNullOrBlank(noProxy)) {
+                logger.info("Found NO_PROXY configuration - " + noProxy);
+            }
+            if (!bypassProxy && proxyType != null) {
+                logger.info("Found " + proxyType + " configuration - " + maskedProxy);
+            }
+        }
+
+        return route;
+    }
+
+    public String getProxy() {
+        return proxy;
+    }
+
+    static void clearCache() {
+        synchronized (SELECTORS) {
+            SELECTORS.clear();
+        }
+    }
+
+    static int cachedSelectorCount() {
+        synchronized (SELECTORS) {
+            return SELECTORS.size();
+        }
+    }
+
+    private boolean compileEntry(String rawEntry) {
+        String entry = rawEntry.trim().toLowerCase(Locale.ROOT);
+        if (entry.isEmpty()) {
+            return false;
+        }
+        if (entry.equals("*")) {
+            return true;
+        }
+
+        int schemeSeparator = entry.indexOf("://");
+        if (schemeSeparator != -1) {
+            entry = entry.substring(schemeSeparator + 3);
+        }
+
+        int slash = entry.indexOf('/');
+        if (slash != -1) {
+            CidrRange cidrRange = CidrRange.parse(entry.substring(0, slash), entry.substring(slash + 1));
+            if (cidrRange != null) {
+                cidrRanges.add(cidrRange);
+                return false;
+            }
+            entry = entry.substring(0, slash);
+        }
+
+        String host = normalizeHost(stripPort(entry));
+        if (isIpLiteral(host)) {
+            CidrRange cidrRange = CidrRange.parse(host, null);
+            if (cidrRange != null) {
+                cidrRanges.add(cidrRange);
+            }
+            return false;
+        }
+
+        if (host.startsWith("*.")) {
+            host = host.substring(2);
+        } else if (host.startsWith(".")) {
+            host = host.substring(1);
+        }
+        if (!host.isEmpty()) {
+            hostSuffixTrie.add(host);
+        }
+        return false;
+    }
+
+    private boolean matchesCidr(String host) {
+        if (cidrRanges.isEmpty() || !isIpLiteral(host)) {
+            return false;
+        }
+        byte[] address = toAddress(host);
+        if (address == null) {
+            return false;
+        }
+        for (CidrRange cidrRange : cidrRanges) {
+            if (cidrRange.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripPort(String entry) {
+        if (entry.startsWith("[")) {
+            int closingBracket = entry.indexOf(']');
+            return closingBracket != -1 ? entry.substring(0, closingBracket + 1) : entry;
+        }
+        int colon = entry.indexOf(':');
+        if (colon != -1 && entry.indexOf(':', colon + 1) == -1) {
+            return entry.substring(0, colon);
+        }
+        return entry;
+    }
+
+    private static String normalizeHost(String host) {
+        String normalizedHost = host.toLowerCase(Locale.ROOT);
+        if (normalizedHost.startsWith("[") && normalizedHost.endsWith("]")) {
+            normalizedHost = normalizedHost.substring(1, normalizedHost.length() - 1);
+        }
+        return normalizedHost.endsWith(".")
+                ? normalizedHost.substring(0, normalizedHost.length() - 1)
+                : normalizedHost;
+    }
+
+    private static boolean isIpLiteral(String host) {
+        return IPV4_PATTERN.matcher(host).matches() || host.contains(":");
+    }
+
+    private static byte[] toAddress(String ipLiteral) {
+        try {
+            // only literals reach this point, so no name lookup is performed
+            return InetAddress.getByName(ipLiteral).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private static String maskProxyUrl(String proxyUrl) {
+        try {
+            String userInfo = new URL(proxyUrl).getUserInfo();
+            if (!Utility.isStringNullOrBlank(userInfo) && userInfo.split(":").length > 1) {
+                return proxyUrl.replace(userInfo.split(":")[1], "*****");
+            }
+        } catch (MalformedURLException ignored) {
+            // fall through and log the raw value, the connection attempt reports the malformed url
+        }
+        return proxyUrl;
+    }
+
+    private static final class ProxyEnvironment {
+        private final String noProxy;
+        private final String httpsProxy;
+        private final String httpProxy;
+
+        private ProxyEnvironment(String noProxy, String httpsProxy, String httpProxy) {
+            this.noProxy = noProxy;
+            this.httpsProxy = httpsProxy;
+            this.httpProxy = httpProxy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ProxyEnvironment)) return false;
+            ProxyEnvironment that = (ProxyEnvironment) o;
+            return Objects.equals(noProxy, that.noProxy)
+                    && Objects.equals(httpsProxy, that.httpsProxy)
+                    && Objects.equals(httpProxy, that.httpProxy);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(noProxy, httpsProxy, httpProxy);
+        }
+    }
+
+    private static final class HostSuffixTrie {
+        private final Map<String, HostSuffixTrie> children = new HashMap<>();
+        private boolean terminal;
+
+        private void add(String host) {
+            String[] labels = host.split("\\.");
+            HostSuffixTrie node = this;
+            for (int i = labels.length - 1; i >= 0; i--) {
+                node = node.children.computeIfAbsent(labels[i], label -> new HostSuffixTrie());
+            }
+            node.terminal = true;
+        }
+
+        private boolean matches(String host) {
+            String[] labels = host.split("\\.");
+            HostSuffixTrie node = this;
+            for (int i = labels.length - 1; i >= 0; i--) {
+                node = node.children.get(labels[i]);
+                if (node == null) {
+                    return false;
+                }
+                if (node.terminal) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class CidrRange {
+        private final byte[] network;
+        private final int prefixLength;
+
+        private CidrRange(byte[] network, int prefixLength) {
+            this.network = network;
+            this.prefixLength = prefixLength;
+        }
+
+        private static CidrRange parse(String address, String prefix) {
+            String host = normalizeHost(address);
+            if (!isIpLiteral(host)) {
+                return null;
+            }
+            byte[] network = toAddress(host);
+            if (network == null) {
+                return null;
+            }
+            int maxPrefixLength = network.length * 8;
+            int prefixLength = maxPrefixLength;
+            if (prefix != null) {
+                try {
+                    prefixLength = Integer.parseInt(prefix.trim());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                if (prefixLength < 0 || prefixLength > maxPrefixLength) {
+                    return null;
+                }
+            }
+            return new CidrRange(network, prefixLength);
+        }
+
+        private boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = (0xFF << (8 - remainingBits)) & 0xFF;
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.jenkins.plugins.security.scan.global;
+
+import com.cloudbees.plugins.credentials.Credentials;
+import com.cloudbees.plugins.credentials.CredentialsProvider;
+import com.cloudbees.plugins.credentials.SystemCredentialsProvider;
+import com.cloudbees.plugins.credentials.common.IdCredentials;
+import com.cloudbees.plugins.credentials.matchers.IdMatcher;
+import hudson.Extension;
+import hudson.ExtensionList;
+import hudson.ExtensionListListener;
+import hudson.XmlFile;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import hudson.model.Saveable;
+import hudson.model.listeners.SaveableListener;
+import hudson.security.ACL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import jenkins.model.Jenkins;
+
+/**
+ * Credentials of the system credentials store, indexed by ID. Every change to that store is saved, so the index is
+ * reused until a save is seen. Credentials of other providers, such as ones backed by an external vault, give no
+ * notice when they change and are looked up on every call instead.
+ */
+public class CredentialsIndex {
+    private static final AtomicLong GENERATION = new AtomicLong();
+    private static final Object REBUILD_LOCK = new Object();
+
+    private static volatile Snapshot snapshot;
+
+    private CredentialsIndex() {}
+
+    public static <T extends Credentials> Optional<T> find(Class<T> credentialsType, String credentialsId) {
+        Jenkins jenkins = Jenkins.getInstanceOrNull();
+        if (jenkins == null || Utility.isStringNullOrBlank(credentialsId)) {
+            return Optional.empty();
+        }
+
+        List<Credentials> indexed = getSnapshot(generation -> Snapshot.build(
+                        generation,
+                        CredentialsProvider.lookupCredentials(
+                                Credentials.class, jenkins, ACL.SYSTEM, Collections.emptyList()),
+                        getSystemStoreCredentials()))
+                .get(credentialsId);
+        for (Credentials credentials : indexed) {
+            if (credentialsType.isInstance(credentials)) {
+                return Optional.of(credentialsType.cast(credentials));
+            }
+        }
+
+        IdMatcher idMatcher = new IdMatcher(credentialsId);
+        return CredentialsProvider.lookupCredentials(credentialsType, jenkins, ACL.SYSTEM, Collections.emptyList())
+                .stream()
+                .filter(idMatcher::matches)
+                .findAny();
+    }
+
+    public static void invalidate() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Returns the current snapshot or builds a new one. Only one thread rebuilds at a time, the others wait for
+     * its result. A snapshot whose lookup overlapped with {@link #invalidate()} carries an old generation and is
+     * rebuilt by the next caller.
+     */
+    static Snapshot getSnapshot(LongFunction<Snapshot> rebuild) {
+        Snapshot current = snapshot;
+        if (current != null && current.generation == GENERATION.get()) {
+            return current;
+        }
+        synchronized (REBUILD_LOCK) {
+            current = snapshot;
+            long generation = GENERATION.get();
+            if (current == null || current.generation != generation) {
+                current = rebuild.apply(generation);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private static List<Credentials> getSystemStoreCredentials() {
+        List<Credentials> storedCredentials = new ArrayList<>();
+        for (List<Credentials> domainCredentials :
+                SystemCredentialsProvider.getInstance().getDomainCredentialsMap().values()) {
+            storedCredentials.addAll(domainCredentials);
+        }
+        return storedCredentials;
+    }
+
+    static final class Snapshot {
+        private final long generation;
+        private final Map<String, List<Credentials>> credentialsById;
+
+        private Snapshot(long generation, Map<String, List<Credentials>> credentialsById) {
+            this.generation = generation;
+            this.credentialsById = credentialsById;
+        }
+
+        /**
+         * Indexes the looked up credentials that come from the given store, keeping the lookup order. Disabled
+         * providers and domains are already filtered out by the lookup.
+         */
+        static Snapshot build(
+                long generation, List<Credentials> lookedUpCredentials, Collection<Credentials> storedCredentials) {
+            Set<Credentials> stored = Collections.newSetFromMap(new IdentityHashMap<>());
+            stored.addAll(storedCredentials);
+
+            Map<String, List<Credentials>> credentialsById = new HashMap<>();
+            for (Credentials credentials : lookedUpCredentials) {
+                if (credentials instanceof IdCredentials && stored.contains(credentials)) {
+                    credentialsById
+                            .computeIfAbsent(((IdCredentials) credentials).getId(), key -> new ArrayList<>(1))
+                            .add(credentials);
+                }
+            }
+            return new Snapshot(generation, credentialsById);
+        }
+
+        List<Credentials> get(String credentialsId) {
+            return credentialsById.getOrDefault(credentialsId, Collections.emptyList());
+        }
+    }
+
+    @Extension
+    public static class CredentialsStoreListener extends SaveableListener {
+        @Override
+        public void onChange(Saveable saveable, XmlFile file) {
+            // besides the system store this covers the provider and domain settings of the credentials plugin
+            if (saveable instanceof SystemCredentialsProvider
+                    || saveable.getClass().getName().startsWith("com.cloudbees.plugins.credentials.")
+                    || (file != null && file.getFile().getName().equals("credentials.xml"))) {
+                invalidate();
+            }
+        }
+    }
+
+    @Initializer(after = InitMilestone.PLUGINS_STARTED)
+    public static void listenForDynamicallyLoadedProviders() {
+        ExtensionList.lookup(CredentialsProvider.class).addListener(new ExtensionListListener() {
+            @Override
+            public void onChange() {
+                invalidate();
+            }
+        });
+    }
+}
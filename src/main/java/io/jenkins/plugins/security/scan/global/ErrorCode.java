@@ -27,5 +27,9 @@ public class ErrorCode {
     public static final int REQUIRED_BRANCH_SOURCE_PLUGIN_NOT_INSTALLED = 115;
     public static final int INVALID_SRM_PARAMETERS = 116;
     public static final int SSL_CONFIG_CONFLICT_ERROR = 117;
+    public static final int PRE_SCAN_DEADLINE_EXCEEDED = 118;
+    public static final int PRODUCT_SERVER_UNAVAILABLE = 119;
+    public static final int PRODUCT_SERVER_UNAVAILABLE_SCAN_SKIPPED = 120;
+    public static final int SCAN_INTERRUPTED = 121;
     public static final int UNDEFINED_PLUGIN_ERROR = 999;
 }
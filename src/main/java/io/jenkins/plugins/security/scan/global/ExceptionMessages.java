@@ -40,6 +40,16 @@ public class ExceptionMessages {
                 "Both " + ApplicationConstants.NETWORK_SSL_CERT_FILE_KEY + " and "
                         + ApplicationConstants.NETWORK_SSL_TRUSTALL_KEY
                         + " are set. Only one of these resources should be set at a time.");
+        exitCodeToMessage.put(
+                ErrorCode.PRE_SCAN_DEADLINE_EXCEEDED,
+                "Bridge CLI could not be prepared within the pre-scan time budget");
+        exitCodeToMessage.put(
+                ErrorCode.PRODUCT_SERVER_UNAVAILABLE,
+                "Security product server is unavailable after repeated connection failures");
+        exitCodeToMessage.put(
+                ErrorCode.PRODUCT_SERVER_UNAVAILABLE_SCAN_SKIPPED,
+                "Scan skipped since a security product server is unavailable, marking the build as unstable");
+        exitCodeToMessage.put(ErrorCode.SCAN_INTERRUPTED, "Scan was interrupted before Bridge CLI was started");
         exitCodeToMessage.put(ErrorCode.UNDEFINED_PLUGIN_ERROR, "Undefined plugin error");
         exitCodeToMessage.put(
                 ErrorCode.REQUIRED_BRANCH_SOURCE_PLUGIN_NOT_INSTALLED,
@@ -0,0 +1,307 @@
+package io.jenkins.plugins.security.scan.global;
+
+import hudson.EnvVars;
+import hudson.FilePath;
+import hudson.cli.NoCheckTrustManager;
+import hudson.init.Terminator;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManager;
+import jenkins.util.Timer;
+import org.apache.hc.client5.http.HttpResponseException;
+import org.apache.hc.client5.http.auth.AuthScope;
+import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpHead;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.routing.DefaultRoutePlanner;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * Keeps one pooled, keep-alive {@link CloseableHttpClient} per TLS trust configuration so that Bridge CLI
+ * downloads, Artifactory version lookups and connection tests reuse warm connections instead of opening a new
+ * one for every request. Proxy routing is decided per request through the {@link HttpClientContext}.
+ */
+public class HttpClientProvider {
+    private static final Logger LOGGER = Logger.getLogger(HttpClientProvider.class.getName());
+
+    private static final int MAX_CONNECTIONS_TOTAL = 20;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 5;
+    private static final long IDLE_CONNECTION_EVICTION_IN_SECONDS = 30;
+
+    private static final String DEFAULT_CLIENT_KEY = "default";
+    private static final String TRUST_ALL_CLIENT_KEY = "trust-all";
+    private static final String CERT_FILE_CLIENT_KEY_PREFIX = "cert-file:";
+    static final String PROXY_CONTEXT_ATTRIBUTE = "security.scan.proxy";
+    public static final String TLS_HANDSHAKE_NANOS_ATTRIBUTE = "security.scan.tls.handshake.nanos";
+
+    private static final Map<String, CloseableHttpClient> HTTP_CLIENTS = new ConcurrentHashMap<>();
+
+    public static CloseableHttpClient getHttpClient() {
+        return HTTP_CLIENTS.computeIfAbsent(DEFAULT_CLIENT_KEY, key -> buildHttpClient(null));
+    }
+
+    public static CloseableHttpClient getHttpClient(Map<String, Object> scanParameters) {
+        if (Boolean.TRUE.equals(scanParameters.get(ApplicationConstants.NETWORK_SSL_TRUSTALL_KEY))) {
+            return HTTP_CLIENTS.computeIfAbsent(TRUST_ALL_CLIENT_KEY, key -> {
+                try {
+                    SSLContext sslContext = SSLContext.getInstance("TLS");
+                    sslContext.init(
+                            null, new TrustManager[] {new NoCheckTrustManager()}, new java.security.SecureRandom());
+                    return buildHttpClient(sslContext);
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        String certFilePath = (String) scanParameters.get(ApplicationConstants.NETWORK_SSL_CERT_FILE_KEY);
+        if (!Utility.isStringNullOrBlank(certFilePath)) {
+            return getCertFileHttpClient(certFilePath);
+        }
+
+        return getHttpClient();
+    }
+
+    private static CloseableHttpClient getCertFileHttpClient(String certFilePath) {
+        // the modification time is part of the key so that a replaced certificate file is picked up
+        String keyPrefix = CERT_FILE_CLIENT_KEY_PREFIX + certFilePath + "@";
+        String clientKey = keyPrefix + new File(certFilePath).lastModified();
+
+        CloseableHttpClient httpClient = HTTP_CLIENTS.get(clientKey);
+        if (httpClient == null) {
+            httpClient = HTTP_CLIENTS.computeIfAbsent(
+                    clientKey, key -> buildHttpClient(Utility.createCertFileSslContext(certFilePath)));
+            HTTP_CLIENTS.entrySet().removeIf(entry -> {
+                if (entry.getKey().startsWith(keyPrefix) && !entry.getKey().equals(clientKey)) {
+                    entry.getValue().close(CloseMode.GRACEFUL);
+                    return true;
+                }
+                return false;
+            });
+        }
+        return httpClient;
+    }
+
+    public static HttpClientContext createContext(URL url, EnvVars envVars, LoggerWrapper logger) throws IOException {
+        HttpClientContext context = HttpClientContext.create();
+        String proxy = Utility.getProxy(url, envVars, logger);
+
+        if (!proxy.equals(ApplicationConstants.NO_PROXY)) {
+            URL proxyURL = new URL(proxy);
+            // the proxy is always spoken to in plain HTTP, whatever the scheme of the proxy URL
+            HttpHost proxyHost = new HttpHost(proxyURL.getHost(), proxyURL.getPort());
+            context.setAttribute(PROXY_CONTEXT_ATTRIBUTE, proxyHost);
+
+            String userInfo = proxyURL.getUserInfo();
+            if (!Utility.isStringNullOrBlank(userInfo) && userInfo.split(":").length == 2) {
+                String[] userInfoArray = userInfo.split(":");
+                BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+                credentialsProvider.setCredentials(
+                        new AuthScope(proxyHost),
+                        new UsernamePasswordCredentials(userInfoArray[0], userInfoArray[1].toCharArray()));
+                context.setCredentialsProvider(credentialsProvider);
+            }
+        }
+
+        return context;
+    }
+
+    private static HttpClientContext createContext(
+            URL url, EnvVars envVars, LoggerWrapper logger, PreScanDeadline deadline) throws IOException {
+        if (deadline.isExpired()) {
+            throw new IOException(String.format(ApplicationConstants.PRE_SCAN_DEADLINE_EXCEEDED_BEFORE_REQUEST, url));
+        }
+        HttpClientContext context = createContext(url, envVars, logger);
+        context.setRequestConfig(getRequestConfig(deadline));
+        return context;
+    }
+
+    public static RequestConfig getRequestConfig(PreScanDeadline deadline) {
+        if (deadline.isUnbounded()) {
+            return RequestConfig.DEFAULT;
+        }
+
+        // a zero timeout means "no timeout" to the http client, so never hand it out
+        long remainingMillis = Math.max(1, deadline.remainingMillis());
+        Timeout remaining = Timeout.ofMilliseconds(remainingMillis);
+        Timeout connectTimeout = Timeout.ofMilliseconds(Math.min(
+                remainingMillis, TimeUnit.SECONDS.toMillis(ApplicationConstants.MAX_NETWORK_CONNECT_TIMEOUT_IN_SECONDS)));
+
+        return RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setConnectionRequestTimeout(connectTimeout)
+                .setResponseTimeout(remaining)
+                .build();
+    }
+
+    public static int getHttpStatusCode(
+            String url,
+            EnvVars envVars,
+            LoggerWrapper logger,
+            Map<String, Object> scanParameters,
+            PreScanDeadline deadline)
+            throws IOException {
+        HttpClientContext context = createContext(new URL(url), envVars, logger, deadline);
+        return execute(new HttpHead(url), context, scanParameters, deadline, HttpResponse::getCode);
+    }
+
+    public static void downloadToFile(
+            String url,
+            FilePath targetFile,
+            EnvVars envVars,
+            LoggerWrapper logger,
+            Map<String, Object> scanParameters,
+            PreScanDeadline deadline)
+            throws IOException, InterruptedException {
+        HttpClientContext context = createContext(new URL(url), envVars, logger, deadline);
+
+        try {
+            execute(new HttpGet(url), context, scanParameters, deadline, response -> {
+                if (response.getCode() >= HttpStatus.SC_CLIENT_ERROR) {
+                    throw new HttpResponseException(response.getCode(), response.getReasonPhrase());
+                }
+
+                HttpEntity entity = response.getEntity();
+                if (entity != null) {
+                    try (InputStream inputStream = entity.getContent()) {
+                        targetFile.copyFrom(inputStream);
+                    } catch (InterruptedException e) {
+                        throw new CopyInterruptedException(e);
+                    }
+                }
+                return null;
+            });
+        } catch (CopyInterruptedException e) {
+            throw (InterruptedException) e.getCause();
+        }
+    }
+
+    private static <T> T execute(
+            HttpUriRequestBase request,
+            HttpClientContext context,
+            Map<String, Object> scanParameters,
+            PreScanDeadline deadline,
+            HttpClientResponseHandler<? extends T> responseHandler)
+            throws IOException {
+        // the response timeout only bounds each socket read, so the whole exchange is aborted once the budget is spent
+        ScheduledFuture<?> abort = deadline.isUnbounded()
+                ? null
+                : Timer.get()
+                        .schedule(request::cancel, Math.max(1, deadline.remainingMillis()), TimeUnit.MILLISECONDS);
+        try {
+            return getHttpClient(scanParameters).execute(request, context, responseHandler);
+        } finally {
+            if (abort != null) {
+                abort.cancel(false);
+            }
+        }
+    }
+
+    @Terminator
+    public static void closeHttpClients() {
+        HTTP_CLIENTS.values().forEach(httpClient -> {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Failed to close pooled http client", e);
+            }
+        });
+        HTTP_CLIENTS.clear();
+    }
+
+    private static CloseableHttpClient buildHttpClient(SSLContext sslContext) {
+        PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder =
+                PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(MAX_CONNECTIONS_TOTAL)
+                        .setMaxConnPerRoute(MAX_CONNECTIONS_PER_ROUTE)
+                        .setDefaultSocketConfig(
+                                SocketConfig.custom().setSoKeepAlive(true).build());
+        connectionManagerBuilder.setTlsSocketStrategy(new HandshakeTimingTlsSocketStrategy(
+                new DefaultClientTlsStrategy(sslContext != null ? sslContext : SSLContexts.createDefault())));
+        PoolingHttpClientConnectionManager connectionManager = connectionManagerBuilder.build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setRoutePlanner(new ContextProxyRoutePlanner())
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(IDLE_CONNECTION_EVICTION_IN_SECONDS))
+                .build();
+    }
+
+    private static class ContextProxyRoutePlanner extends DefaultRoutePlanner {
+        ContextProxyRoutePlanner() {
+            super(null);
+        }
+
+        @Override
+        protected HttpHost determineProxy(HttpHost target, HttpContext context) {
+            Object proxy = context != null ? context.getAttribute(PROXY_CONTEXT_ATTRIBUTE) : null;
+            return proxy instanceof HttpHost ? (HttpHost) proxy : null;
+        }
+    }
+
+    /**
+     * Records how long the TLS handshake of a newly opened connection took in the request context, so callers
+     * can tell handshake cost apart from server latency. Reused pooled connections do not record anything.
+     */
+    private static class HandshakeTimingTlsSocketStrategy implements TlsSocketStrategy {
+        private final TlsSocketStrategy delegate;
+
+        HandshakeTimingTlsSocketStrategy(TlsSocketStrategy delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public SSLSocket upgrade(Socket socket, String target, int port, Object attachment, HttpContext context)
+                throws IOException {
+            long startNanos = System.nanoTime();
+            SSLSocket sslSocket = delegate.upgrade(socket, target, port, attachment, context);
+            if (context != null) {
+                context.setAttribute(TLS_HANDSHAKE_NANOS_ATTRIBUTE, System.nanoTime() - startNanos);
+            }
+            return sslSocket;
+        }
+    }
+
+    private static class CopyInterruptedException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        CopyInterruptedException(InterruptedException cause) {
+            super(cause);
+        }
+    }
+}
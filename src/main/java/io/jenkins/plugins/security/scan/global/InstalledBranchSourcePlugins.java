@@ -0,0 +1,85 @@
+package io.jenkins.plugins.security.scan.global;
+
+import hudson.ExtensionList;
+import hudson.ExtensionListListener;
+import hudson.init.InitMilestone;
+import hudson.init.Initializer;
+import io.jenkins.plugins.security.scan.global.enums.BranchSourcePlugin;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import jenkins.model.Jenkins;
+import jenkins.scm.api.SCMSourceDescriptor;
+
+/**
+ * The branch source plugins installed on the controller. Plugins only change on restart or when one is loaded
+ * dynamically, so the lookup is done once and dropped again when the set of SCM source descriptors changes.
+ */
+public class InstalledBranchSourcePlugins {
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private static volatile Snapshot snapshot;
+
+    private InstalledBranchSourcePlugins() {}
+
+    public static Set<BranchSourcePlugin> get() {
+        Jenkins jenkins = Jenkins.getInstanceOrNull();
+        if (jenkins == null) {
+            return Collections.emptySet();
+        }
+        return getSnapshot(pluginName -> jenkins.getPlugin(pluginName) != null).getPlugins();
+    }
+
+    public static void invalidate() {
+        GENERATION.incrementAndGet();
+    }
+
+    // A lookup that overlapped with invalidate() is published with its old generation and rebuilt by the next caller
+    static Snapshot getSnapshot(Predicate<String> isInstalled) {
+        Snapshot current = snapshot;
+        long generation = GENERATION.get();
+        if (current == null || current.generation != generation) {
+            current = Snapshot.build(generation, isInstalled);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    static final class Snapshot {
+        private final long generation;
+        private final Set<BranchSourcePlugin> plugins;
+
+        private Snapshot(long generation, Set<BranchSourcePlugin> plugins) {
+            this.generation = generation;
+            this.plugins = Collections.unmodifiableSet(plugins);
+        }
+
+        static Snapshot build(long generation, Predicate<String> isInstalled) {
+            Set<BranchSourcePlugin> plugins = EnumSet.noneOf(BranchSourcePlugin.class);
+            for (BranchSourcePlugin plugin : BranchSourcePlugin.values()) {
+                if (isInstalled.test(plugin.getPluginName())) {
+                    plugins.add(plugin);
+                }
+            }
+            return new Snapshot(generation, plugins);
+        }
+
+        Set<BranchSourcePlugin> getPlugins() {
+            return plugins;
+        }
+    }
+
+    static final class DescriptorListener extends ExtensionListListener {
+        @Override
+        public void onChange() {
+            invalidate();
+        }
+    }
+
+    @Initializer(after = InitMilestone.PLUGINS_STARTED)
+    public static void listenForDynamicallyLoadedPlugins() {
+        ExtensionList.lookup(SCMSourceDescriptor.class).addListener(new DescriptorListener());
+    }
+}
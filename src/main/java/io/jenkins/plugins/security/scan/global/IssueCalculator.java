@@ -1,9 +1,17 @@
 package io.jenkins.plugins.security.scan.global;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.jenkins.plugins.security.scan.global.enums.AssessmentType;
 import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 public class IssueCalculator {
 
@@ -26,19 +34,22 @@ public class IssueCalculator {
     private static final String ISSUE_COUNT_PROPERTY = "issueCount";
 
     public String getIssuesUrl(JsonNode rootNode, String product) {
-        JsonNode productNode = getNodeIgnoreCase(rootNode, DATA_PROPERTY, product);
+        FieldIndex fieldIndex = new FieldIndex();
+        JsonNode productNode = getNodeIgnoreCase(fieldIndex, rootNode, DATA_PROPERTY, product);
         if (productNode.isMissingNode()) {
             return null;
         }
 
         if (product.equals(SecurityProduct.BLACKDUCKSCA.name().toLowerCase())) {
-            return getNodeIgnoreCase(productNode, PROJECT_BOM_URL_PROPERTY).asText(null);
+            return getNodeIgnoreCase(fieldIndex, productNode, PROJECT_BOM_URL_PROPERTY).asText(null);
         } else if (product.equals(SecurityProduct.COVERITY.name().toLowerCase())) {
-            JsonNode resultUrlNode = getNodeIgnoreCase(productNode, CONNECT_PROPERTY, RESULT_URL_PROPERTY);
+            JsonNode resultUrlNode =
+                    getNodeIgnoreCase(fieldIndex, productNode, CONNECT_PROPERTY, RESULT_URL_PROPERTY);
             return resultUrlNode.asText(null);
         } else if (product.equals(SecurityProduct.POLARIS.name().toLowerCase())
                 || product.equals(SecurityProduct.SRM.name().toLowerCase())) {
-            JsonNode issuesUrlNode = getNodeIgnoreCase(productNode, PROJECT_PROPERTY, ISSUES_PROPERTY, URL_PROPERTY);
+            JsonNode issuesUrlNode =
+                    getNodeIgnoreCase(fieldIndex, productNode, PROJECT_PROPERTY, ISSUES_PROPERTY, URL_PROPERTY);
             return issuesUrlNode.asText(null);
         }
 
@@ -46,74 +57,79 @@ public class IssueCalculator {
     }
 
     public int calculateTotalIssues(JsonNode rootNode, String product) {
-        JsonNode productNode = getNodeIgnoreCase(rootNode, DATA_PROPERTY, product);
+        FieldIndex fieldIndex = new FieldIndex();
+        JsonNode productNode = getNodeIgnoreCase(fieldIndex, rootNode, DATA_PROPERTY, product);
         if (productNode.isMissingNode()) {
             return -1;
         }
 
         switch (SecurityProduct.valueOf(product.toUpperCase())) {
             case BLACKDUCKSCA:
-                return calculateBlackDuckScaIssues(productNode);
+                return calculateBlackDuckScaIssues(fieldIndex, productNode);
             case COVERITY:
-                return calculateCoverityIssues(productNode);
+                return calculateCoverityIssues(fieldIndex, productNode);
             case POLARIS:
-                return calculatePolarisIssues(productNode);
+                return calculatePolarisIssues(fieldIndex, productNode);
             case SRM:
-                return calculateSrmIssues(productNode);
+                return calculateSrmIssues(fieldIndex, productNode);
             default:
                 return -1;
         }
     }
 
-    private int calculateBlackDuckScaIssues(JsonNode productNode) {
-        JsonNode statusNode = getNodeIgnoreCase(productNode, POLICY_PROPERTY, STATUS_PROPERTY);
-        return statusNode.isMissingNode() ? -1 : calculateIssues(statusNode);
+    private int calculateBlackDuckScaIssues(FieldIndex fieldIndex, JsonNode productNode) {
+        JsonNode statusNode = getNodeIgnoreCase(fieldIndex, productNode, POLICY_PROPERTY, STATUS_PROPERTY);
+        return statusNode.isMissingNode() ? -1 : calculateIssues(fieldIndex, statusNode);
     }
 
-    private int calculateCoverityIssues(JsonNode productNode) {
+    private int calculateCoverityIssues(FieldIndex fieldIndex, JsonNode productNode) {
         JsonNode issueCountNode =
-                getNodeIgnoreCase(productNode, CONNECT_PROPERTY, POLICY_PROPERTY, ISSUE_COUNT_PROPERTY);
+                getNodeIgnoreCase(fieldIndex, productNode, CONNECT_PROPERTY, POLICY_PROPERTY, ISSUE_COUNT_PROPERTY);
         return issueCountNode.asInt(-1);
     }
 
-    private int calculatePolarisIssues(JsonNode productNode) {
-        JsonNode testNode = getNodeIgnoreCase(productNode, TEST_PROPERTY);
+    private int calculatePolarisIssues(FieldIndex fieldIndex, JsonNode productNode) {
+        JsonNode testNode = getNodeIgnoreCase(fieldIndex, productNode, TEST_PROPERTY);
         if (testNode.isMissingNode()) {
             return -1;
         }
 
         int totalIssues = 0;
         for (AssessmentType assessmentType : AssessmentType.values()) {
-            JsonNode assessmentTypeNode = getNodeIgnoreCase(testNode, assessmentType.name());
-            JsonNode testsNode = getNodeIgnoreCase(assessmentTypeNode, TESTS_PROPERTY);
-            JsonNode fullNode = getNodeIgnoreCase(testsNode, FULL_PROPERTY);
-            JsonNode sastFullNode = getNodeIgnoreCase(testsNode, SAST_FULL_PROPERTY);
+            JsonNode assessmentTypeNode = getNodeIgnoreCase(fieldIndex, testNode, assessmentType.name());
+            JsonNode testsNode = getNodeIgnoreCase(fieldIndex, assessmentTypeNode, TESTS_PROPERTY);
+            JsonNode fullNode = getNodeIgnoreCase(fieldIndex, testsNode, FULL_PROPERTY);
+            JsonNode sastFullNode = getNodeIgnoreCase(fieldIndex, testsNode, SAST_FULL_PROPERTY);
             if (!fullNode.isMissingNode()) {
-                totalIssues += calculateIssues(fullNode);
+                totalIssues += calculateIssues(fieldIndex, fullNode);
             } else if (!sastFullNode.isMissingNode()) {
-                totalIssues += calculateIssues(sastFullNode);
+                totalIssues += calculateIssues(fieldIndex, sastFullNode);
             } else {
-                JsonNode scaPackageNode = getNodeIgnoreCase(testsNode, SCA_PACKAGE_PROPERTY);
-                JsonNode scaSignatureNode = getNodeIgnoreCase(testsNode, SCA_SIGNATURE_PROPERTY);
+                JsonNode scaPackageNode = getNodeIgnoreCase(fieldIndex, testsNode, SCA_PACKAGE_PROPERTY);
+                JsonNode scaSignatureNode = getNodeIgnoreCase(fieldIndex, testsNode, SCA_SIGNATURE_PROPERTY);
                 if (!scaSignatureNode.isMissingNode()) {
-                    totalIssues += calculateIssues(scaSignatureNode);
+                    totalIssues += calculateIssues(fieldIndex, scaSignatureNode);
                 }
                 if (!scaPackageNode.isMissingNode()) {
-                    totalIssues += calculateIssues(scaPackageNode);
+                    totalIssues += calculateIssues(fieldIndex, scaPackageNode);
                 }
             }
         }
         return totalIssues;
     }
 
-    private int calculateSrmIssues(JsonNode productNode) {
-        JsonNode analysisNode = getNodeIgnoreCase(productNode, ANALYSIS_PROPERTY);
-        return analysisNode.isMissingNode() ? -1 : calculateIssues(analysisNode);
+    private int calculateSrmIssues(FieldIndex fieldIndex, JsonNode productNode) {
+        JsonNode analysisNode = getNodeIgnoreCase(fieldIndex, productNode, ANALYSIS_PROPERTY);
+        return analysisNode.isMissingNode() ? -1 : calculateIssues(fieldIndex, analysisNode);
     }
 
     public int calculateIssues(JsonNode testNode) {
+        return calculateIssues(new FieldIndex(), testNode);
+    }
+
+    private int calculateIssues(FieldIndex fieldIndex, JsonNode testNode) {
         if (!testNode.isMissingNode()) {
-            JsonNode issuesNode = getNodeIgnoreCase(testNode, ISSUES_PROPERTY);
+            JsonNode issuesNode = getNodeIgnoreCase(fieldIndex, testNode, ISSUES_PROPERTY);
             if (!issuesNode.isMissingNode()) {
                 int total = 0;
                 Iterator<String> fieldNames = issuesNode.fieldNames();
@@ -127,26 +143,358 @@ public class IssueCalculator {
         return 0;
     }
 
+    /**
+     * Reads the issues URL and the total issue count of the given product from a scan_info_out.json stream in a
+     * single pass. Only the values on the paths used by {@link #getIssuesUrl} and {@link #calculateTotalIssues} are
+     * kept, every other part of the document is skipped, so memory use does not grow with the file size. Field
+     * names are matched case-insensitively and the first matching field wins, as in the tree based methods.
+     */
+    public IssueSummary calculateIssueSummary(InputStream scanInfo, String product) throws IOException {
+        try (JsonParser parser = JsonMapperProvider.treeReader().createParser(scanInfo)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return IssueSummary.NOT_FOUND;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if (fieldName.equalsIgnoreCase(DATA_PROPERTY)) {
+                    return readData(parser, product);
+                }
+                parser.skipChildren();
+            }
+            return IssueSummary.NOT_FOUND;
+        }
+    }
+
+    private IssueSummary readData(JsonParser parser, String product) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return IssueSummary.NOT_FOUND;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (fieldName.equalsIgnoreCase(product)) {
+                return readProduct(parser, product);
+            }
+            parser.skipChildren();
+        }
+        return IssueSummary.NOT_FOUND;
+    }
+
+    private IssueSummary readProduct(JsonParser parser, String product) throws IOException {
+        SecurityProduct securityProduct = SecurityProduct.valueOf(product.toUpperCase());
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return IssueSummary.NOT_FOUND;
+        }
+
+        switch (securityProduct) {
+            case BLACKDUCKSCA:
+                return readBlackDuckSca(parser);
+            case COVERITY:
+                return readCoverity(parser);
+            case POLARIS:
+            case SRM:
+                return readPolarisOrSrm(parser, securityProduct);
+            default:
+                parser.skipChildren();
+                return IssueSummary.NOT_FOUND;
+        }
+    }
+
+    private IssueSummary readBlackDuckSca(JsonParser parser) throws IOException {
+        String issuesUrl = null;
+        int totalIssues = -1;
+        boolean urlFound = false;
+        boolean policyFound = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (!urlFound && fieldName.equalsIgnoreCase(PROJECT_BOM_URL_PROPERTY)) {
+                urlFound = true;
+                issuesUrl = readText(parser);
+            } else if (!policyFound && fieldName.equalsIgnoreCase(POLICY_PROPERTY)) {
+                policyFound = true;
+                totalIssues = readPath(parser, this::readIssues, -1, STATUS_PROPERTY);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new IssueSummary(issuesUrl, totalIssues);
+    }
+
+    private IssueSummary readCoverity(JsonParser parser) throws IOException {
+        String issuesUrl = null;
+        int totalIssues = -1;
+        boolean connectFound = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (connectFound || !fieldName.equalsIgnoreCase(CONNECT_PROPERTY)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            connectFound = true;
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            boolean urlFound = false;
+            boolean policyFound = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String connectFieldName = parser.currentName();
+                parser.nextToken();
+                if (!urlFound && connectFieldName.equalsIgnoreCase(RESULT_URL_PROPERTY)) {
+                    urlFound = true;
+                    issuesUrl = readText(parser);
+                } else if (!policyFound && connectFieldName.equalsIgnoreCase(POLICY_PROPERTY)) {
+                    policyFound = true;
+                    totalIssues = readPath(parser, p -> readInt(p, -1), -1, ISSUE_COUNT_PROPERTY);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new IssueSummary(issuesUrl, totalIssues);
+    }
+
+    private IssueSummary readPolarisOrSrm(JsonParser parser, SecurityProduct securityProduct) throws IOException {
+        String countProperty = securityProduct == SecurityProduct.POLARIS ? TEST_PROPERTY : ANALYSIS_PROPERTY;
+        String issuesUrl = null;
+        int totalIssues = -1;
+        boolean projectFound = false;
+        boolean countFound = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (!projectFound && fieldName.equalsIgnoreCase(PROJECT_PROPERTY)) {
+                projectFound = true;
+                issuesUrl = readPath(parser, this::readText, null, ISSUES_PROPERTY, URL_PROPERTY);
+            } else if (!countFound && fieldName.equalsIgnoreCase(countProperty)) {
+                countFound = true;
+                totalIssues = securityProduct == SecurityProduct.POLARIS ? readPolarisTest(parser) : readIssues(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new IssueSummary(issuesUrl, totalIssues);
+    }
+
+    private int readPolarisTest(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return 0;
+        }
+
+        int totalIssues = 0;
+        EnumSet<AssessmentType> assessmentTypesFound = EnumSet.noneOf(AssessmentType.class);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            AssessmentType assessmentType = findAssessmentType(parser.currentName());
+            parser.nextToken();
+            if (assessmentType != null && assessmentTypesFound.add(assessmentType)) {
+                totalIssues += readPath(parser, this::readPolarisTests, 0, TESTS_PROPERTY);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return totalIssues;
+    }
+
+    private int readPolarisTests(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return 0;
+        }
+
+        Integer full = null;
+        Integer sastFull = null;
+        Integer scaPackage = null;
+        Integer scaSignature = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (full == null && fieldName.equalsIgnoreCase(FULL_PROPERTY)) {
+                full = readIssues(parser);
+            } else if (sastFull == null && fieldName.equalsIgnoreCase(SAST_FULL_PROPERTY)) {
+                sastFull = readIssues(parser);
+            } else if (scaPackage == null && fieldName.equalsIgnoreCase(SCA_PACKAGE_PROPERTY)) {
+                scaPackage = readIssues(parser);
+            } else if (scaSignature == null && fieldName.equalsIgnoreCase(SCA_SIGNATURE_PROPERTY)) {
+                scaSignature = readIssues(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (full != null) {
+            return full;
+        } else if (sastFull != null) {
+            return sastFull;
+        }
+        return (scaSignature == null ? 0 : scaSignature) + (scaPackage == null ? 0 : scaPackage);
+    }
+
+    private AssessmentType findAssessmentType(String fieldName) {
+        for (AssessmentType assessmentType : AssessmentType.values()) {
+            if (assessmentType.name().equalsIgnoreCase(fieldName)) {
+                return assessmentType;
+            }
+        }
+        return null;
+    }
+
+    // Streaming counterpart of calculateIssues, the parser is positioned on the value of the node
+    private int readIssues(JsonParser parser) throws IOException {
+        return readPath(
+                parser,
+                p -> {
+                    if (p.currentToken() != JsonToken.START_OBJECT) {
+                        p.skipChildren();
+                        return 0;
+                    }
+                    int total = 0;
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        p.nextToken();
+                        total += readInt(p, 0);
+                    }
+                    return total;
+                },
+                0,
+                ISSUES_PROPERTY);
+    }
+
+    // Follows the given keys from the current value and reads the value found at the end of the path. The parser is
+    // always left on the last token of the current value.
+    private <T> T readPath(JsonParser parser, ValueReader<T> reader, T missing, String... keys) throws IOException {
+        return readPath(parser, reader, missing, keys, 0);
+    }
+
+    private <T> T readPath(JsonParser parser, ValueReader<T> reader, T missing, String[] keys, int index)
+            throws IOException {
+        if (index == keys.length) {
+            return reader.read(parser);
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return missing;
+        }
+
+        T value = missing;
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            if (!found && fieldName.equalsIgnoreCase(keys[index])) {
+                found = true;
+                value = readPath(parser, reader, missing, keys, index + 1);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    // Same conversions as JsonNode.asText(null)
+    private String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        return parser.getText();
+    }
+
+    // Same conversions as JsonNode.asInt(defaultValue)
+    private int readInt(JsonParser parser, int defaultValue) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return defaultValue;
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return defaultValue;
+        }
+        return parser.getValueAsInt(defaultValue);
+    }
+
+    private interface ValueReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    public static final class IssueSummary {
+        static final IssueSummary NOT_FOUND = new IssueSummary(null, -1);
+
+        private final String issuesUrl;
+        private final int totalIssues;
+
+        IssueSummary(String issuesUrl, int totalIssues) {
+            this.issuesUrl = issuesUrl;
+            this.totalIssues = totalIssues;
+        }
+
+        public String getIssuesUrl() {
+            return issuesUrl;
+        }
+
+        public int getTotalIssues() {
+            return totalIssues;
+        }
+    }
+
     // Helper method for case-insensitive key lookup
-    private JsonNode getNodeIgnoreCase(JsonNode node, String... keys) {
+    private JsonNode getNodeIgnoreCase(FieldIndex fieldIndex, JsonNode node, String... keys) {
         JsonNode current = node;
         for (String key : keys) {
             if (current == null || current.isMissingNode()) return current;
-            Iterator<String> fieldNamesIterator = current.fieldNames();
-            boolean found = false;
+            current = fieldIndex.path(current, key);
+        }
+        return current;
+    }
+
+    /**
+     * Case-folded field names of the object nodes visited by one lookup. Each object is indexed the first time it
+     * is visited, so repeated lookups on the same node do not scan its field names again.
+     */
+    private static final class FieldIndex {
+        private final Map<JsonNode, Map<String, String>> fieldNamesByNode = new IdentityHashMap<>();
+
+        JsonNode path(JsonNode node, String key) {
+            if (!node.isObject()) {
+                return node.path(key);
+            }
+            String fieldName = fieldNamesByNode
+                    .computeIfAbsent(node, FieldIndex::indexFieldNames)
+                    .get(foldCase(key));
+            // Fallback to a case-sensitive lookup if no case-insensitive match is found.
+            return node.path(fieldName != null ? fieldName : key);
+        }
+
+        private static Map<String, String> indexFieldNames(JsonNode node) {
+            Map<String, String> fieldNames = new HashMap<>((int) (node.size() / 0.75f) + 1);
+            Iterator<String> fieldNamesIterator = node.fieldNames();
             while (fieldNamesIterator.hasNext()) {
                 String fieldName = fieldNamesIterator.next();
-                if (fieldName.equalsIgnoreCase(key)) {
-                    current = current.path(fieldName);
-                    found = true;
-                    break;
-                }
+                // The first field wins when several names differ only in case
+                fieldNames.putIfAbsent(foldCase(fieldName), fieldName);
             }
-            if (!found) {
-                // Fallback to a case-sensitive lookup if no case-insensitive match is found.
-                current = current.path(key);
+            return fieldNames;
+        }
+
+        // Folds each char the way String.equalsIgnoreCase compares it, so that the index matches the same names as
+        // the streaming reader. Lower-casing alone misses names such as the long s, which only upper-cases to S.
+        private static String foldCase(String name) {
+            char[] chars = name.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
             }
+            return new String(chars);
         }
-        return current;
     }
 }
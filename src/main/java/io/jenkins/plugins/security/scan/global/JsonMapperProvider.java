@@ -0,0 +1,30 @@
+package io.jenkins.plugins.security.scan.global;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Shared Jackson instances for the Bridge CLI input and output JSON. The mapper is configured once here and only
+ * the immutable, thread-safe writer and reader derived from it are handed out, so the serializer caches built for
+ * {@code BridgeInput} are reused by every build.
+ */
+public final class JsonMapperProvider {
+    private static final ObjectMapper MAPPER =
+            new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+
+    private static final ObjectWriter WRITER = MAPPER.writer();
+    private static final ObjectReader TREE_READER = MAPPER.readerFor(JsonNode.class);
+
+    private JsonMapperProvider() {}
+
+    public static ObjectWriter writer() {
+        return WRITER;
+    }
+
+    public static ObjectReader treeReader() {
+        return TREE_READER;
+    }
+}
@@ -9,6 +9,10 @@ public class LoggerWrapper {
         this.listener = listener;
     }
 
+    public TaskListener getListener() {
+        return listener;
+    }
+
     private void printMessage(String message) {
         listener.getLogger().println("[Security Scan] " + message);
     }
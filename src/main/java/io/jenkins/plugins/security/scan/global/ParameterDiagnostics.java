@@ -0,0 +1,27 @@
+package io.jenkins.plugins.security.scan.global;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Diagnostics collected while the parameters of a single build are mapped, such as the deprecated parameters
+ * that were used. One instance belongs to one step execution, so concurrent builds never see each other's
+ * entries.
+ */
+public class ParameterDiagnostics {
+    private final Set<String> deprecatedParameters = new LinkedHashSet<>();
+
+    public synchronized void addDeprecatedParameter(String parameterName) {
+        deprecatedParameters.add(parameterName);
+    }
+
+    public synchronized List<String> getDeprecatedParameters() {
+        return new ArrayList<>(deprecatedParameters);
+    }
+
+    public synchronized boolean hasDeprecatedParameters() {
+        return !deprecatedParameters.isEmpty();
+    }
+}
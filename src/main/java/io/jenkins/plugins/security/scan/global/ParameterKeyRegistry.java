@@ -0,0 +1,104 @@
+package io.jenkins.plugins.security.scan.global;
+
+import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classification of scan parameter keys for the parameter logging: the products a key is reported under, whether
+ * it belongs to the additional configuration section and whether its value has to be masked. Each key is
+ * classified the first time it is seen and looked up by name afterwards.
+ */
+public final class ParameterKeyRegistry {
+    private static final Set<String> SENSITIVE_KEYS = Set.of(
+            ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY,
+            ApplicationConstants.POLARIS_ACCESS_TOKEN_KEY,
+            ApplicationConstants.COVERITY_PASSPHRASE_KEY,
+            ApplicationConstants.SRM_APIKEY_KEY);
+
+    private static final Set<String> ARBITRARY_PARAM_KEYS = Set.copyOf(ApplicationConstants.ARBITRARY_PARAM_KEYS);
+
+    private static final Map<String, ParameterKey> KEYS = new ConcurrentHashMap<>();
+
+    private ParameterKeyRegistry() {}
+
+    public static ParameterKey lookup(String key) {
+        return KEYS.computeIfAbsent(key, ParameterKeyRegistry::classify);
+    }
+
+    private static ParameterKey classify(String key) {
+        EnumSet<SecurityProduct> products = EnumSet.noneOf(SecurityProduct.class);
+        for (SecurityProduct securityProduct : SecurityProduct.values()) {
+            if (isLoggedFor(securityProduct, key)) {
+                products.add(securityProduct);
+            }
+        }
+
+        boolean additional = key.startsWith("bridgecli_")
+                || key.startsWith("network_")
+                || key.equals(ApplicationConstants.INCLUDE_DIAGNOSTICS_KEY)
+                || key.equals(ApplicationConstants.MARK_BUILD_STATUS);
+
+        return new ParameterKey(key, products, SENSITIVE_KEYS.contains(key), additional);
+    }
+
+    private static boolean isLoggedFor(SecurityProduct securityProduct, String key) {
+        String productName = securityProduct.name().toLowerCase();
+        if (securityProduct != SecurityProduct.BLACKDUCKSCA
+                && securityProduct != SecurityProduct.BLACKDUCK
+                && key.contains(ApplicationConstants.BLACKDUCKSCA_SCAN_FULL_KEY)) {
+            return false;
+        }
+        return key.contains(productName)
+                || key.equals(ApplicationConstants.PROJECT_DIRECTORY_KEY)
+                || key.startsWith("detect_")
+                || (securityProduct == SecurityProduct.POLARIS
+                        && (key.startsWith("project_") || ARBITRARY_PARAM_KEYS.contains(key)))
+                || (securityProduct == SecurityProduct.SRM
+                        && (key.equals(ApplicationConstants.DETECT_EXECUTION_PATH_KEY)
+                                || key.equals(ApplicationConstants.COVERITY_EXECUTION_PATH_KEY)
+                                || ARBITRARY_PARAM_KEYS.contains(key)));
+    }
+
+    public static final class ParameterKey {
+        private final String key;
+        private final Set<SecurityProduct> products;
+        private final boolean sensitive;
+        private final boolean additional;
+
+        private ParameterKey(String key, Set<SecurityProduct> products, boolean sensitive, boolean additional) {
+            this.key = key;
+            this.products = Collections.unmodifiableSet(products);
+            this.sensitive = sensitive;
+            this.additional = additional;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public Set<SecurityProduct> getProducts() {
+            return products;
+        }
+
+        public boolean isLoggedFor(String securityProduct) {
+            for (SecurityProduct product : products) {
+                if (product.name().equalsIgnoreCase(securityProduct)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public boolean isSensitive() {
+            return sensitive;
+        }
+
+        public boolean isAdditional() {
+            return additional;
+        }
+    }
+}
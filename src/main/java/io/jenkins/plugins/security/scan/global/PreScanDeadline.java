@@ -0,0 +1,73 @@
+package io.jenkins.plugins.security.scan.global;
+
+import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import jenkins.util.SystemProperties;
+
+/**
+ * Time budget for everything that happens before Bridge CLI is invoked (version lookup, download and
+ * installation). Network calls derive their timeouts from the remaining budget and are aborted once it is spent,
+ * so that an unresponsive Artifactory or proxy cannot hold the executor indefinitely. The budget is off unless
+ * a positive {@code timeoutInMinutes} system property is set.
+ */
+public class PreScanDeadline {
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private final long deadlineNanos;
+    private final long budgetMillis;
+    private final LongSupplier nanoClock;
+
+    PreScanDeadline(long budgetMillis, LongSupplier nanoClock) {
+        this.budgetMillis = budgetMillis;
+        this.nanoClock = nanoClock;
+        this.deadlineNanos = budgetMillis == UNBOUNDED
+                ? UNBOUNDED
+                : nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    }
+
+    public static PreScanDeadline forPreScanPhase() {
+        long budgetInMinutes = SystemProperties.getLong(
+                PreScanDeadline.class.getName() + ".timeoutInMinutes",
+                ApplicationConstants.DEFAULT_PRE_SCAN_TIMEOUT_IN_MINUTES);
+        if (budgetInMinutes <= 0) {
+            return unbounded();
+        }
+        // larger budgets would overflow the deadline in nanoseconds
+        return ofMillis(TimeUnit.MINUTES.toMillis(
+                Math.min(budgetInMinutes, ApplicationConstants.MAX_PRE_SCAN_TIMEOUT_IN_MINUTES)));
+    }
+
+    public static PreScanDeadline ofMillis(long budgetMillis) {
+        return new PreScanDeadline(budgetMillis, System::nanoTime);
+    }
+
+    public static PreScanDeadline unbounded() {
+        return new PreScanDeadline(UNBOUNDED, System::nanoTime);
+    }
+
+    public boolean isUnbounded() {
+        return deadlineNanos == UNBOUNDED;
+    }
+
+    public long remainingMillis() {
+        if (isUnbounded()) {
+            return UNBOUNDED;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - nanoClock.getAsLong()));
+    }
+
+    public boolean isExpired() {
+        return remainingMillis() == 0;
+    }
+
+    public long getBudgetInMinutes() {
+        return TimeUnit.MILLISECONDS.toMinutes(budgetMillis);
+    }
+
+    public void checkNotExpired() throws PluginExceptionHandler {
+        if (isExpired()) {
+            throw new PluginExceptionHandler(ErrorCode.PRE_SCAN_DEADLINE_EXCEEDED);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.jenkins.plugins.security.scan.global;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import jenkins.util.SystemProperties;
+
+/**
+ * Controller-side circuit breaker keyed by product server URL. Consecutive failures reported by connection
+ * probes or Bridge CLI runs open the circuit; while it is open scans against that server are short-circuited.
+ * Once the open period has elapsed a single caller is let through as the half-open probe, and its outcome
+ * either closes the circuit again or re-opens it for another period.
+ */
+public class ProductCircuitBreaker {
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    public enum OpenCircuitPolicy {
+        FAIL,
+        SKIP
+    }
+
+    private static final ProductCircuitBreaker INSTANCE = new ProductCircuitBreaker(
+            SystemProperties.getInteger(ProductCircuitBreaker.class.getName() + ".failureThreshold", 3),
+            TimeUnit.MINUTES.toMillis(SystemProperties.getLong(
+                    ProductCircuitBreaker.class.getName() + ".openDurationInMinutes", 5L)),
+            System::nanoTime);
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final LongSupplier nanoClock;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    ProductCircuitBreaker(int failureThreshold, long openDurationMillis, LongSupplier nanoClock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationMillis = openDurationMillis;
+        this.nanoClock = nanoClock;
+    }
+
+    public static ProductCircuitBreaker getInstance() {
+        return INSTANCE;
+    }
+
+    public static OpenCircuitPolicy getOpenCircuitPolicy() {
+        String policy = SystemProperties.getString(
+                ProductCircuitBreaker.class.getName() + ".openCircuitPolicy", OpenCircuitPolicy.FAIL.name());
+        try {
+            return OpenCircuitPolicy.valueOf(policy.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return OpenCircuitPolicy.FAIL;
+        }
+    }
+
+    /**
+     * Returns {@code true} when a request to the server may proceed. When the open period of an open circuit has
+     * elapsed, exactly one caller receives {@code true} and becomes the half-open probe.
+     */
+    public boolean allowRequest(String productUrl) {
+        if (Utility.isStringNullOrBlank(productUrl)) {
+            return true;
+        }
+        Circuit circuit = circuits.get(normalizeUrl(productUrl));
+        return circuit == null || circuit.allowRequest();
+    }
+
+    public State getState(String productUrl) {
+        Circuit circuit = Utility.isStringNullOrBlank(productUrl) ? null : circuits.get(normalizeUrl(productUrl));
+        return circuit == null ? State.CLOSED : circuit.getState();
+    }
+
+    public long getRemainingOpenMillis(String productUrl) {
+        Circuit circuit = Utility.isStringNullOrBlank(productUrl) ? null : circuits.get(normalizeUrl(productUrl));
+        return circuit == null ? 0 : circuit.getRemainingOpenMillis();
+    }
+
+    public void recordSuccess(String productUrl) {
+        if (!Utility.isStringNullOrBlank(productUrl)) {
+            Circuit circuit = circuits.get(normalizeUrl(productUrl));
+            if (circuit != null) {
+                circuit.recordSuccess();
+            }
+        }
+    }
+
+    public void recordFailure(String productUrl) {
+        if (!Utility.isStringNullOrBlank(productUrl)) {
+            circuits.computeIfAbsent(normalizeUrl(productUrl), key -> new Circuit())
+                    .recordFailure();
+        }
+    }
+
+    /**
+     * Forgets the state of every server, so that the next request to each of them is allowed again.
+     */
+    public void reset() {
+        circuits.clear();
+    }
+
+    static String normalizeUrl(String productUrl) {
+        String normalizedUrl = productUrl.trim().toLowerCase(Locale.ROOT);
+        while (normalizedUrl.endsWith("/")) {
+            normalizedUrl = normalizedUrl.substring(0, normalizedUrl.length() - 1);
+        }
+        return normalizedUrl;
+    }
+
+    private final class Circuit {
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAtNanos;
+        private long halfOpenAtNanos;
+
+        private synchronized boolean allowRequest() {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN && getRemainingOpenMillis() == 0) {
+                state = State.HALF_OPEN;
+                halfOpenAtNanos = nanoClock.getAsLong();
+                return true;
+            }
+            // let another probe through if the previous one never reported back
+            if (state == State.HALF_OPEN
+                    && TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - halfOpenAtNanos) > openDurationMillis) {
+                halfOpenAtNanos = nanoClock.getAsLong();
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized State getState() {
+            return state;
+        }
+
+        private synchronized long getRemainingOpenMillis() {
+            if (state != State.OPEN) {
+                return 0;
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - openedAtNanos);
+            return Math.max(0, openDurationMillis - elapsedMillis);
+        }
+
+        private synchronized void recordSuccess() {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+        }
+
+        private synchronized void recordFailure() {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAtNanos = nanoClock.getAsLong();
+            }
+        }
+    }
+}
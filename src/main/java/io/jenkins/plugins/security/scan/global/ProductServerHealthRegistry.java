@@ -0,0 +1,205 @@
+package io.jenkins.plugins.security.scan.global;
+
+import hudson.Util;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rolling health samples of the configured product servers, collected in the background and read by the global
+ * configuration page and by scan steps before they commit an executor to a scan.
+ */
+public class ProductServerHealthRegistry {
+    private static final int SAMPLE_WINDOW_SIZE = 50;
+    private static final double DEGRADED_AVAILABILITY_THRESHOLD = 0.9;
+    private static final ProductServerHealthRegistry INSTANCE = new ProductServerHealthRegistry();
+
+    private final Map<String, ServerHealth> serverHealthByUrl = new ConcurrentHashMap<>();
+
+    public static ProductServerHealthRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public void record(String productLabel, String productUrl, long latencyMillis, int statusCode, boolean available) {
+        if (Utility.isStringNullOrBlank(productUrl)) {
+            return;
+        }
+        serverHealthByUrl
+                .computeIfAbsent(ProductCircuitBreaker.normalizeUrl(productUrl), key -> new ServerHealth())
+                .record(productLabel, productUrl, latencyMillis, statusCode, available, System.currentTimeMillis());
+    }
+
+    public Optional<Snapshot> getSnapshot(String productUrl) {
+        if (Utility.isStringNullOrBlank(productUrl)) {
+            return Optional.empty();
+        }
+        ServerHealth serverHealth = serverHealthByUrl.get(ProductCircuitBreaker.normalizeUrl(productUrl));
+        return serverHealth == null ? Optional.empty() : Optional.of(serverHealth.snapshot());
+    }
+
+    public void retainOnly(Collection<String> productUrls) {
+        Set<String> normalizedUrls = new HashSet<>();
+        for (String productUrl : productUrls) {
+            if (!Utility.isStringNullOrBlank(productUrl)) {
+                normalizedUrls.add(ProductCircuitBreaker.normalizeUrl(productUrl));
+            }
+        }
+        serverHealthByUrl.keySet().retainAll(normalizedUrls);
+    }
+
+    private static final class ServerHealth {
+        private final long[] latencies = new long[SAMPLE_WINDOW_SIZE];
+        private final boolean[] availability = new boolean[SAMPLE_WINDOW_SIZE];
+        private int nextIndex;
+        private int sampleCount;
+        private String productLabel;
+        private String productUrl;
+        private int lastStatusCode;
+        private long lastCheckedAtMillis;
+
+        private synchronized void record(
+                String productLabel,
+                String productUrl,
+                long latencyMillis,
+                int statusCode,
+                boolean available,
+                long checkedAtMillis) {
+            latencies[nextIndex] = latencyMillis;
+            availability[nextIndex] = available;
+            nextIndex = (nextIndex + 1) % SAMPLE_WINDOW_SIZE;
+            sampleCount = Math.min(sampleCount + 1, SAMPLE_WINDOW_SIZE);
+            this.productLabel = productLabel;
+            this.productUrl = productUrl;
+            this.lastStatusCode = statusCode;
+            this.lastCheckedAtMillis = checkedAtMillis;
+        }
+
+        private synchronized Snapshot snapshot() {
+            long[] sortedLatencies = Arrays.copyOf(latencies, sampleCount);
+            Arrays.sort(sortedLatencies);
+
+            int availableCount = 0;
+            for (int i = 0; i < sampleCount; i++) {
+                if (availability[i]) {
+                    availableCount++;
+                }
+            }
+            boolean lastAvailable = sampleCount > 0
+                    && availability[(nextIndex - 1 + SAMPLE_WINDOW_SIZE) % SAMPLE_WINDOW_SIZE];
+
+            return new Snapshot(
+                    productLabel,
+                    productUrl,
+                    sampleCount,
+                    sampleCount == 0 ? 0 : (double) availableCount / sampleCount,
+                    percentile(sortedLatencies, 50),
+                    percentile(sortedLatencies, 95),
+                    percentile(sortedLatencies, 99),
+                    lastStatusCode,
+                    lastAvailable,
+                    lastCheckedAtMillis);
+        }
+
+        private static long percentile(long[] sortedValues, int percentile) {
+            if (sortedValues.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+            return sortedValues[Math.max(0, rank - 1)];
+        }
+    }
+
+    public static final class Snapshot {
+        private final String productLabel;
+        private final String productUrl;
+        private final int sampleCount;
+        private final double availability;
+        private final long p50LatencyMillis;
+        private final long p95LatencyMillis;
+        private final long p99LatencyMillis;
+        private final int lastStatusCode;
+        private final boolean lastAvailable;
+        private final long lastCheckedAtMillis;
+
+        Snapshot(
+                String productLabel,
+                String productUrl,
+                int sampleCount,
+                double availability,
+                long p50LatencyMillis,
+                long p95LatencyMillis,
+                long p99LatencyMillis,
+                int lastStatusCode,
+                boolean lastAvailable,
+                long lastCheckedAtMillis) {
+            this.productLabel = productLabel;
+            this.productUrl = productUrl;
+            this.sampleCount = sampleCount;
+            this.availability = availability;
+            this.p50LatencyMillis = p50LatencyMillis;
+            this.p95LatencyMillis = p95LatencyMillis;
+            this.p99LatencyMillis = p99LatencyMillis;
+            this.lastStatusCode = lastStatusCode;
+            this.lastAvailable = lastAvailable;
+            this.lastCheckedAtMillis = lastCheckedAtMillis;
+        }
+
+        public String getProductLabel() {
+            return productLabel;
+        }
+
+        public String getProductUrl() {
+            return productUrl;
+        }
+
+        public int getSampleCount() {
+            return sampleCount;
+        }
+
+        public double getAvailability() {
+            return availability;
+        }
+
+        public String getAvailabilityPercentage() {
+            return String.format("%.1f%%", availability * 100);
+        }
+
+        public long getP50LatencyMillis() {
+            return p50LatencyMillis;
+        }
+
+        public long getP95LatencyMillis() {
+            return p95LatencyMillis;
+        }
+
+        public long getP99LatencyMillis() {
+            return p99LatencyMillis;
+        }
+
+        public int getLastStatusCode() {
+            return lastStatusCode;
+        }
+
+        public boolean isLastAvailable() {
+            return lastAvailable;
+        }
+
+        public long getLastCheckedAtMillis() {
+            return lastCheckedAtMillis;
+        }
+
+        public String getLastChecked() {
+            return lastCheckedAtMillis == 0
+                    ? "-"
+                    : Util.getPastTimeString(Math.max(0, System.currentTimeMillis() - lastCheckedAtMillis));
+        }
+
+        public boolean isDegraded() {
+            return sampleCount > 0 && (!lastAvailable || availability < DEGRADED_AVAILABILITY_THRESHOLD);
+        }
+    }
+}
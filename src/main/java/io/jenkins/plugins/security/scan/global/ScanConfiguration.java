@@ -0,0 +1,182 @@
+package io.jenkins.plugins.security.scan.global;
+
+import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Immutable, typed view of the merged scan parameters of a single build. The values that are consulted from
+ * several places during a scan (products, PR comment / fix PR flags, SARIF and diagnostics switches, network
+ * settings) are parsed once here; the raw parameters remain available for the product specific services that
+ * map them into the Bridge CLI input.
+ */
+public final class ScanConfiguration {
+    private final Map<String, Object> parameters;
+    private final Set<String> securityProductNames;
+    private final Set<SecurityProduct> securityProducts;
+    private final boolean prCommentEnabled;
+    private final boolean fixPrEnabled;
+    private final boolean includeDiagnostics;
+    private final boolean blackDuckSCASarifCreate;
+    private final boolean polarisSarifCreate;
+    private final boolean networkAirGap;
+    private final boolean networkSslTrustAll;
+    private final String networkSslCertFile;
+    private final Boolean blackDuckSCAWaitForScan;
+    private final Boolean polarisWaitForScan;
+    private volatile String fingerprint;
+
+    private ScanConfiguration(Map<String, Object> scanParameters) {
+        this.parameters = Collections.unmodifiableMap(new HashMap<>(scanParameters));
+        this.securityProductNames = parseSecurityProductNames(parameters.get(ApplicationConstants.PRODUCT_KEY));
+
+        EnumSet<SecurityProduct> products = EnumSet.noneOf(SecurityProduct.class);
+        for (SecurityProduct securityProduct : SecurityProduct.values()) {
+            if (securityProductNames.contains(securityProduct.name())) {
+                products.add(securityProduct);
+            }
+        }
+        this.securityProducts = Collections.unmodifiableSet(products);
+
+        this.prCommentEnabled = isPrCommentEnabled(parameters);
+        this.fixPrEnabled = isFixPrEnabled(parameters);
+        this.includeDiagnostics = isTrue(parameters, ApplicationConstants.INCLUDE_DIAGNOSTICS_KEY);
+        this.blackDuckSCASarifCreate = isTrue(parameters, ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_CREATE_KEY);
+        this.polarisSarifCreate = isTrue(parameters, ApplicationConstants.POLARIS_REPORTS_SARIF_CREATE_KEY);
+        this.networkAirGap = isTrue(parameters, ApplicationConstants.NETWORK_AIRGAP_KEY);
+        this.networkSslTrustAll = isTrue(parameters, ApplicationConstants.NETWORK_SSL_TRUSTALL_KEY);
+        Object sslCertFile = parameters.get(ApplicationConstants.NETWORK_SSL_CERT_FILE_KEY);
+        this.networkSslCertFile = sslCertFile != null ? sslCertFile.toString() : null;
+        this.blackDuckSCAWaitForScan = getBoolean(parameters, ApplicationConstants.BLACKDUCKSCA_WAITFORSCAN_KEY);
+        this.polarisWaitForScan = getBoolean(parameters, ApplicationConstants.POLARIS_WAITFORSCAN_KEY);
+    }
+
+    public static ScanConfiguration from(Map<String, Object> scanParameters) {
+        return new ScanConfiguration(scanParameters);
+    }
+
+    public static Set<String> parseSecurityProductNames(Object product) {
+        if (product == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(Arrays.stream(product.toString().split(","))
+                .map(String::trim)
+                .map(String::toUpperCase)
+                .collect(Collectors.toSet()));
+    }
+
+    public static boolean isPrCommentEnabled(Map<String, Object> scanParameters) {
+        return isTrue(scanParameters, ApplicationConstants.BLACKDUCKSCA_PRCOMMENT_ENABLED_KEY)
+                || isTrue(scanParameters, ApplicationConstants.COVERITY_PRCOMMENT_ENABLED_KEY)
+                || isTrue(scanParameters, ApplicationConstants.POLARIS_PRCOMMENT_ENABLED_KEY);
+    }
+
+    public static boolean isFixPrEnabled(Map<String, Object> scanParameters) {
+        return isTrue(scanParameters, ApplicationConstants.BLACKDUCKSCA_FIXPR_ENABLED_KEY);
+    }
+
+    private static boolean isTrue(Map<String, Object> scanParameters, String key) {
+        return Objects.equals(scanParameters.get(key), true);
+    }
+
+    private static Boolean getBoolean(Map<String, Object> scanParameters, String key) {
+        Object value = scanParameters.get(key);
+        return value instanceof Boolean ? (Boolean) value : null;
+    }
+
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Product names as they were given, upper-cased. Unlike {@link #getSecurityProducts()} this keeps
+     * values that do not map to a {@link SecurityProduct}, which is what the parameter logging reports.
+     */
+    public Set<String> getSecurityProductNames() {
+        return securityProductNames;
+    }
+
+    public Set<SecurityProduct> getSecurityProducts() {
+        return securityProducts;
+    }
+
+    public boolean hasSecurityProduct(SecurityProduct securityProduct) {
+        return securityProducts.contains(securityProduct);
+    }
+
+    public boolean isBlackDuckSCAScan() {
+        return securityProducts.contains(SecurityProduct.BLACKDUCK)
+                || securityProducts.contains(SecurityProduct.BLACKDUCKSCA);
+    }
+
+    public boolean isPrCommentEnabled() {
+        return prCommentEnabled;
+    }
+
+    public boolean isFixPrEnabled() {
+        return fixPrEnabled;
+    }
+
+    public boolean isIncludeDiagnostics() {
+        return includeDiagnostics;
+    }
+
+    public boolean isBlackDuckSCASarifCreate() {
+        return blackDuckSCASarifCreate;
+    }
+
+    public boolean isPolarisSarifCreate() {
+        return polarisSarifCreate;
+    }
+
+    public boolean isNetworkAirGap() {
+        return networkAirGap;
+    }
+
+    public boolean isNetworkSslTrustAll() {
+        return networkSslTrustAll;
+    }
+
+    public String getNetworkSslCertFile() {
+        return networkSslCertFile;
+    }
+
+    public Boolean getBlackDuckSCAWaitForScan() {
+        return blackDuckSCAWaitForScan;
+    }
+
+    public Boolean getPolarisWaitForScan() {
+        return polarisWaitForScan;
+    }
+
+    /**
+     * SHA-256 over the sorted parameters. Two builds with the same fingerprint were configured identically, so
+     * anything derived purely from the configuration can be cached under it. Secrets only ever enter the digest,
+     * never the fingerprint itself.
+     */
+    public String getFingerprint() {
+        String result = fingerprint;
+        if (result == null) {
+            StringBuilder canonicalForm = new StringBuilder();
+            for (Map.Entry<String, Object> entry : new TreeMap<>(parameters).entrySet()) {
+                canonicalForm
+                        .append(entry.getKey())
+                        .append('=')
+                        .append(entry.getValue())
+                        .append('\n');
+            }
+            result = DigestUtils.sha256Hex(canonicalForm.toString().getBytes(StandardCharsets.UTF_8));
+            fingerprint = result;
+        }
+        return result;
+    }
+}
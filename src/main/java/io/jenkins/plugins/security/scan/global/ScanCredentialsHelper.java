@@ -3,15 +3,9 @@ package io.jenkins.plugins.security.scan.global;
 import com.cloudbees.plugins.credentials.Credentials;
 import com.cloudbees.plugins.credentials.CredentialsMatcher;
 import com.cloudbees.plugins.credentials.CredentialsMatchers;
-import com.cloudbees.plugins.credentials.CredentialsProvider;
 import com.cloudbees.plugins.credentials.impl.UsernamePasswordCredentialsImpl;
-import com.cloudbees.plugins.credentials.matchers.IdMatcher;
-import hudson.security.ACL;
 import hudson.util.Secret;
-import java.util.Collections;
 import java.util.Optional;
-import jenkins.model.Jenkins;
-import org.apache.commons.lang.StringUtils;
 import org.jenkinsci.plugins.plaincredentials.impl.StringCredentialsImpl;
 
 public class ScanCredentialsHelper {
@@ -48,17 +42,6 @@ public class ScanCredentialsHelper {
     }
 
     public <T extends Credentials> Optional<T> getCredentialsById(Class<T> credentialsType, String credentialsId) {
-        Jenkins jenkins = Jenkins.getInstanceOrNull();
-
-        if (jenkins == null || StringUtils.isBlank(credentialsId)) {
-            return Optional.empty();
-        }
-
-        IdMatcher idMatcher = new IdMatcher(credentialsId);
-
-        return CredentialsProvider.lookupCredentials(credentialsType, jenkins, ACL.SYSTEM, Collections.emptyList())
-                .stream()
-                .filter(idMatcher::matches)
-                .findAny();
+        return CredentialsIndex.find(credentialsType, credentialsId);
     }
 }
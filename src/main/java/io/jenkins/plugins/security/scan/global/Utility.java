@@ -3,10 +3,8 @@ package io.jenkins.plugins.security.scan.global;
 import com.cloudbees.hudson.plugins.folder.Folder;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import hudson.EnvVars;
 import hudson.FilePath;
-import hudson.cli.NoCheckTrustManager;
 import hudson.model.Result;
 import hudson.model.TaskListener;
 import hudson.model.TopLevelItem;
@@ -20,7 +18,6 @@ import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -96,91 +93,35 @@ public class Utility {
         return str == null || str.isBlank() || str.equals("null");
     }
 
-    public static HttpURLConnection getHttpURLConnection(
-            URL url, EnvVars envVars, LoggerWrapper logger, Map<String, Object> scanParameters) {
-        try {
-            if (scanParameters.containsKey(ApplicationConstants.NETWORK_SSL_TRUSTALL_KEY)
-                    && (Boolean) scanParameters.get(ApplicationConstants.NETWORK_SSL_TRUSTALL_KEY)) {
-                return createTrustAllConnection(url, envVars, logger);
-            } else if (scanParameters.containsKey(ApplicationConstants.NETWORK_SSL_CERT_FILE_KEY)) {
-                return createCertFileConnection(url, envVars, logger, scanParameters);
-            } else {
-                return createDefaultConnection(url, envVars, logger);
-            }
-        } catch (Exception e) {
-            logger.error(ApplicationConstants.HTTP_URL_CONNECTION_EXCEPTION, e.getMessage());
-        }
-        return null;
-    }
+    public static SSLContext createCertFileSslContext(String certFilePath) {
+        File crtFile = new File(certFilePath);
+        try (FileInputStream fileInputStream = new FileInputStream(crtFile)) {
+            Certificate certificate = CertificateFactory.getInstance("X.509").generateCertificate(fileInputStream);
 
-    public static HttpURLConnection createTrustAllConnection(URL url, EnvVars envVars, LoggerWrapper logger)
-            throws Exception {
-        TrustManager[] trustAllCerts = new TrustManager[] {new NoCheckTrustManager()};
+            // Load system default trust store
+            TrustManagerFactory defaultTrustManagerFactory =
+                    TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            defaultTrustManagerFactory.init((KeyStore) null);
 
-        SSLContext sc = SSLContext.getInstance("TLS");
-        sc.init(null, trustAllCerts, new java.security.SecureRandom());
-        HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
+            // Create custom keystore with the provided certificate
+            KeyStore customKeyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            customKeyStore.load(null, null);
+            customKeyStore.setCertificateEntry("custom_certificate", certificate);
 
-        String proxy = getProxy(url, envVars, logger);
-        if (proxy.equals(ApplicationConstants.NO_PROXY)) {
-            return (HttpsURLConnection) url.openConnection(Proxy.NO_PROXY);
-        } else {
-            URL proxyURL = new URL(proxy);
-            HttpsURLConnection connection = (HttpsURLConnection) url.openConnection(
-                    new Proxy(Proxy.Type.HTTP, new InetSocketAddress(proxyURL.getHost(), proxyURL.getPort())));
-            setDefaultProxyAuthenticator(proxyURL.getUserInfo());
-            return connection;
-        }
-    }
+            TrustManagerFactory customTrustManagerFactory =
+                    TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            customTrustManagerFactory.init(customKeyStore);
 
-    public static HttpURLConnection createCertFileConnection(
-            URL url, EnvVars envVars, LoggerWrapper logger, Map<String, Object> scanParameters) throws Exception {
-        String certFilePath = (String) scanParameters.get(ApplicationConstants.NETWORK_SSL_CERT_FILE_KEY);
-        if (!isStringNullOrBlank(certFilePath)) {
-            File crtFile = new File(certFilePath);
-            try (FileInputStream fileInputStream = new FileInputStream(crtFile)) {
-                Certificate certificate =
-                        CertificateFactory.getInstance("X.509").generateCertificate(fileInputStream);
-
-                // Load system default trust store
-                TrustManagerFactory defaultTrustManagerFactory =
-                        TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-                defaultTrustManagerFactory.init((KeyStore) null);
-
-                // Create custom keystore with the provided certificate
-                KeyStore customKeyStore = KeyStore.getInstance(KeyStore.getDefaultType());
-                customKeyStore.load(null, null);
-                customKeyStore.setCertificateEntry("custom_certificate", certificate);
-
-                TrustManagerFactory customTrustManagerFactory =
-                        TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-                customTrustManagerFactory.init(customKeyStore);
-
-                // Combine system and custom trust managers
-                X509TrustManager combinedTrustManager =
-                        getCombinedTrustManager(defaultTrustManagerFactory, customTrustManagerFactory);
-
-                SSLContext sslContext = SSLContext.getInstance("TLS");
-                sslContext.init(null, new TrustManager[] {combinedTrustManager}, null);
-                HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
-
-                String proxy = getProxy(url, envVars, logger);
-                if (proxy.equals(ApplicationConstants.NO_PROXY)) {
-                    HttpsURLConnection connection = (HttpsURLConnection) url.openConnection(Proxy.NO_PROXY);
-                    return connection;
-                } else {
-                    URL proxyURL = new URL(proxy);
-                    HttpsURLConnection connection = (HttpsURLConnection) url.openConnection(
-                            new Proxy(Proxy.Type.HTTP, new InetSocketAddress(proxyURL.getHost(), proxyURL.getPort())));
-                    connection.setSSLSocketFactory(sslContext.getSocketFactory());
-                    setDefaultProxyAuthenticator(proxyURL.getUserInfo());
-                    return connection;
-                }
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+            // Combine system and custom trust managers
+            X509TrustManager combinedTrustManager =
+                    getCombinedTrustManager(defaultTrustManagerFactory, customTrustManagerFactory);
+
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[] {combinedTrustManager}, null);
+            return sslContext;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
-        return null;
     }
 
     private static X509TrustManager getCombinedTrustManager(
@@ -221,55 +162,8 @@ public class Utility {
         };
     }
 
-    public static HttpURLConnection createDefaultConnection(URL url, EnvVars envVars, LoggerWrapper logger)
-            throws IOException {
-        String proxy = getProxy(url, envVars, logger);
-        if (proxy.equals(ApplicationConstants.NO_PROXY)) {
-            return (HttpURLConnection) url.openConnection(Proxy.NO_PROXY);
-        } else {
-            URL proxyURL = new URL(proxy);
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection(
-                    new Proxy(Proxy.Type.HTTP, new InetSocketAddress(proxyURL.getHost(), proxyURL.getPort())));
-            setDefaultProxyAuthenticator(proxyURL.getUserInfo());
-            return connection;
-        }
-    }
-
     public static String getProxy(URL url, EnvVars envVars, LoggerWrapper logger) throws IOException {
-        String noProxy = getEnvOrSystemProxyDetails(ApplicationConstants.NO_PROXY, envVars);
-        if (!isStringNullOrBlank(noProxy)) {
-            logger.info("Found NO_PROXY configuration - " + noProxy);
-            String[] noProxies = noProxy.split(",");
-
-            for (String noProxyHost : noProxies) {
-                if (noProxyHost.startsWith("*") && noProxyHost.length() == 1) {
-                    return ApplicationConstants.NO_PROXY;
-                } else if (noProxyHost.startsWith("*") && noProxyHost.length() > 2) {
-                    noProxyHost = noProxyHost.substring(2);
-                    if (url.toString().contains(noProxyHost)) {
-                        return ApplicationConstants.NO_PROXY;
-                    }
-                }
-            }
-        }
-
-        return getProxyValue(envVars, logger);
-    }
-
-    public static String getProxyValue(EnvVars envVars, LoggerWrapper logger) throws MalformedURLException {
-        String httpsProxy = getEnvOrSystemProxyDetails(ApplicationConstants.HTTPS_PROXY, envVars);
-        if (!isStringNullOrBlank(httpsProxy)) {
-            logger.info("Found HTTPS_PROXY configuration - " + getMaskedProxyUrl(httpsProxy));
-            return httpsProxy;
-        }
-
-        String httpProxy = getEnvOrSystemProxyDetails(ApplicationConstants.HTTP_PROXY, envVars);
-        if (!isStringNullOrBlank(httpProxy)) {
-            logger.info("Found HTTP_PROXY configuration - " + getMaskedProxyUrl(httpProxy));
-            return httpProxy;
-        }
-
-        return ApplicationConstants.NO_PROXY;
+        return CompiledProxySelector.forEnvironment(envVars).select(url, logger);
     }
 
     public static String getEnvOrSystemProxyDetails(String proxyType, EnvVars envVars) {
@@ -287,49 +181,6 @@ public class Utility {
         return proxyDetails;
     }
 
-    public static void setDefaultProxyAuthenticator(String userInfo) {
-        if (!isStringNullOrBlank(userInfo)) {
-            String[] userInfoArray = userInfo.split(":");
-            if (userInfoArray.length == 2) {
-                Authenticator.setDefault(new Authenticator() {
-                    @Override
-                    protected PasswordAuthentication getPasswordAuthentication() {
-                        return new PasswordAuthentication(userInfoArray[0], userInfoArray[1].toCharArray());
-                    }
-                });
-            }
-        }
-    }
-
-    private static String getMaskedProxyUrl(String proxyUrlString) throws MalformedURLException {
-        URL proxyUrl = new URL(proxyUrlString);
-        String userInfo = proxyUrl.getUserInfo();
-        if (!isStringNullOrBlank(userInfo) && userInfo.split(":").length > 1) {
-            return proxyUrlString.replace(userInfo.split(":")[1], "*****");
-        }
-
-        return proxyUrlString;
-    }
-
-    public static Map<String, Boolean> installedBranchSourceDependencies() {
-        Map<String, Boolean> installedBranchSourceDependencies = new HashMap<>();
-        Jenkins jenkins = Jenkins.getInstanceOrNull();
-
-        if (jenkins != null) {
-            if (jenkins.getPlugin(ApplicationConstants.BITBUCKET_BRANCH_SOURCE_PLUGIN_NAME) != null) {
-                installedBranchSourceDependencies.put(ApplicationConstants.BITBUCKET_BRANCH_SOURCE_PLUGIN_NAME, true);
-            }
-            if (jenkins.getPlugin(ApplicationConstants.GITHUB_BRANCH_SOURCE_PLUGIN_NAME) != null) {
-                installedBranchSourceDependencies.put(ApplicationConstants.GITHUB_BRANCH_SOURCE_PLUGIN_NAME, true);
-            }
-            if (jenkins.getPlugin(ApplicationConstants.GITLAB_BRANCH_SOURCE_PLUGIN_NAME) != null) {
-                installedBranchSourceDependencies.put(ApplicationConstants.GITLAB_BRANCH_SOURCE_PLUGIN_NAME, true);
-            }
-        }
-
-        return installedBranchSourceDependencies;
-    }
-
     public static String jenkinsJobType(EnvVars envVars) {
         Jenkins jenkins = Jenkins.getInstanceOrNull();
 
@@ -425,9 +276,8 @@ public class Utility {
     }
 
     public static JsonNode parseJsonFile(String jsonString) {
-        ObjectMapper objectMapper = new ObjectMapper();
         try {
-            return objectMapper.readTree(jsonString);
+            return JsonMapperProvider.treeReader().readTree(jsonString);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,19 @@
+package io.jenkins.plugins.security.scan.global.enums;
+
+import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+
+public enum BranchSourcePlugin {
+    BITBUCKET(ApplicationConstants.BITBUCKET_BRANCH_SOURCE_PLUGIN_NAME),
+    GITHUB(ApplicationConstants.GITHUB_BRANCH_SOURCE_PLUGIN_NAME),
+    GITLAB(ApplicationConstants.GITLAB_BRANCH_SOURCE_PLUGIN_NAME);
+
+    private final String pluginName;
+
+    BranchSourcePlugin(String pluginName) {
+        this.pluginName = pluginName;
+    }
+
+    public String getPluginName() {
+        return pluginName;
+    }
+}
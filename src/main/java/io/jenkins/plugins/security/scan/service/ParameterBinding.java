@@ -0,0 +1,88 @@
+package io.jenkins.plugins.security.scan.service;
+
+import io.jenkins.plugins.security.scan.extension.SecurityScan;
+import io.jenkins.plugins.security.scan.global.ParameterDiagnostics;
+import io.jenkins.plugins.security.scan.global.Utility;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Copies one step field into one scan parameter. A binding only applies to steps implementing its scan type and
+ * skips null or blank values, unless it was created with {@link #nonNull}, which only skips null values. Bindings of
+ * deprecated fields additionally report the deprecated parameter name.
+ */
+public final class ParameterBinding<T> {
+    private final Class<T> scanType;
+    private final String key;
+    private final Function<T, ?> getter;
+    private final String deprecatedKey;
+    private final boolean skipBlank;
+
+    private ParameterBinding(
+            Class<T> scanType, String key, Function<T, ?> getter, String deprecatedKey, boolean skipBlank) {
+        this.scanType = scanType;
+        this.key = key;
+        this.getter = getter;
+        this.deprecatedKey = deprecatedKey;
+        this.skipBlank = skipBlank;
+    }
+
+    public static ParameterBinding<SecurityScan> of(String key, Function<SecurityScan, ?> getter) {
+        return new ParameterBinding<>(SecurityScan.class, key, getter, null, true);
+    }
+
+    public static <T> ParameterBinding<T> of(Class<T> scanType, String key, Function<T, ?> getter) {
+        return new ParameterBinding<>(scanType, key, getter, null, true);
+    }
+
+    /**
+     * A field whose blank values are passed on to Bridge CLI as well.
+     */
+    public static <T> ParameterBinding<T> nonNull(Class<T> scanType, String key, Function<T, ?> getter) {
+        return new ParameterBinding<>(scanType, key, getter, null, false);
+    }
+
+    public static ParameterBinding<SecurityScan> deprecated(
+            String key, Function<SecurityScan, ?> getter, String deprecatedKey) {
+        return new ParameterBinding<>(SecurityScan.class, key, getter, deprecatedKey, true);
+    }
+
+    public static <T> ParameterBinding<T> deprecated(
+            Class<T> scanType, String key, Function<T, ?> getter, String deprecatedKey) {
+        return new ParameterBinding<>(scanType, key, getter, deprecatedKey, true);
+    }
+
+    /**
+     * A deprecated field that is no longer passed on to Bridge CLI, but whose use is still reported.
+     */
+    public static ParameterBinding<SecurityScan> deprecatedOnly(
+            String deprecatedKey, Function<SecurityScan, ?> getter) {
+        return new ParameterBinding<>(SecurityScan.class, null, getter, deprecatedKey, true);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDeprecatedKey() {
+        return deprecatedKey;
+    }
+
+    public void bind(SecurityScan securityScan, Map<String, Object> parameters, ParameterDiagnostics diagnostics) {
+        if (!scanType.isInstance(securityScan)) {
+            return;
+        }
+
+        Object value = getter.apply(scanType.cast(securityScan));
+        if (value == null || (skipBlank && value instanceof String && Utility.isStringNullOrBlank((String) value))) {
+            return;
+        }
+
+        if (key != null) {
+            parameters.put(key, value);
+        }
+        if (deprecatedKey != null) {
+            diagnostics.addDeprecatedParameter(deprecatedKey);
+        }
+    }
+}
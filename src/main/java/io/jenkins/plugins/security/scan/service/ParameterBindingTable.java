@@ -0,0 +1,366 @@
+package io.jenkins.plugins.security.scan.service;
+
+import io.jenkins.plugins.security.scan.extension.SecurityScan;
+import io.jenkins.plugins.security.scan.extension.freestyle.FreestyleScan;
+import io.jenkins.plugins.security.scan.extension.pipeline.FixPrScan;
+import io.jenkins.plugins.security.scan.extension.pipeline.NetworkParams;
+import io.jenkins.plugins.security.scan.extension.pipeline.PrCommentScan;
+import io.jenkins.plugins.security.scan.extension.pipeline.ReturnStatusScan;
+import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+import io.jenkins.plugins.security.scan.global.ParameterDiagnostics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bindings from the pipeline and freestyle step fields to the scan parameters, grouped per product. Within a group
+ * and across {@link #ALL} the order matters: a later binding of the same key wins, which is how a new parameter
+ * takes precedence over its deprecated predecessor and a freestyle tool configuration over the shared one.
+ */
+public final class ParameterBindingTable {
+    public static final List<ParameterBinding<?>> COVERITY = List.of(
+            ParameterBinding.of(ApplicationConstants.COVERITY_URL_KEY, SecurityScan::getCoverity_url),
+            ParameterBinding.of(ApplicationConstants.COVERITY_USER_KEY, SecurityScan::getCoverity_user),
+            ParameterBinding.of(ApplicationConstants.COVERITY_PASSPHRASE_KEY, SecurityScan::getCoverity_passphrase),
+            ParameterBinding.of(ApplicationConstants.COVERITY_PROJECT_NAME_KEY, SecurityScan::getCoverity_project_name),
+            ParameterBinding.of(ApplicationConstants.COVERITY_STREAM_NAME_KEY, SecurityScan::getCoverity_stream_name),
+            ParameterBinding.of(ApplicationConstants.COVERITY_POLICY_VIEW_KEY, SecurityScan::getCoverity_policy_view),
+            ParameterBinding.of(
+                    ApplicationConstants.COVERITY_INSTALL_DIRECTORY_KEY, SecurityScan::getCoverity_install_directory),
+            ParameterBinding.of(ApplicationConstants.COVERITY_VERSION_KEY, SecurityScan::getCoverity_version),
+            ParameterBinding.of(ApplicationConstants.COVERITY_LOCAL_KEY, SecurityScan::isCoverity_local),
+            ParameterBinding.of(ApplicationConstants.PROJECT_DIRECTORY_KEY, SecurityScan::getProject_directory),
+            ParameterBinding.of(
+                    ApplicationConstants.COVERITY_WAITFORSCAN_KEY, SecurityScan::isCoverity_waitForScan_actualValue),
+            ParameterBinding.of(
+                    PrCommentScan.class,
+                    ApplicationConstants.COVERITY_PRCOMMENT_ENABLED_KEY,
+                    PrCommentScan::isCoverity_prComment_enabled_actualValue),
+            ParameterBinding.of(
+                    PrCommentScan.class,
+                    ApplicationConstants.COVERITY_PRCOMMENT_IMPACTS_KEY,
+                    PrCommentScan::getCoverity_prComment_impacts),
+            ParameterBinding.of(
+                    ApplicationConstants.COVERITY_BUILD_COMMAND_KEY, SecurityScan::getCoverity_build_command),
+            ParameterBinding.of(
+                    ApplicationConstants.COVERITY_CLEAN_COMMAND_KEY, SecurityScan::getCoverity_clean_command),
+            ParameterBinding.of(ApplicationConstants.COVERITY_CONFIG_PATH_KEY, SecurityScan::getCoverity_config_path),
+            ParameterBinding.of(ApplicationConstants.COVERITY_ARGS_KEY, SecurityScan::getCoverity_args));
+
+    private static final List<ParameterBinding<?>> POLARIS_PRODUCT = List.of(
+            ParameterBinding.of(ApplicationConstants.POLARIS_SERVER_URL_KEY, SecurityScan::getPolaris_server_url),
+            ParameterBinding.of(ApplicationConstants.POLARIS_ACCESS_TOKEN_KEY, SecurityScan::getPolaris_access_token),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_APPLICATION_NAME_KEY, SecurityScan::getPolaris_application_name),
+            ParameterBinding.of(ApplicationConstants.POLARIS_PROJECT_NAME_KEY, SecurityScan::getPolaris_project_name),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_ASSESSMENT_TYPES_KEY, SecurityScan::getPolaris_assessment_types),
+            ParameterBinding.of(ApplicationConstants.POLARIS_BRANCH_NAME_KEY, SecurityScan::getPolaris_branch_name),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_BRANCH_PARENT_NAME_KEY, SecurityScan::getPolaris_branch_parent_name),
+            ParameterBinding.of(ApplicationConstants.POLARIS_TEST_SCA_TYPE_KEY, SecurityScan::getPolaris_test_sca_type),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_TEST_SAST_TYPE_KEY, SecurityScan::getPolaris_test_sast_type),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_TEST_SCA_LOCATION_KEY, SecurityScan::getPolaris_test_sca_location),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_TEST_SAST_LOCATION_KEY, SecurityScan::getPolaris_test_sast_location),
+            ParameterBinding.deprecatedOnly(
+                    ApplicationConstants.POLARIS_ASSESSMENT_MODE_KEY, SecurityScan::getPolaris_assessment_mode),
+            ParameterBinding.of(ApplicationConstants.PROJECT_DIRECTORY_KEY, SecurityScan::getProject_directory),
+            ParameterBinding.of(
+                    ApplicationConstants.PROJECT_SOURCE_ARCHIVE_KEY, SecurityScan::getProject_source_archive),
+            ParameterBinding.of(
+                    ApplicationConstants.PROJECT_SOURCE_EXCLUDES_KEY, SecurityScan::getProject_source_excludes),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_WAITFORSCAN_KEY, SecurityScan::isPolaris_waitForScan_actualValue),
+            ParameterBinding.of(
+                    ApplicationConstants.PROJECT_SOURCE_PRESERVE_SYM_LINKS_KEY,
+                    SecurityScan::isProject_source_preserveSymLinks_actualValue),
+            ParameterBinding.nonNull(
+                    PrCommentScan.class,
+                    ApplicationConstants.POLARIS_PRCOMMENT_ENABLED_KEY,
+                    PrCommentScan::isPolaris_prComment_enabled_actualValue),
+            ParameterBinding.nonNull(
+                    PrCommentScan.class,
+                    ApplicationConstants.POLARIS_PRCOMMENT_SEVERITIES_KEY,
+                    PrCommentScan::getPolaris_prComment_severities),
+            ParameterBinding.of(
+                    FreestyleScan.class,
+                    ApplicationConstants.COVERITY_BUILD_COMMAND_KEY,
+                    FreestyleScan::getPolaris_sast_build_command),
+            ParameterBinding.of(
+                    FreestyleScan.class,
+                    ApplicationConstants.COVERITY_CLEAN_COMMAND_KEY,
+                    FreestyleScan::getPolaris_sast_clean_command),
+            ParameterBinding.of(
+                    FreestyleScan.class,
+                    ApplicationConstants.COVERITY_CONFIG_PATH_KEY,
+                    FreestyleScan::getPolaris_sast_config_path),
+            ParameterBinding.of(
+                    FreestyleScan.class, ApplicationConstants.COVERITY_ARGS_KEY, FreestyleScan::getPolaris_sast_args),
+            ParameterBinding.of(
+                    FreestyleScan.class,
+                    ApplicationConstants.COVERITY_VERSION_KEY,
+                    FreestyleScan::getPolaris_coverity_version));
+
+    // Bound after BLACKDUCKSCA in ALL, so that the Polaris SCA tool configuration overrides the shared detect_* values
+    private static final List<ParameterBinding<?>> POLARIS_SCA = List.of(
+            ParameterBinding.of(
+                    FreestyleScan.class,
+                    ApplicationConstants.DETECT_SEARCH_DEPTH_KEY,
+                    FreestyleScan::getPolaris_sca_search_depth),
+            ParameterBinding.of(
+                    FreestyleScan.class,
+                    ApplicationConstants.DETECT_CONFIG_PATH_KEY,
+                    FreestyleScan::getPolaris_sca_config_path),
+            ParameterBinding.of(
+                    FreestyleScan.class, ApplicationConstants.DETECT_ARGS_KEY, FreestyleScan::getPolaris_sca_args));
+
+    public static final List<ParameterBinding<?>> POLARIS = concat(POLARIS_PRODUCT, POLARIS_SCA);
+
+    public static final List<ParameterBinding<?>> BLACKDUCKSCA = List.of(
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BLACKDUCKSCA_URL_KEY,
+                    SecurityScan::getBlackduck_url,
+                    ApplicationConstants.BLACKDUCK_URL_KEY),
+            ParameterBinding.of(ApplicationConstants.BLACKDUCKSCA_URL_KEY, SecurityScan::getBlackducksca_url),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY,
+                    SecurityScan::getBlackduck_token,
+                    ApplicationConstants.BLACKDUCK_TOKEN_KEY),
+            ParameterBinding.of(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY, SecurityScan::getBlackducksca_token),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.DETECT_INSTALL_DIRECTORY_KEY,
+                    SecurityScan::getBlackduck_install_directory,
+                    ApplicationConstants.BLACKDUCK_INSTALL_DIRECTORY_KEY),
+            ParameterBinding.of(
+                    ApplicationConstants.DETECT_INSTALL_DIRECTORY_KEY, SecurityScan::getDetect_install_directory),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BLACKDUCKSCA_SCAN_FAILURE_SEVERITIES_KEY,
+                    SecurityScan::getBlackduck_scan_failure_severities,
+                    ApplicationConstants.BLACKDUCK_SCAN_FAILURE_SEVERITIES_KEY),
+            ParameterBinding.of(
+                    ApplicationConstants.BLACKDUCKSCA_SCAN_FAILURE_SEVERITIES_KEY,
+                    SecurityScan::getBlackducksca_scan_failure_severities),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BLACKDUCKSCA_SCAN_FULL_KEY,
+                    SecurityScan::isBlackduckIntelligentScan,
+                    ApplicationConstants.BLACKDUCK_SCAN_FULL_KEY),
+            ParameterBinding.of(
+                    ApplicationConstants.BLACKDUCKSCA_SCAN_FULL_KEY, SecurityScan::isBlackduckscaIntelligentScan),
+            ParameterBinding.deprecated(
+                    PrCommentScan.class,
+                    ApplicationConstants.BLACKDUCKSCA_PRCOMMENT_ENABLED_KEY,
+                    PrCommentScan::isBlackduck_prComment_enabled_actualValue,
+                    ApplicationConstants.BLACKDUCK_PRCOMMENT_ENABLED_KEY),
+            ParameterBinding.of(
+                    PrCommentScan.class,
+                    ApplicationConstants.BLACKDUCKSCA_PRCOMMENT_ENABLED_KEY,
+                    PrCommentScan::isBlackducksca_prComment_enabled_actualValue),
+            ParameterBinding.of(
+                    FixPrScan.class,
+                    ApplicationConstants.BLACKDUCKSCA_FIXPR_ENABLED_KEY,
+                    FixPrScan::isBlackducksca_fixpr_enabled_actualValue),
+            ParameterBinding.of(
+                    FixPrScan.class,
+                    ApplicationConstants.BLACKDUCKSCA_FIXPR_MAXCOUNT_KEY,
+                    FixPrScan::getBlackducksca_fixpr_maxCount),
+            ParameterBinding.of(
+                    FixPrScan.class,
+                    ApplicationConstants.BLACKDUCKSCA_FIXPR_FILTER_SEVERITIES_KEY,
+                    FixPrScan::getBlackducksca_fixpr_filter_severities),
+            ParameterBinding.of(
+                    FixPrScan.class,
+                    ApplicationConstants.BLACKDUCKSCA_FIXPR_USEUPGRADEGUIDANCE_KEY,
+                    FixPrScan::getBlackducksca_fixpr_useUpgradeGuidance),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.DETECT_DOWNLOAD_URL_KEY,
+                    SecurityScan::getBlackduck_download_url,
+                    ApplicationConstants.BLACKDUCK_DOWNLOAD_URL_KEY),
+            ParameterBinding.of(ApplicationConstants.DETECT_DOWNLOAD_URL_KEY, SecurityScan::getDetect_download_url),
+            ParameterBinding.of(ApplicationConstants.PROJECT_DIRECTORY_KEY, SecurityScan::getProject_directory),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BLACKDUCKSCA_WAITFORSCAN_KEY,
+                    SecurityScan::isBlackduck_waitForScan_actualValue,
+                    ApplicationConstants.BLACKDUCK_WAITFORSCAN_KEY),
+            ParameterBinding.of(
+                    ApplicationConstants.BLACKDUCKSCA_WAITFORSCAN_KEY,
+                    SecurityScan::isBlackducksca_waitForScan_actualValue),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.DETECT_SEARCH_DEPTH_KEY,
+                    SecurityScan::getBlackduck_search_depth,
+                    ApplicationConstants.BLACKDUCK_SEARCH_DEPTH_KEY),
+            ParameterBinding.of(ApplicationConstants.DETECT_SEARCH_DEPTH_KEY, SecurityScan::getDetect_search_depth),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.DETECT_CONFIG_PATH_KEY,
+                    SecurityScan::getBlackduck_config_path,
+                    ApplicationConstants.BLACKDUCK_CONFIG_PATH_KEY),
+            ParameterBinding.of(ApplicationConstants.DETECT_CONFIG_PATH_KEY, SecurityScan::getDetect_config_path),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.DETECT_ARGS_KEY,
+                    SecurityScan::getBlackduck_args,
+                    ApplicationConstants.BLACKDUCK_ARGS_KEY),
+            ParameterBinding.of(ApplicationConstants.DETECT_ARGS_KEY, SecurityScan::getDetect_args));
+
+    public static final List<ParameterBinding<?>> SRM = List.of(
+            ParameterBinding.of(ApplicationConstants.SRM_URL_KEY, SecurityScan::getSrm_url),
+            ParameterBinding.of(ApplicationConstants.SRM_APIKEY_KEY, SecurityScan::getSrm_apikey),
+            ParameterBinding.of(ApplicationConstants.SRM_ASSESSMENT_TYPES_KEY, SecurityScan::getSrm_assessment_types),
+            ParameterBinding.of(ApplicationConstants.SRM_PROJECT_NAME_KEY, SecurityScan::getSrm_project_name),
+            ParameterBinding.of(ApplicationConstants.SRM_PROJECT_ID_KEY, SecurityScan::getSrm_project_id),
+            ParameterBinding.of(ApplicationConstants.SRM_BRANCH_NAME_KEY, SecurityScan::getSrm_branch_name),
+            ParameterBinding.of(ApplicationConstants.SRM_BRANCH_PARENT_KEY, SecurityScan::getSrm_branch_parent),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.DETECT_EXECUTION_PATH_KEY,
+                    SecurityScan::getBlackduck_execution_path,
+                    ApplicationConstants.BLACKDUCK_EXECUTION_PATH_KEY),
+            ParameterBinding.of(ApplicationConstants.DETECT_EXECUTION_PATH_KEY, SecurityScan::getDetect_execution_path),
+            ParameterBinding.of(
+                    ApplicationConstants.COVERITY_EXECUTION_PATH_KEY, SecurityScan::getCoverity_execution_path),
+            ParameterBinding.of(ApplicationConstants.PROJECT_DIRECTORY_KEY, SecurityScan::getProject_directory),
+            ParameterBinding.of(ApplicationConstants.SRM_WAITFORSCAN_KEY, SecurityScan::isSrm_waitForScan_actualValue),
+            ParameterBinding.of(
+                    FreestyleScan.class,
+                    ApplicationConstants.DETECT_SEARCH_DEPTH_KEY,
+                    FreestyleScan::getSrm_sca_search_depth),
+            ParameterBinding.of(
+                    FreestyleScan.class,
+                    ApplicationConstants.DETECT_CONFIG_PATH_KEY,
+                    FreestyleScan::getSrm_sca_config_path),
+            ParameterBinding.of(
+                    FreestyleScan.class, ApplicationConstants.DETECT_ARGS_KEY, FreestyleScan::getSrm_sca_args),
+            ParameterBinding.of(
+                    FreestyleScan.class,
+                    ApplicationConstants.COVERITY_BUILD_COMMAND_KEY,
+                    FreestyleScan::getSrm_sast_build_command),
+            ParameterBinding.of(
+                    FreestyleScan.class,
+                    ApplicationConstants.COVERITY_CLEAN_COMMAND_KEY,
+                    FreestyleScan::getSrm_sast_clean_command),
+            ParameterBinding.of(
+                    FreestyleScan.class,
+                    ApplicationConstants.COVERITY_CONFIG_PATH_KEY,
+                    FreestyleScan::getSrm_sast_config_path),
+            ParameterBinding.of(
+                    FreestyleScan.class, ApplicationConstants.COVERITY_ARGS_KEY, FreestyleScan::getSrm_sast_args));
+
+    public static final List<ParameterBinding<?>> SARIF_REPORT = List.of(
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_CREATE_KEY,
+                    SecurityScan::isBlackduck_reports_sarif_create,
+                    ApplicationConstants.BLACKDUCK_REPORTS_SARIF_CREATE_KEY),
+            ParameterBinding.of(
+                    ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_CREATE_KEY,
+                    SecurityScan::isBlackducksca_reports_sarif_create),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_FILE_PATH_KEY,
+                    SecurityScan::getBlackduck_reports_sarif_file_path,
+                    ApplicationConstants.BLACKDUCK_REPORTS_SARIF_FILE_PATH_KEY),
+            ParameterBinding.of(
+                    ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_FILE_PATH_KEY,
+                    SecurityScan::getBlackducksca_reports_sarif_file_path),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_GROUPSCAISSUES_KEY,
+                    SecurityScan::isBlackduck_reports_sarif_groupSCAIssues_temporary,
+                    ApplicationConstants.BLACKDUCK_REPORTS_SARIF_GROUPSCAISSUES_KEY),
+            ParameterBinding.of(
+                    ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_GROUPSCAISSUES_KEY,
+                    SecurityScan::isBlackducksca_reports_sarif_groupSCAIssues_temporary),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_SEVERITIES_KEY,
+                    SecurityScan::getBlackduck_reports_sarif_severities,
+                    ApplicationConstants.BLACKDUCK_REPORTS_SARIF_SEVERITIES_KEY),
+            ParameterBinding.of(
+                    ApplicationConstants.BLACKDUCKSCA_REPORTS_SARIF_SEVERITIES_KEY,
+                    SecurityScan::getBlackducksca_reports_sarif_severities),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_REPORTS_SARIF_CREATE_KEY,
+                    SecurityScan::isPolaris_reports_sarif_create),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_REPORTS_SARIF_FILE_PATH_KEY,
+                    SecurityScan::getPolaris_reports_sarif_file_path),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_REPORTS_SARIF_GROUPSCAISSUES_KEY,
+                    SecurityScan::isPolaris_reports_sarif_groupSCAIssues_temporary),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_REPORTS_SARIF_SEVERITIES_KEY,
+                    SecurityScan::getPolaris_reports_sarif_severities),
+            ParameterBinding.of(
+                    ApplicationConstants.POLARIS_REPORTS_SARIF_ISSUE_TYPES_KEY,
+                    SecurityScan::getPolaris_reports_sarif_issue_types));
+
+    public static final List<ParameterBinding<?>> SCM = List.of(
+            ParameterBinding.of(ApplicationConstants.BITBUCKET_USERNAME_KEY, SecurityScan::getBitbucket_username),
+            ParameterBinding.of(ApplicationConstants.BITBUCKET_TOKEN_KEY, SecurityScan::getBitbucket_token),
+            ParameterBinding.of(ApplicationConstants.GITLAB_TOKEN_KEY, SecurityScan::getGitlab_token),
+            ParameterBinding.of(ApplicationConstants.GITHUB_TOKEN_KEY, SecurityScan::getGithub_token));
+
+    public static final List<ParameterBinding<?>> ADDITIONAL = List.of(
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BRIDGECLI_DOWNLOAD_URL,
+                    SecurityScan::getSynopsys_bridge_download_url,
+                    ApplicationConstants.SYNOPSYS_BRIDGE_DOWNLOAD_URL),
+            ParameterBinding.of(ApplicationConstants.BRIDGECLI_DOWNLOAD_URL, SecurityScan::getBridgecli_download_url),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BRIDGECLI_DOWNLOAD_VERSION,
+                    SecurityScan::getSynopsys_bridge_download_version,
+                    ApplicationConstants.SYNOPSYS_BRIDGE_DOWNLOAD_VERSION),
+            ParameterBinding.of(
+                    ApplicationConstants.BRIDGECLI_DOWNLOAD_VERSION, SecurityScan::getBridgecli_download_version),
+            ParameterBinding.deprecated(
+                    ApplicationConstants.BRIDGECLI_INSTALL_DIRECTORY,
+                    SecurityScan::getSynopsys_bridge_install_directory,
+                    ApplicationConstants.SYNOPSYS_BRIDGE_INSTALL_DIRECTORY),
+            ParameterBinding.of(
+                    ApplicationConstants.BRIDGECLI_INSTALL_DIRECTORY, SecurityScan::getBridgecli_install_directory),
+            ParameterBinding.of(ApplicationConstants.INCLUDE_DIAGNOSTICS_KEY, SecurityScan::isInclude_diagnostics),
+            ParameterBinding.of(ApplicationConstants.MARK_BUILD_STATUS, SecurityScan::getMark_build_status),
+            ParameterBinding.of(
+                    NetworkParams.class, ApplicationConstants.NETWORK_AIRGAP_KEY, NetworkParams::isNetwork_airgap),
+            ParameterBinding.of(
+                    NetworkParams.class,
+                    ApplicationConstants.NETWORK_SSL_CERT_FILE_KEY,
+                    NetworkParams::getNetwork_ssl_cert_file),
+            ParameterBinding.of(
+                    NetworkParams.class,
+                    ApplicationConstants.NETWORK_SSL_TRUSTALL_KEY,
+                    NetworkParams::isNetwork_ssl_trustAll));
+
+    public static final List<ParameterBinding<?>> RETURN_STATUS = List.of(
+            ParameterBinding.of(
+                    ReturnStatusScan.class, ApplicationConstants.RETURN_STATUS_KEY, ReturnStatusScan::isReturn_status));
+
+    public static final List<ParameterBinding<?>> ALL = concat(
+            COVERITY, POLARIS_PRODUCT, BLACKDUCKSCA, POLARIS_SCA, SRM, SARIF_REPORT, SCM, ADDITIONAL, RETURN_STATUS);
+
+    private ParameterBindingTable() {}
+
+    @SafeVarargs
+    private static List<ParameterBinding<?>> concat(List<ParameterBinding<?>>... groups) {
+        return Stream.of(groups).flatMap(List::stream).collect(Collectors.toUnmodifiableList());
+    }
+
+    public static Map<String, Object> bind(
+            List<ParameterBinding<?>> bindings, SecurityScan securityScan, ParameterDiagnostics diagnostics) {
+        Map<String, Object> parameters = new HashMap<>(expectedCapacity(bindings));
+        bindAll(bindings, securityScan, parameters, diagnostics);
+        return parameters;
+    }
+
+    public static void bindAll(
+            List<ParameterBinding<?>> bindings,
+            SecurityScan securityScan,
+            Map<String, Object> parameters,
+            ParameterDiagnostics diagnostics) {
+        for (ParameterBinding<?> binding : bindings) {
+            binding.bind(securityScan, parameters, diagnostics);
+        }
+    }
+
+    public static int expectedCapacity(List<ParameterBinding<?>> bindings) {
+        return (int) (bindings.size() / 0.75f) + 1;
+    }
+}
@@ -1,7 +1,7 @@
 package io.jenkins.plugins.security.scan.service;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import hudson.EnvVars;
 import hudson.FilePath;
 import hudson.model.TaskListener;
@@ -9,7 +9,9 @@ import io.jenkins.plugins.security.scan.bridge.BridgeDownloadParameters;
 import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
 import io.jenkins.plugins.security.scan.global.BridgeParams;
+import io.jenkins.plugins.security.scan.global.JsonMapperProvider;
 import io.jenkins.plugins.security.scan.global.LoggerWrapper;
+import io.jenkins.plugins.security.scan.global.ScanConfiguration;
 import io.jenkins.plugins.security.scan.global.Utility;
 import io.jenkins.plugins.security.scan.global.enums.InvokedFrom;
 import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
@@ -29,26 +31,40 @@ import io.jenkins.plugins.security.scan.input.scm.bitbucket.Bitbucket;
 import io.jenkins.plugins.security.scan.input.scm.github.Github;
 import io.jenkins.plugins.security.scan.input.scm.gitlab.Gitlab;
 import io.jenkins.plugins.security.scan.input.srm.SRM;
-import io.jenkins.plugins.security.scan.service.scan.ScanParametersService;
 import io.jenkins.plugins.security.scan.service.scan.blackducksca.BlackDuckSCAParametersService;
 import io.jenkins.plugins.security.scan.service.scan.blackducksca.DetectParametersService;
 import io.jenkins.plugins.security.scan.service.scan.coverity.CoverityParametersService;
 import io.jenkins.plugins.security.scan.service.scan.polaris.PolarisParametersService;
 import io.jenkins.plugins.security.scan.service.scan.srm.SRMParametersService;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
+import io.jenkins.plugins.security.scan.service.scm.RepositoryContext;
 import io.jenkins.plugins.security.scan.service.scm.SCMRepositoryService;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.*;
+import jenkins.util.SystemProperties;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 
 public class ToolsParameterService {
     private final TaskListener listener;
     private final EnvVars envVars;
+    private final JobContext jobContext;
     private final FilePath workspace;
     private static final String DATA_KEY = "data";
     private final LoggerWrapper logger;
+    private volatile Map.Entry<ScanConfiguration, RepositoryContext> preparedRepositoryContext;
 
     public ToolsParameterService(TaskListener listener, EnvVars envVars, FilePath workspace) {
+        this(listener, new JobContext(listener, envVars), workspace);
+    }
+
+    public ToolsParameterService(TaskListener listener, JobContext jobContext, FilePath workspace) {
         this.listener = listener;
-        this.envVars = envVars;
+        this.envVars = jobContext.getEnvVars();
+        this.jobContext = jobContext;
         this.workspace = workspace;
         this.logger = new LoggerWrapper(listener);
     }
@@ -58,13 +74,21 @@ public class ToolsParameterService {
             FilePath bridgeInstallationPath,
             BridgeDownloadParameters bridgeDownloadParams)
             throws PluginExceptionHandler {
+        return getCommandLineArgs(ScanConfiguration.from(scanParameters), bridgeInstallationPath, bridgeDownloadParams);
+    }
+
+    public List<String> getCommandLineArgs(
+            ScanConfiguration scanConfiguration,
+            FilePath bridgeInstallationPath,
+            BridgeDownloadParameters bridgeDownloadParams)
+            throws PluginExceptionHandler {
         List<String> commandLineArgs = new ArrayList<>();
 
         commandLineArgs.add(getBridgeRunCommand(bridgeInstallationPath));
 
-        commandLineArgs.addAll(getSecurityProductSpecificCommands(scanParameters, bridgeDownloadParams));
+        commandLineArgs.addAll(getSecurityProductSpecificCommands(scanConfiguration, bridgeDownloadParams));
 
-        if (Objects.equals(scanParameters.get(ApplicationConstants.INCLUDE_DIAGNOSTICS_KEY), true)) {
+        if (scanConfiguration.isIncludeDiagnostics()) {
             commandLineArgs.add(BridgeParams.DIAGNOSTICS_OPTION);
         }
 
@@ -86,78 +110,173 @@ public class ToolsParameterService {
     }
 
     private List<String> getSecurityProductSpecificCommands(
-            Map<String, Object> scanParameters, BridgeDownloadParameters bridgeDownloadParams)
+            ScanConfiguration scanConfiguration, BridgeDownloadParameters bridgeDownloadParams)
+            throws PluginExceptionHandler {
+        RepositoryContext repositoryContext = getRepositoryContext(scanConfiguration);
+        Object scmObject = repositoryContext.getScmObject();
+        List<StageInput> stageInputs = getStageInputs(scanConfiguration, repositoryContext, bridgeDownloadParams);
+
+        if (stageInputs.size() > 1 && isCombinedInputEnabled()) {
+            if (haveSameProject(stageInputs)) {
+                return getCombinedStageCommands(scanConfiguration, stageInputs, scmObject);
+            }
+            logger.info(ApplicationConstants.COMBINED_INPUT_JSON_NOT_POSSIBLE);
+        }
+
+        List<String> scanCommands = new ArrayList<>();
+        for (StageInput stageInput : stageInputs) {
+            scanCommands.add(BridgeParams.STAGE_OPTION);
+            scanCommands.add(stageInput.stage);
+            scanCommands.add(BridgeParams.INPUT_OPTION);
+            scanCommands.add(prepareBridgeInputJson(
+                    scanConfiguration,
+                    stageInput.scanObject,
+                    scmObject,
+                    stageInput.jsonPrefix,
+                    stageInput.project));
+            scanCommands.add(BridgeParams.OUT_OPTION);
+            scanCommands.add(ApplicationConstants.SCAN_INFO_OUT_FILE_NAME);
+        }
+
+        return scanCommands;
+    }
+
+    /**
+     * One Bridge CLI command line per selected product, each writing its results to a product specific output file,
+     * so that the products can be scanned by separate Bridge CLI processes.
+     */
+    public List<ProductCommandLine> getProductCommandLines(
+            ScanConfiguration scanConfiguration,
+            FilePath bridgeInstallationPath,
+            BridgeDownloadParameters bridgeDownloadParams)
             throws PluginExceptionHandler {
-        ScanParametersService scanParametersService = new ScanParametersService(listener);
-        Set<String> securityProducts = scanParametersService.getSecurityProducts(scanParameters);
+        String bridgeRunCommand = getBridgeRunCommand(bridgeInstallationPath);
+        RepositoryContext repositoryContext = getRepositoryContext(scanConfiguration);
+        Object scmObject = repositoryContext.getScmObject();
+
+        List<ProductCommandLine> productCommandLines = new ArrayList<>();
+        for (StageInput stageInput : getStageInputs(scanConfiguration, repositoryContext, bridgeDownloadParams)) {
+            String product = stageInput.product.name().toLowerCase();
+            String scanInfoOutFile = String.format(ApplicationConstants.PRODUCT_SCAN_INFO_OUT_FILE_NAME, product);
+
+            List<String> commandLineArgs = new ArrayList<>();
+            commandLineArgs.add(bridgeRunCommand);
+            commandLineArgs.add(BridgeParams.STAGE_OPTION);
+            commandLineArgs.add(stageInput.stage);
+            commandLineArgs.add(BridgeParams.INPUT_OPTION);
+            commandLineArgs.add(prepareBridgeInputJson(
+                    scanConfiguration,
+                    stageInput.scanObject,
+                    scmObject,
+                    stageInput.jsonPrefix,
+                    stageInput.project));
+            commandLineArgs.add(BridgeParams.OUT_OPTION);
+            commandLineArgs.add(scanInfoOutFile);
+            if (scanConfiguration.isIncludeDiagnostics()) {
+                commandLineArgs.add(BridgeParams.DIAGNOSTICS_OPTION);
+            }
+
+            productCommandLines.add(new ProductCommandLine(product, commandLineArgs, scanInfoOutFile));
+        }
+
+        return productCommandLines;
+    }
+
+    private List<StageInput> getStageInputs(
+            ScanConfiguration scanConfiguration,
+            RepositoryContext repositoryContext,
+            BridgeDownloadParameters bridgeDownloadParams) {
+        List<StageInput> stageInputs = new ArrayList<>();
+        addBlackDuckScaStage(scanConfiguration, stageInputs);
+        addCoverityStage(scanConfiguration, stageInputs, repositoryContext, bridgeDownloadParams);
+        addPolarisStage(scanConfiguration, stageInputs, repositoryContext);
+        addSrmStage(scanConfiguration, stageInputs, repositoryContext);
+        return stageInputs;
+    }
 
+    // One input file holding the sections of all selected products, shared sections are built and written once
+    private List<String> getCombinedStageCommands(
+            ScanConfiguration scanConfiguration, List<StageInput> stageInputs, Object scmObject) {
+        Map<String, Object> scanParameters = scanConfiguration.getParameters();
+        BridgeInput bridgeInput = new BridgeInput();
         List<String> scanCommands = new ArrayList<>();
-        Object scmObject = getScmObject(scanParameters);
 
-        setBlackDuckScaCommands(scanParameters, securityProducts, scanCommands, scmObject);
-        setCoverityCommands(scanParameters, securityProducts, scanCommands, scmObject, bridgeDownloadParams);
-        setPolarisCommands(scanParameters, securityProducts, scanCommands, scmObject);
-        setSrmCommands(scanParameters, securityProducts, scanCommands, scmObject);
+        for (StageInput stageInput : stageInputs) {
+            setScanObject(bridgeInput, stageInput.scanObject, scanParameters);
+            scanCommands.add(BridgeParams.STAGE_OPTION);
+            scanCommands.add(stageInput.stage);
+        }
+        setSharedObjects(bridgeInput, scanConfiguration, scmObject, stageInputs.get(0).project);
+
+        scanCommands.add(BridgeParams.INPUT_OPTION);
+        scanCommands.add(writeBridgeInputToFile(bridgeInput, ApplicationConstants.COMBINED_INPUT_JSON_PREFIX));
+        scanCommands.add(BridgeParams.OUT_OPTION);
+        scanCommands.add(ApplicationConstants.SCAN_INFO_OUT_FILE_NAME);
 
         return scanCommands;
     }
 
-    private void setBlackDuckScaCommands(
-            Map<String, Object> scanParameters,
-            Set<String> securityProducts,
-            List<String> scanCommands,
-            Object scmObject) {
-        if (securityProducts.contains(SecurityProduct.BLACKDUCK.name())
-                || securityProducts.contains(SecurityProduct.BLACKDUCKSCA.name())) {
+    private boolean haveSameProject(List<StageInput> stageInputs) {
+        Project project = stageInputs.get(0).project;
+        for (StageInput stageInput : stageInputs) {
+            if (!Objects.equals(project, stageInput.project)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isCombinedInputEnabled() {
+        return SystemProperties.getBoolean(ToolsParameterService.class.getName() + ".combinedInput", false);
+    }
+
+    private void addBlackDuckScaStage(ScanConfiguration scanConfiguration, List<StageInput> stageInputs) {
+        if (scanConfiguration.isBlackDuckSCAScan()) {
+            Map<String, Object> scanParameters = scanConfiguration.getParameters();
             BlackDuckSCAParametersService blackDuckSCAParametersService =
-                    new BlackDuckSCAParametersService(listener, envVars);
+                    new BlackDuckSCAParametersService(listener, jobContext);
             BlackDuckSCA blackDuckSCA =
                     blackDuckSCAParametersService.prepareBlackDuckSCAObjectForBridge(scanParameters);
             Project project = blackDuckSCAParametersService.prepareProjectObjectForBridge(scanParameters);
 
-            scanCommands.add(BridgeParams.STAGE_OPTION);
-            scanCommands.add(BridgeParams.BLACKDUCKSCA_STAGE);
-            scanCommands.add(BridgeParams.INPUT_OPTION);
-            scanCommands.add(prepareBridgeInputJson(
-                    scanParameters,
+            stageInputs.add(new StageInput(
+                    SecurityProduct.BLACKDUCKSCA,
+                    BridgeParams.BLACKDUCKSCA_STAGE,
                     blackDuckSCA,
-                    scmObject,
-                    ApplicationConstants.BLACKDUCKSCA_INPUT_JSON_PREFIX,
-                    project));
-            scanCommands.add(BridgeParams.OUT_OPTION);
-            scanCommands.add(ApplicationConstants.SCAN_INFO_OUT_FILE_NAME);
+                    project,
+                    ApplicationConstants.BLACKDUCKSCA_INPUT_JSON_PREFIX));
         }
     }
 
-    private void setCoverityCommands(
-            Map<String, Object> scanParameters,
-            Set<String> securityProducts,
-            List<String> scanCommands,
-            Object scmObject,
+    private void addCoverityStage(
+            ScanConfiguration scanConfiguration,
+            List<StageInput> stageInputs,
+            RepositoryContext repositoryContext,
             BridgeDownloadParameters bridgeDownloadParams) {
-        if (securityProducts.contains(SecurityProduct.COVERITY.name())) {
+        if (scanConfiguration.hasSecurityProduct(SecurityProduct.COVERITY)) {
+            Map<String, Object> scanParameters = scanConfiguration.getParameters();
             CoverityParametersService coverityParametersService =
-                    new CoverityParametersService(listener, envVars, bridgeDownloadParams);
+                    new CoverityParametersService(listener, jobContext, bridgeDownloadParams, repositoryContext);
             Coverity coverity = coverityParametersService.prepareCoverityObjectForBridge(scanParameters);
             Project project = coverityParametersService.prepareProjectObjectForBridge(scanParameters);
 
-            scanCommands.add(BridgeParams.STAGE_OPTION);
-            scanCommands.add(BridgeParams.COVERITY_STAGE);
-            scanCommands.add(BridgeParams.INPUT_OPTION);
-            scanCommands.add(prepareBridgeInputJson(
-                    scanParameters, coverity, scmObject, ApplicationConstants.COVERITY_INPUT_JSON_PREFIX, project));
-            scanCommands.add(BridgeParams.OUT_OPTION);
-            scanCommands.add(ApplicationConstants.SCAN_INFO_OUT_FILE_NAME);
+            stageInputs.add(new StageInput(
+                    SecurityProduct.COVERITY,
+                    BridgeParams.COVERITY_STAGE,
+                    coverity,
+                    project,
+                    ApplicationConstants.COVERITY_INPUT_JSON_PREFIX));
         }
     }
 
-    private void setPolarisCommands(
-            Map<String, Object> scanParameters,
-            Set<String> securityProducts,
-            List<String> scanCommands,
-            Object scmObject) {
-        if (securityProducts.contains(SecurityProduct.POLARIS.name())) {
-            PolarisParametersService polarisParametersService = new PolarisParametersService(listener, envVars);
+    private void addPolarisStage(
+            ScanConfiguration scanConfiguration,
+            List<StageInput> stageInputs,
+            RepositoryContext repositoryContext) {
+        if (scanConfiguration.hasSecurityProduct(SecurityProduct.POLARIS)) {
+            Map<String, Object> scanParameters = scanConfiguration.getParameters();
+            PolarisParametersService polarisParametersService =
+                    new PolarisParametersService(listener, jobContext, repositoryContext);
             Polaris polaris = polarisParametersService.preparePolarisObjectForBridge(scanParameters);
             Project project = polarisParametersService.prepareProjectObjectForBridge(scanParameters);
 
@@ -171,33 +290,32 @@ public class ToolsParameterService {
                 }
             }
 
-            scanCommands.add(BridgeParams.STAGE_OPTION);
-            scanCommands.add(BridgeParams.POLARIS_STAGE);
-            scanCommands.add(BridgeParams.INPUT_OPTION);
-            scanCommands.add(prepareBridgeInputJson(
-                    scanParameters, polaris, scmObject, ApplicationConstants.POLARIS_INPUT_JSON_PREFIX, project));
-            scanCommands.add(BridgeParams.OUT_OPTION);
-            scanCommands.add(ApplicationConstants.SCAN_INFO_OUT_FILE_NAME);
+            stageInputs.add(new StageInput(
+                    SecurityProduct.POLARIS,
+                    BridgeParams.POLARIS_STAGE,
+                    polaris,
+                    project,
+                    ApplicationConstants.POLARIS_INPUT_JSON_PREFIX));
         }
     }
 
-    private void setSrmCommands(
-            Map<String, Object> scanParameters,
-            Set<String> securityProducts,
-            List<String> scanCommands,
-            Object scmObject) {
-        if (securityProducts.contains(SecurityProduct.SRM.name())) {
-            SRMParametersService srmParametersService = new SRMParametersService(listener, envVars);
+    private void addSrmStage(
+            ScanConfiguration scanConfiguration,
+            List<StageInput> stageInputs,
+            RepositoryContext repositoryContext) {
+        if (scanConfiguration.hasSecurityProduct(SecurityProduct.SRM)) {
+            Map<String, Object> scanParameters = scanConfiguration.getParameters();
+            SRMParametersService srmParametersService =
+                    new SRMParametersService(listener, jobContext, repositoryContext);
             SRM srm = srmParametersService.prepareSrmObjectForBridge(scanParameters);
             Project project = srmParametersService.prepareProjectObjectForBridge(scanParameters);
 
-            scanCommands.add(BridgeParams.STAGE_OPTION);
-            scanCommands.add(BridgeParams.SRM_STAGE);
-            scanCommands.add(BridgeParams.INPUT_OPTION);
-            scanCommands.add(prepareBridgeInputJson(
-                    scanParameters, srm, scmObject, ApplicationConstants.SRM_INPUT_JSON_PREFIX, project));
-            scanCommands.add(BridgeParams.OUT_OPTION);
-            scanCommands.add(ApplicationConstants.SCAN_INFO_OUT_FILE_NAME);
+            stageInputs.add(new StageInput(
+                    SecurityProduct.SRM,
+                    BridgeParams.SRM_STAGE,
+                    srm,
+                    project,
+                    ApplicationConstants.SRM_INPUT_JSON_PREFIX));
         }
     }
 
@@ -207,40 +325,91 @@ public class ToolsParameterService {
             Object scmObject,
             String jsonPrefix,
             Project project) {
+        return prepareBridgeInputJson(
+                ScanConfiguration.from(scanParameters), scanObject, scmObject, jsonPrefix, project);
+    }
+
+    private String prepareBridgeInputJson(
+            ScanConfiguration scanConfiguration,
+            Object scanObject,
+            Object scmObject,
+            String jsonPrefix,
+            Project project) {
         BridgeInput bridgeInput = new BridgeInput();
 
-        setScanObject(bridgeInput, scanObject, scanParameters);
+        setScanObject(bridgeInput, scanObject, scanConfiguration.getParameters());
+
+        setSharedObjects(bridgeInput, scanConfiguration, scmObject, project);
+
+        return writeBridgeInputToFile(bridgeInput, jsonPrefix);
+    }
+
+    private void setSharedObjects(
+            BridgeInput bridgeInput, ScanConfiguration scanConfiguration, Object scmObject, Project project) {
+        Map<String, Object> scanParameters = scanConfiguration.getParameters();
 
         setProjectObject(bridgeInput, project);
 
-        setScmObject(bridgeInput, scmObject, scanParameters);
+        setScmObject(bridgeInput, scmObject, scanConfiguration);
 
         setInvokedFrom(bridgeInput);
 
         setNetworkObject(bridgeInput, scanParameters);
 
         setDetectObject(scanParameters, bridgeInput);
-
-        String inputJson = createBridgeInputJson(bridgeInput);
-
-        return writeInputJsonToFile(inputJson, jsonPrefix);
     }
 
-    private String createBridgeInputJson(BridgeInput bridgeInput) {
-        Map<String, Object> inputJsonMap = new HashMap<>();
-        inputJsonMap.put(DATA_KEY, bridgeInput);
-
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+    String writeBridgeInputToFile(BridgeInput bridgeInput, String jsonPrefix) {
+        FilePath parentWorkspacePath = workspace.getParent();
+        if (parentWorkspacePath == null) {
+            logger.error(ApplicationConstants.FAILED_TO_CREATE_JSON_FILE_IN_WORKSPACE_PARENT_PATH);
+            return null;
+        }
 
+        FilePath tempFile = null;
         try {
-            return mapper.writeValueAsString(inputJsonMap);
-        } catch (Exception e) {
+            tempFile = parentWorkspacePath.createTempFile(jsonPrefix, ".json");
+            MessageDigest digest = DigestUtils.getSha256Digest();
+
+            try (OutputStream outputStream = new DigestOutputStream(tempFile.write(), digest);
+                    JsonGenerator generator =
+                            JsonMapperProvider.writer().createGenerator(outputStream, JsonEncoding.UTF8)) {
+                generator.writeStartObject();
+                generator.writeFieldName(DATA_KEY);
+                JsonMapperProvider.writer().writeValue(generator, bridgeInput);
+                generator.writeEndObject();
+            }
+
+            logger.info(
+                    ApplicationConstants.BRIDGE_INPUT_JSON_WRITTEN,
+                    tempFile.getRemote(),
+                    Hex.encodeHexString(digest.digest()));
+            return tempFile.getRemote();
+        } catch (IOException e) {
             logger.error(ApplicationConstants.CREATING_INPUT_JSON_FILE_EXCEPTION, e.getMessage());
+        } catch (InterruptedException e) {
+            logger.error(ApplicationConstants.WRITING_INTO_JSON_FILE_EXCEPTION, e.getMessage());
+            Thread.currentThread().interrupt();
         }
+
+        deleteQuietly(tempFile);
         return null;
     }
 
+    private void deleteQuietly(FilePath file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.delete();
+        } catch (IOException e) {
+            logger.error(ApplicationConstants.DELETING_FILE_EXCEPTION, e.getMessage());
+        } catch (InterruptedException e) {
+            logger.error(ApplicationConstants.DELETING_FILE_EXCEPTION, e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void setDetectObject(Map<String, Object> scanParameters, BridgeInput bridgeInput) {
         DetectParametersService detectParametersService = new DetectParametersService();
         Detect detect = detectParametersService.prepareDetectObject(scanParameters);
@@ -273,20 +442,37 @@ public class ToolsParameterService {
         }
     }
 
-    private Object getScmObject(Map<String, Object> scanParameters) throws PluginExceptionHandler {
-        SCMRepositoryService scmRepositoryService = new SCMRepositoryService(listener, envVars);
-        Object scmObject = null;
-        String jobType = Utility.jenkinsJobType(envVars);
-        if (jobType.equalsIgnoreCase(ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME)) {
-            scmObject = scmRepositoryService.fetchSCMRepositoryDetails(
-                    Utility.installedBranchSourceDependencies(), scanParameters);
+    /**
+     * Resolves the SCM repository details ahead of {@link #getCommandLineArgs}, which then reuses them for the same
+     * scan configuration instead of querying the SCM again. The lookups log to the given listener.
+     */
+    public void prepareRepositoryContext(ScanConfiguration scanConfiguration, TaskListener listener)
+            throws PluginExceptionHandler {
+        RepositoryContext repositoryContext = getRepositoryContext(scanConfiguration.getParameters(), listener);
+        preparedRepositoryContext = new AbstractMap.SimpleImmutableEntry<>(scanConfiguration, repositoryContext);
+    }
+
+    private RepositoryContext getRepositoryContext(ScanConfiguration scanConfiguration) throws PluginExceptionHandler {
+        Map.Entry<ScanConfiguration, RepositoryContext> prepared = preparedRepositoryContext;
+        if (prepared != null && prepared.getKey() == scanConfiguration) {
+            return prepared.getValue();
+        }
+        return getRepositoryContext(scanConfiguration.getParameters(), listener);
+    }
+
+    private RepositoryContext getRepositoryContext(Map<String, Object> scanParameters, TaskListener listener)
+            throws PluginExceptionHandler {
+        RepositoryContext repositoryContext = RepositoryContext.EMPTY;
+        if (jobContext.isMultibranchJob()) {
+            SCMRepositoryService scmRepositoryService = new SCMRepositoryService(listener, envVars);
+            repositoryContext = scmRepositoryService.fetchRepositoryContext(jobContext, scanParameters);
         }
-        return scmObject;
+        return repositoryContext;
     }
 
-    private void setScmObject(BridgeInput bridgeInput, Object scmObject, Map<String, Object> scanParameters) {
-        boolean isPrCommentSet = isPrCommentValueSet(scanParameters);
-        boolean isFixPrSet = isFixPrValueSet(scanParameters);
+    private void setScmObject(BridgeInput bridgeInput, Object scmObject, ScanConfiguration scanConfiguration) {
+        boolean isPrCommentSet = scanConfiguration.isPrCommentEnabled();
+        boolean isFixPrSet = scanConfiguration.isFixPrEnabled();
         boolean isPullRequestEvent = Utility.isPullRequestEvent(envVars);
         if ((isPrCommentSet && isPullRequestEvent) || (isFixPrSet && !isPullRequestEvent)) {
             if (scmObject instanceof Bitbucket) {
@@ -300,11 +486,7 @@ public class ToolsParameterService {
     }
 
     private void setInvokedFrom(BridgeInput bridgeInput) {
-        SCMRepositoryService scmRepositoryService = new SCMRepositoryService(listener, envVars);
-        InvokedFrom invokedFrom = scmRepositoryService.getInvokedFrom(
-                Utility.installedBranchSourceDependencies(),
-                Utility.jenkinsJobType(envVars),
-                scmRepositoryService.findSCMSource());
+        InvokedFrom invokedFrom = jobContext.getInvokedFrom();
         if (invokedFrom != null) {
             Bridge bridge = new Bridge();
             Invoked invoked = new Invoked();
@@ -341,51 +523,18 @@ public class ToolsParameterService {
     private void setSastArbitaryInputs(BridgeInput bridgeInput, Map<String, Object> scanParameters) {
         CoverityParametersService coverityParametersService = new CoverityParametersService(listener, envVars);
         Coverity coverity = coverityParametersService.setArbitaryInputs(scanParameters, null);
-        if (coverity != null) {
+        // A combined input that already holds the Coverity section carries the same arbitrary inputs
+        if (coverity != null && bridgeInput.getCoverity() == null) {
             bridgeInput.setCoverity(coverity);
         }
     }
 
-    public String writeInputJsonToFile(String inputJson, String jsonPrefix) {
-        String inputJsonPath = null;
-
-        try {
-            FilePath parentWorkspacePath = workspace.getParent();
-            if (parentWorkspacePath != null) {
-                FilePath tempFile = parentWorkspacePath.createTempFile(jsonPrefix, ".json");
-                tempFile.write(inputJson, StandardCharsets.UTF_8.name());
-                inputJsonPath = tempFile.getRemote();
-            } else {
-                logger.error(ApplicationConstants.FAILED_TO_CREATE_JSON_FILE_IN_WORKSPACE_PARENT_PATH);
-            }
-        } catch (Exception e) {
-            logger.error(ApplicationConstants.WRITING_INTO_JSON_FILE_EXCEPTION, e.getMessage());
-            Thread.currentThread().interrupt();
-        }
-
-        return inputJsonPath;
-    }
-
     public static boolean isPrCommentValueSet(Map<String, Object> scanParameters) {
-        if (scanParameters.containsKey(ApplicationConstants.BLACKDUCKSCA_PRCOMMENT_ENABLED_KEY)
-                && Objects.equals(scanParameters.get(ApplicationConstants.BLACKDUCKSCA_PRCOMMENT_ENABLED_KEY), true)) {
-            return true;
-        } else if (scanParameters.containsKey(ApplicationConstants.COVERITY_PRCOMMENT_ENABLED_KEY)
-                && Objects.equals(scanParameters.get(ApplicationConstants.COVERITY_PRCOMMENT_ENABLED_KEY), true)) {
-            return true;
-        } else if (scanParameters.containsKey(ApplicationConstants.POLARIS_PRCOMMENT_ENABLED_KEY)
-                && Objects.equals(scanParameters.get(ApplicationConstants.POLARIS_PRCOMMENT_ENABLED_KEY), true)) {
-            return true;
-        }
-        return false;
+        return ScanConfiguration.isPrCommentEnabled(scanParameters);
     }
 
     public static boolean isFixPrValueSet(Map<String, Object> scanParameters) {
-        if (scanParameters.containsKey(ApplicationConstants.BLACKDUCKSCA_FIXPR_ENABLED_KEY)
-                && Objects.equals(scanParameters.get(ApplicationConstants.BLACKDUCKSCA_FIXPR_ENABLED_KEY), true)) {
-            return true;
-        }
-        return false;
+        return ScanConfiguration.isFixPrEnabled(scanParameters);
     }
 
     public void removeTemporaryInputJson(List<String> commandLineArgs) {
@@ -395,4 +544,45 @@ public class ToolsParameterService {
             }
         }
     }
+
+    public static final class ProductCommandLine {
+        private final String product;
+        private final List<String> commandLineArgs;
+        private final String scanInfoOutFile;
+
+        ProductCommandLine(String product, List<String> commandLineArgs, String scanInfoOutFile) {
+            this.product = product;
+            this.commandLineArgs = commandLineArgs;
+            this.scanInfoOutFile = scanInfoOutFile;
+        }
+
+        public String getProduct() {
+            return product;
+        }
+
+        public List<String> getCommandLineArgs() {
+            return commandLineArgs;
+        }
+
+        public String getScanInfoOutFile() {
+            return scanInfoOutFile;
+        }
+    }
+
+    private static final class StageInput {
+        private final SecurityProduct product;
+        private final String stage;
+        private final Object scanObject;
+        private final Project project;
+        private final String jsonPrefix;
+
+        private StageInput(
+                SecurityProduct product, String stage, Object scanObject, Project project, String jsonPrefix) {
+            this.product = product;
+            this.stage = stage;
+            this.scanObject = scanObject;
+            this.project = project;
+            this.jsonPrefix = jsonPrefix;
+        }
+    }
 }
@@ -5,15 +5,16 @@ import hudson.model.TaskListener;
 import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
 import io.jenkins.plugins.security.scan.global.ErrorCode;
+import io.jenkins.plugins.security.scan.global.ScanConfiguration;
 import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
 import io.jenkins.plugins.security.scan.service.scan.blackducksca.BlackDuckSCAParametersService;
 import io.jenkins.plugins.security.scan.service.scan.coverity.CoverityParametersService;
 import io.jenkins.plugins.security.scan.service.scan.polaris.PolarisParametersService;
 import io.jenkins.plugins.security.scan.service.scan.srm.SRMParametersService;
-import java.util.Arrays;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
+import io.jenkins.plugins.security.scan.service.scm.RepositoryContext;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class ScanParametersService {
     private final TaskListener listener;
@@ -24,30 +25,42 @@ public class ScanParametersService {
 
     public boolean performScanParameterValidation(Map<String, Object> scanParameters, EnvVars envVars)
             throws PluginExceptionHandler {
-        Set<String> securityProducts = getSecurityProducts(scanParameters);
+        return performScanParameterValidation(ScanConfiguration.from(scanParameters), envVars);
+    }
+
+    public boolean performScanParameterValidation(ScanConfiguration scanConfiguration, EnvVars envVars)
+            throws PluginExceptionHandler {
+        return performScanParameterValidation(scanConfiguration, new JobContext(listener, envVars));
+    }
 
-        if (securityProducts.contains(SecurityProduct.BLACKDUCK.name())
-                || securityProducts.contains(SecurityProduct.BLACKDUCKSCA.name())) {
+    public boolean performScanParameterValidation(ScanConfiguration scanConfiguration, JobContext jobContext)
+            throws PluginExceptionHandler {
+        Map<String, Object> scanParameters = scanConfiguration.getParameters();
+
+        if (scanConfiguration.isBlackDuckSCAScan()) {
             BlackDuckSCAParametersService blackDuckSCAParametersService =
-                    new BlackDuckSCAParametersService(listener, envVars);
+                    new BlackDuckSCAParametersService(listener, jobContext);
             if (!blackDuckSCAParametersService.hasAllMandatoryBlackduckSCAParams(scanParameters)) {
                 throw new PluginExceptionHandler(ErrorCode.INVALID_BLACKDUCKSCA_PARAMETERS);
             }
         }
-        if (securityProducts.contains(SecurityProduct.COVERITY.name())) {
-            CoverityParametersService coverityParametersService = new CoverityParametersService(listener, envVars);
+        if (scanConfiguration.hasSecurityProduct(SecurityProduct.COVERITY)) {
+            CoverityParametersService coverityParametersService =
+                    new CoverityParametersService(listener, jobContext, null, RepositoryContext.EMPTY);
             if (!coverityParametersService.hasAllMandatoryCoverityParams(scanParameters)) {
                 throw new PluginExceptionHandler(ErrorCode.INVALID_COVERITY_PARAMETERS);
             }
         }
-        if (securityProducts.contains(SecurityProduct.POLARIS.name())) {
-            PolarisParametersService polarisParametersService = new PolarisParametersService(listener, envVars);
+        if (scanConfiguration.hasSecurityProduct(SecurityProduct.POLARIS)) {
+            PolarisParametersService polarisParametersService =
+                    new PolarisParametersService(listener, jobContext, RepositoryContext.EMPTY);
             if (!polarisParametersService.hasAllMandatoryCoverityParams(scanParameters)) {
                 throw new PluginExceptionHandler(ErrorCode.INVALID_POLARIS_PARAMETERS);
             }
         }
-        if (securityProducts.contains(SecurityProduct.SRM.name())) {
-            SRMParametersService srmParametersService = new SRMParametersService(listener, envVars);
+        if (scanConfiguration.hasSecurityProduct(SecurityProduct.SRM)) {
+            SRMParametersService srmParametersService =
+                    new SRMParametersService(listener, jobContext, RepositoryContext.EMPTY);
             if (!srmParametersService.hasAllMandatorySrmParams(scanParameters)) {
                 throw new PluginExceptionHandler(ErrorCode.INVALID_SRM_PARAMETERS);
             }
@@ -57,11 +70,6 @@ public class ScanParametersService {
     }
 
     public Set<String> getSecurityProducts(Map<String, Object> scanParameters) {
-        String securityPlatform = (String) scanParameters.get(ApplicationConstants.PRODUCT_KEY);
-
-        return Arrays.stream(securityPlatform.split(","))
-                .map(String::trim)
-                .map(String::toUpperCase)
-                .collect(Collectors.toSet());
+        return ScanConfiguration.parseSecurityProductNames(scanParameters.get(ApplicationConstants.PRODUCT_KEY));
     }
 }
@@ -11,6 +11,7 @@ import io.jenkins.plugins.security.scan.input.project.Project;
 import io.jenkins.plugins.security.scan.input.report.File;
 import io.jenkins.plugins.security.scan.input.report.Reports;
 import io.jenkins.plugins.security.scan.input.report.Sarif;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -20,10 +21,16 @@ import java.util.stream.Collectors;
 public class BlackDuckSCAParametersService {
     private final LoggerWrapper logger;
     private final EnvVars envVars;
+    private final JobContext jobContext;
 
     public BlackDuckSCAParametersService(TaskListener listener, EnvVars envVars) {
+        this(listener, new JobContext(listener, envVars));
+    }
+
+    public BlackDuckSCAParametersService(TaskListener listener, JobContext jobContext) {
         this.logger = new LoggerWrapper(listener);
-        this.envVars = envVars;
+        this.envVars = jobContext.getEnvVars();
+        this.jobContext = jobContext;
     }
 
     public boolean hasAllMandatoryBlackduckSCAParams(Map<String, Object> blackDuckSCAParameters) {
@@ -59,7 +66,7 @@ public class BlackDuckSCAParametersService {
                     }
                 });
 
-        String jobType = Utility.jenkinsJobType(envVars);
+        String jobType = jobContext.getJobType();
 
         showErrorMessageForJobType(missingMandatoryParams, jobType);
 
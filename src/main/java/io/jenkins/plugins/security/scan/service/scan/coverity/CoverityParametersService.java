@@ -12,7 +12,8 @@ import io.jenkins.plugins.security.scan.input.coverity.*;
 import io.jenkins.plugins.security.scan.input.detect.Config;
 import io.jenkins.plugins.security.scan.input.detect.Execution;
 import io.jenkins.plugins.security.scan.input.project.Project;
-import io.jenkins.plugins.security.scan.service.scm.RepositoryDetailsHolder;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
+import io.jenkins.plugins.security.scan.service.scm.RepositoryContext;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -22,18 +23,37 @@ import java.util.stream.Collectors;
 public class CoverityParametersService {
     private final LoggerWrapper logger;
     private final EnvVars envVars;
+    private final JobContext jobContext;
+    private final RepositoryContext repositoryContext;
     private BridgeDownloadParameters bridgeDownloadParameters;
 
     public CoverityParametersService(TaskListener listener, EnvVars envVars) {
-        this.logger = new LoggerWrapper(listener);
-        this.envVars = envVars;
+        this(listener, envVars, null, RepositoryContext.EMPTY);
     }
 
     public CoverityParametersService(
             TaskListener listener, EnvVars envVars, BridgeDownloadParameters bridgeDownloadParameters) {
+        this(listener, envVars, bridgeDownloadParameters, RepositoryContext.EMPTY);
+    }
+
+    public CoverityParametersService(
+            TaskListener listener,
+            EnvVars envVars,
+            BridgeDownloadParameters bridgeDownloadParameters,
+            RepositoryContext repositoryContext) {
+        this(listener, new JobContext(listener, envVars), bridgeDownloadParameters, repositoryContext);
+    }
+
+    public CoverityParametersService(
+            TaskListener listener,
+            JobContext jobContext,
+            BridgeDownloadParameters bridgeDownloadParameters,
+            RepositoryContext repositoryContext) {
         this.logger = new LoggerWrapper(listener);
-        this.envVars = envVars;
+        this.envVars = jobContext.getEnvVars();
+        this.jobContext = jobContext;
         this.bridgeDownloadParameters = bridgeDownloadParameters;
+        this.repositoryContext = repositoryContext;
     }
 
     public boolean hasAllMandatoryCoverityParams(Map<String, Object> coverityParameters) {
@@ -72,7 +92,7 @@ public class CoverityParametersService {
                     }
                 });
 
-        String jobType = Utility.jenkinsJobType(envVars);
+        String jobType = jobContext.getJobType();
         if (!jobType.equalsIgnoreCase(ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME)) {
             missingMandatoryParams.addAll(getCoverityMissingMandatoryParamsForFreeStyleAndPipeline(coverityParameters));
         }
@@ -149,7 +169,7 @@ public class CoverityParametersService {
                             .toString()
                             .trim());
         } else {
-            String repositoryName = RepositoryDetailsHolder.getRepositoryName();
+            String repositoryName = repositoryContext.getRepositoryName();
             coverity.getConnect().getCoverityProject().setName(repositoryName);
             logger.info("Coverity Project Name: " + repositoryName);
         }
@@ -164,7 +184,7 @@ public class CoverityParametersService {
                             .toString()
                             .trim());
         } else {
-            String repositoryName = RepositoryDetailsHolder.getRepositoryName();
+            String repositoryName = repositoryContext.getRepositoryName();
             String branchName = envVars.get(ApplicationConstants.ENV_BRANCH_NAME_KEY);
             String targetBranchName = envVars.get(ApplicationConstants.ENV_CHANGE_TARGET_KEY);
             boolean isPullRequest = envVars.get(ApplicationConstants.ENV_CHANGE_ID_KEY) != null;
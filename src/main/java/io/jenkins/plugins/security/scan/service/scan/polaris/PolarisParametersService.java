@@ -13,7 +13,8 @@ import io.jenkins.plugins.security.scan.input.report.File;
 import io.jenkins.plugins.security.scan.input.report.Issue;
 import io.jenkins.plugins.security.scan.input.report.Reports;
 import io.jenkins.plugins.security.scan.input.report.Sarif;
-import io.jenkins.plugins.security.scan.service.scm.RepositoryDetailsHolder;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
+import io.jenkins.plugins.security.scan.service.scm.RepositoryContext;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -24,10 +25,22 @@ import java.util.stream.Stream;
 public class PolarisParametersService {
     private final LoggerWrapper logger;
     private final EnvVars envVars;
+    private final JobContext jobContext;
+    private final RepositoryContext repositoryContext;
 
     public PolarisParametersService(TaskListener listener, EnvVars envVars) {
+        this(listener, envVars, RepositoryContext.EMPTY);
+    }
+
+    public PolarisParametersService(TaskListener listener, EnvVars envVars, RepositoryContext repositoryContext) {
+        this(listener, new JobContext(listener, envVars), repositoryContext);
+    }
+
+    public PolarisParametersService(TaskListener listener, JobContext jobContext, RepositoryContext repositoryContext) {
         this.logger = new LoggerWrapper(listener);
-        this.envVars = envVars;
+        this.envVars = jobContext.getEnvVars();
+        this.jobContext = jobContext;
+        this.repositoryContext = repositoryContext;
     }
 
     public boolean hasAllMandatoryCoverityParams(Map<String, Object> polarisParameters) {
@@ -66,7 +79,7 @@ public class PolarisParametersService {
                     }
                 });
 
-        String jobType = Utility.jenkinsJobType(envVars);
+        String jobType = jobContext.getJobType();
         if (!jobType.equalsIgnoreCase(ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME)) {
             missingMandatoryParams.addAll(getPolarisMissingMandatoryParamsForFreeStyleAndPipeline(polarisParameters));
         }
@@ -178,7 +191,7 @@ public class PolarisParametersService {
                             .toString()
                             .trim());
         } else {
-            String repoName = RepositoryDetailsHolder.getRepositoryName();
+            String repoName = repositoryContext.getRepositoryName();
             polaris.getApplicationName().setName(repoName);
             logger.info("Polaris Application Name: " + repoName);
         }
@@ -192,7 +205,7 @@ public class PolarisParametersService {
                             .toString()
                             .trim());
         } else {
-            String repoName = RepositoryDetailsHolder.getRepositoryName();
+            String repoName = repositoryContext.getRepositoryName();
             polaris.getPolarisProject().setName(repoName);
             logger.info("Polaris Project Name: " + repoName);
         }
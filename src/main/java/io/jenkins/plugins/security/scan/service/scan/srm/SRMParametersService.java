@@ -4,12 +4,12 @@ import hudson.EnvVars;
 import hudson.model.TaskListener;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
 import io.jenkins.plugins.security.scan.global.LoggerWrapper;
-import io.jenkins.plugins.security.scan.global.Utility;
 import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
 import io.jenkins.plugins.security.scan.input.project.Project;
 import io.jenkins.plugins.security.scan.input.srm.Branch;
 import io.jenkins.plugins.security.scan.input.srm.SRM;
-import io.jenkins.plugins.security.scan.service.scm.RepositoryDetailsHolder;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
+import io.jenkins.plugins.security.scan.service.scm.RepositoryContext;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -19,11 +19,21 @@ import java.util.stream.Stream;
 
 public class SRMParametersService {
     private final LoggerWrapper logger;
-    private final EnvVars envVars;
+    private final JobContext jobContext;
+    private final RepositoryContext repositoryContext;
 
     public SRMParametersService(TaskListener listener, EnvVars envVars) {
+        this(listener, envVars, RepositoryContext.EMPTY);
+    }
+
+    public SRMParametersService(TaskListener listener, EnvVars envVars, RepositoryContext repositoryContext) {
+        this(listener, new JobContext(listener, envVars), repositoryContext);
+    }
+
+    public SRMParametersService(TaskListener listener, JobContext jobContext, RepositoryContext repositoryContext) {
         this.logger = new LoggerWrapper(listener);
-        this.envVars = envVars;
+        this.jobContext = jobContext;
+        this.repositoryContext = repositoryContext;
     }
 
     public boolean hasAllMandatorySrmParams(Map<String, Object> srmParameters) {
@@ -62,7 +72,7 @@ public class SRMParametersService {
                     }
                 });
 
-        String jobType = Utility.jenkinsJobType(envVars);
+        String jobType = jobContext.getJobType();
         if (!jobType.equalsIgnoreCase(ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME)) {
             boolean isProjectNameValid = srmParameters.containsKey(ApplicationConstants.SRM_PROJECT_NAME_KEY)
                     && srmParameters.get(ApplicationConstants.SRM_PROJECT_NAME_KEY) != null
@@ -152,7 +162,7 @@ public class SRMParametersService {
                             .toString()
                             .trim());
         } else if (!srmParameters.containsKey(ApplicationConstants.SRM_PROJECT_ID_KEY)) {
-            String repoName = RepositoryDetailsHolder.getRepositoryName();
+            String repoName = repositoryContext.getRepositoryName();
             srm.getSrmProject().setName(repoName);
             logger.info("SRM Project Name: " + repoName);
         }
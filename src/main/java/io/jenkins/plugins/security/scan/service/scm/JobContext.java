@@ -0,0 +1,79 @@
+package io.jenkins.plugins.security.scan.service.scm;
+
+import hudson.EnvVars;
+import hudson.model.TaskListener;
+import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+import io.jenkins.plugins.security.scan.global.InstalledBranchSourcePlugins;
+import io.jenkins.plugins.security.scan.global.Utility;
+import io.jenkins.plugins.security.scan.global.enums.BranchSourcePlugin;
+import io.jenkins.plugins.security.scan.global.enums.InvokedFrom;
+import java.util.Set;
+import jenkins.scm.api.SCMSource;
+
+/**
+ * Job details of a single build that require walking the Jenkins item hierarchy: the job type, the SCM source
+ * of a multibranch project and the resulting invoked-from value. Each value is looked up the first time it is
+ * needed and reused for the rest of the build.
+ */
+public class JobContext {
+    private final TaskListener listener;
+    private final EnvVars envVars;
+
+    private String jobType;
+    private Set<BranchSourcePlugin> installedBranchSourcePlugins;
+    private boolean scmSourceResolved;
+    private SCMSource scmSource;
+    private boolean invokedFromResolved;
+    private InvokedFrom invokedFrom;
+
+    public JobContext(TaskListener listener, EnvVars envVars) {
+        this.listener = listener;
+        this.envVars = envVars;
+    }
+
+    public TaskListener getListener() {
+        return listener;
+    }
+
+    public EnvVars getEnvVars() {
+        return envVars;
+    }
+
+    public synchronized String getJobType() {
+        if (jobType == null) {
+            jobType = Utility.jenkinsJobType(envVars);
+        }
+        return jobType;
+    }
+
+    public boolean isMultibranchJob() {
+        return getJobType().equalsIgnoreCase(ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME);
+    }
+
+    public synchronized Set<BranchSourcePlugin> getInstalledBranchSourcePlugins() {
+        if (installedBranchSourcePlugins == null) {
+            installedBranchSourcePlugins = InstalledBranchSourcePlugins.get();
+        }
+        return installedBranchSourcePlugins;
+    }
+
+    public synchronized SCMSource getSCMSource() {
+        if (!scmSourceResolved) {
+            scmSource = new SCMRepositoryService(listener, envVars).findSCMSource();
+            scmSourceResolved = true;
+        }
+        return scmSource;
+    }
+
+    public synchronized InvokedFrom getInvokedFrom() {
+        if (!invokedFromResolved) {
+            invokedFrom = new SCMRepositoryService(listener, envVars)
+                    .getInvokedFrom(
+                            getInstalledBranchSourcePlugins(),
+                            getJobType(),
+                            isMultibranchJob() ? getSCMSource() : null);
+            invokedFromResolved = true;
+        }
+        return invokedFrom;
+    }
+}
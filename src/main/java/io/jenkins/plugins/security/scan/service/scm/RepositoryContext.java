@@ -0,0 +1,60 @@
+package io.jenkins.plugins.security.scan.service.scm;
+
+import io.jenkins.plugins.security.scan.input.scm.bitbucket.Bitbucket;
+import io.jenkins.plugins.security.scan.input.scm.github.Github;
+import io.jenkins.plugins.security.scan.input.scm.gitlab.Gitlab;
+
+/**
+ * SCM details resolved for a single build. An instance is created once per scan and handed to the product
+ * services that derive default names from it, so builds running in parallel never see each other's repository.
+ */
+public class RepositoryContext {
+    public static final RepositoryContext EMPTY = new RepositoryContext(null, null);
+
+    private final Object scmObject;
+    private final String repositoryName;
+
+    public RepositoryContext(Object scmObject, String repositoryName) {
+        this.scmObject = scmObject;
+        this.repositoryName = repositoryName;
+    }
+
+    public static RepositoryContext from(Object scmObject) {
+        return scmObject == null ? EMPTY : new RepositoryContext(scmObject, resolveRepositoryName(scmObject));
+    }
+
+    public Object getScmObject() {
+        return scmObject;
+    }
+
+    public String getRepositoryName() {
+        return repositoryName;
+    }
+
+    private static String resolveRepositoryName(Object scmObject) {
+        String repositoryName = null;
+        if (scmObject instanceof Bitbucket) {
+            Bitbucket bitbucket = (Bitbucket) scmObject;
+            repositoryName = bitbucket.getProject().getRepository().getName();
+        } else if (scmObject instanceof Github) {
+            Github github = (Github) scmObject;
+            repositoryName = github.getRepository().getName();
+        } else if (scmObject instanceof Gitlab) {
+            Gitlab gitlab = (Gitlab) scmObject;
+            String fullName = gitlab.getRepository().getName();
+            repositoryName = extractLastPart(fullName);
+        }
+        return repositoryName;
+    }
+
+    private static String extractLastPart(String fullRepoName) {
+        if (fullRepoName != null && !fullRepoName.isEmpty()) {
+            int lastSlashIndex = fullRepoName.lastIndexOf('/');
+            if (lastSlashIndex != -1 && lastSlashIndex < fullRepoName.length() - 1) {
+                return fullRepoName.substring(lastSlashIndex + 1);
+            }
+        }
+
+        return fullRepoName;
+    }
+}
@@ -7,14 +7,13 @@ import io.jenkins.plugins.gitlabbranchsource.GitLabSCMSource;
 import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
 import io.jenkins.plugins.security.scan.global.LoggerWrapper;
+import io.jenkins.plugins.security.scan.global.enums.BranchSourcePlugin;
 import io.jenkins.plugins.security.scan.global.enums.InvokedFrom;
-import io.jenkins.plugins.security.scan.input.scm.bitbucket.Bitbucket;
-import io.jenkins.plugins.security.scan.input.scm.github.Github;
-import io.jenkins.plugins.security.scan.input.scm.gitlab.Gitlab;
 import io.jenkins.plugins.security.scan.service.scm.bitbucket.BitbucketRepositoryService;
 import io.jenkins.plugins.security.scan.service.scm.github.GithubRepositoryService;
 import io.jenkins.plugins.security.scan.service.scm.gitlab.GitlabRepositoryService;
 import java.util.Map;
+import java.util.Set;
 import jenkins.model.Jenkins;
 import jenkins.scm.api.SCMSource;
 import jenkins.scm.api.SCMSourceOwner;
@@ -34,24 +33,41 @@ public class SCMRepositoryService {
         this.logger = new LoggerWrapper(listener);
     }
 
+    public RepositoryContext fetchRepositoryContext(
+            Set<BranchSourcePlugin> installedBranchSourcePlugins, Map<String, Object> scanParameters)
+            throws PluginExceptionHandler {
+        return RepositoryContext.from(fetchSCMRepositoryDetails(installedBranchSourcePlugins, scanParameters));
+    }
+
+    public RepositoryContext fetchRepositoryContext(JobContext jobContext, Map<String, Object> scanParameters)
+            throws PluginExceptionHandler {
+        return RepositoryContext.from(fetchSCMRepositoryDetails(
+                jobContext.getInstalledBranchSourcePlugins(), scanParameters, jobContext.getSCMSource()));
+    }
+
     public Object fetchSCMRepositoryDetails(
-            Map<String, Boolean> installedBranchSourceDependencies, Map<String, Object> scanParameters)
+            Set<BranchSourcePlugin> installedBranchSourcePlugins, Map<String, Object> scanParameters)
+            throws PluginExceptionHandler {
+        return fetchSCMRepositoryDetails(installedBranchSourcePlugins, scanParameters, findSCMSource());
+    }
+
+    private Object fetchSCMRepositoryDetails(
+            Set<BranchSourcePlugin> installedBranchSourcePlugins,
+            Map<String, Object> scanParameters,
+            SCMSource scmSource)
             throws PluginExceptionHandler {
         String pullRequestNumber = envVars.get(ApplicationConstants.ENV_CHANGE_ID_KEY);
         Integer projectRepositoryPullNumber = pullRequestNumber != null ? Integer.parseInt(pullRequestNumber) : null;
         String branchName = envVars.get(ApplicationConstants.BRANCH_NAME);
         Object scmObject = null;
 
-        SCMSource scmSource = findSCMSource();
-        if (installedBranchSourceDependencies.getOrDefault(
-                        ApplicationConstants.BITBUCKET_BRANCH_SOURCE_PLUGIN_NAME, false)
+        if (installedBranchSourcePlugins.contains(BranchSourcePlugin.BITBUCKET)
                 && scmSource instanceof BitbucketSCMSource) {
             BitbucketRepositoryService bitbucketRepositoryService = new BitbucketRepositoryService(listener);
             BitbucketSCMSource bitbucketSCMSource = (BitbucketSCMSource) scmSource;
             scmObject = bitbucketRepositoryService.fetchBitbucketRepositoryDetails(
                     scanParameters, bitbucketSCMSource, projectRepositoryPullNumber, branchName);
-        } else if (installedBranchSourceDependencies.getOrDefault(
-                        ApplicationConstants.GITHUB_BRANCH_SOURCE_PLUGIN_NAME, false)
+        } else if (installedBranchSourcePlugins.contains(BranchSourcePlugin.GITHUB)
                 && scmSource instanceof GitHubSCMSource) {
             GithubRepositoryService githubRepositoryService = new GithubRepositoryService(listener);
             GitHubSCMSource gitHubSCMSource = (GitHubSCMSource) scmSource;
@@ -62,8 +78,7 @@ public class SCMRepositoryService {
 
             scmObject = githubRepositoryService.createGithubObject(
                     scanParameters, repositoryName, repositoryOwner, projectRepositoryPullNumber, branchName, apiUri);
-        } else if (installedBranchSourceDependencies.getOrDefault(
-                        ApplicationConstants.GITLAB_BRANCH_SOURCE_PLUGIN_NAME, false)
+        } else if (installedBranchSourcePlugins.contains(BranchSourcePlugin.GITLAB)
                 && scmSource instanceof GitLabSCMSource) {
             GitlabRepositoryService gitlabRepositoryService = new GitlabRepositoryService(listener);
             GitLabSCMSource gitLabSCMSource = (GitLabSCMSource) scmSource;
@@ -75,8 +90,6 @@ public class SCMRepositoryService {
                     scanParameters, repositoryName, projectRepositoryPullNumber, branchName, repositoryUrl);
         }
 
-        setRepositoryName(scmObject);
-
         return scmObject;
     }
 
@@ -97,40 +110,12 @@ public class SCMRepositoryService {
         return null;
     }
 
-    public void setRepositoryName(Object scmObject) {
-        String repositoryName = null;
-        if (scmObject instanceof Bitbucket) {
-            Bitbucket bitbucket = (Bitbucket) scmObject;
-            repositoryName = bitbucket.getProject().getRepository().getName();
-        } else if (scmObject instanceof Github) {
-            Github github = (Github) scmObject;
-            repositoryName = github.getRepository().getName();
-        } else if (scmObject instanceof Gitlab) {
-            Gitlab gitlab = (Gitlab) scmObject;
-            String fullName = gitlab.getRepository().getName();
-            repositoryName = extractLastPart(fullName);
-        }
-
-        RepositoryDetailsHolder.setRepositoryName(repositoryName);
-    }
-
-    private static String extractLastPart(String fullRepoName) {
-        if (fullRepoName != null && !fullRepoName.isEmpty()) {
-            int lastSlashIndex = fullRepoName.lastIndexOf('/');
-            if (lastSlashIndex != -1 && lastSlashIndex < fullRepoName.length() - 1) {
-                return fullRepoName.substring(lastSlashIndex + 1);
-            }
-        }
-
-        return fullRepoName;
-    }
-
     public InvokedFrom getInvokedFrom(
-            Map<String, Boolean> installedBranchSourceDependencies, String jobType, SCMSource scmSource) {
+            Set<BranchSourcePlugin> installedBranchSourcePlugins, String jobType, SCMSource scmSource) {
         InvokedFrom invokedFrom;
 
         if (jobType.equalsIgnoreCase(ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME)) {
-            invokedFrom = getInvokedFromForMultiBranchJob(installedBranchSourceDependencies, scmSource);
+            invokedFrom = getInvokedFromForMultiBranchJob(installedBranchSourcePlugins, scmSource);
         } else if (jobType.equalsIgnoreCase(ApplicationConstants.FREESTYLE_JOB_TYPE_NAME)) {
             invokedFrom = InvokedFrom.INT_JENKINS_FREESTYLE;
         } else {
@@ -141,27 +126,26 @@ public class SCMRepositoryService {
     }
 
     private InvokedFrom getInvokedFromForMultiBranchJob(
-            Map<String, Boolean> installedBranchSourceDependencies, SCMSource scmSource) {
+            Set<BranchSourcePlugin> installedBranchSourcePlugins, SCMSource scmSource) {
         String gitURL = envVars.get(ApplicationConstants.GIT_URL);
 
-        if (isBitbucketSource(installedBranchSourceDependencies, scmSource)) {
+        if (isBitbucketSource(installedBranchSourcePlugins, scmSource)) {
             return determineBitbucketType(gitURL);
         }
 
-        if (isGithubSource(installedBranchSourceDependencies, scmSource)) {
+        if (isGithubSource(installedBranchSourcePlugins, scmSource)) {
             return determineGithubType(gitURL);
         }
 
-        if (isGitlabSource(installedBranchSourceDependencies, scmSource)) {
+        if (isGitlabSource(installedBranchSourcePlugins, scmSource)) {
             return determineGitlabType(gitURL);
         }
 
         return null;
     }
 
-    private boolean isBitbucketSource(Map<String, Boolean> installedBranchSourceDependencies, SCMSource scmSource) {
-        return installedBranchSourceDependencies.getOrDefault(
-                        ApplicationConstants.BITBUCKET_BRANCH_SOURCE_PLUGIN_NAME, false)
+    private boolean isBitbucketSource(Set<BranchSourcePlugin> installedBranchSourcePlugins, SCMSource scmSource) {
+        return installedBranchSourcePlugins.contains(BranchSourcePlugin.BITBUCKET)
                 && scmSource instanceof BitbucketSCMSource;
     }
 
@@ -172,9 +156,8 @@ public class SCMRepositoryService {
         return InvokedFrom.INT_BITBUCKET_EE;
     }
 
-    private boolean isGithubSource(Map<String, Boolean> installedBranchSourceDependencies, SCMSource scmSource) {
-        return installedBranchSourceDependencies.getOrDefault(
-                        ApplicationConstants.GITHUB_BRANCH_SOURCE_PLUGIN_NAME, false)
+    private boolean isGithubSource(Set<BranchSourcePlugin> installedBranchSourcePlugins, SCMSource scmSource) {
+        return installedBranchSourcePlugins.contains(BranchSourcePlugin.GITHUB)
                 && scmSource instanceof GitHubSCMSource;
     }
 
@@ -185,9 +168,8 @@ public class SCMRepositoryService {
         return InvokedFrom.INT_GITHUB_EE;
     }
 
-    private boolean isGitlabSource(Map<String, Boolean> installedBranchSourceDependencies, SCMSource scmSource) {
-        return installedBranchSourceDependencies.getOrDefault(
-                        ApplicationConstants.GITLAB_BRANCH_SOURCE_PLUGIN_NAME, false)
+    private boolean isGitlabSource(Set<BranchSourcePlugin> installedBranchSourcePlugins, SCMSource scmSource) {
+        return installedBranchSourcePlugins.contains(BranchSourcePlugin.GITLAB)
                 && scmSource instanceof GitLabSCMSource;
     }
 
@@ -0,0 +1,203 @@
+package io.jenkins.plugins.security.scan.service.scm.bitbucket;
+
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import jenkins.util.SystemProperties;
+
+/**
+ * Repository and owner names of Bitbucket repositories, shared by all builds on the controller. Entries are kept per
+ * credentials, so a job only sees metadata it was able to read itself, and the least recently used ones are evicted
+ * once the cache is full. An entry is used as is while it is fresh. Once it is stale it is still returned, but a
+ * single background refresh is started on a small pool owned by the cache, a refresh that does not fit in its queue
+ * is dropped and left to the next caller. Expired entries are loaded again before returning, falling back to the old
+ * names if Bitbucket cannot be reached.
+ */
+public class BitbucketRepositoryMetadataCache {
+    private static final Logger LOGGER = Logger.getLogger(BitbucketRepositoryMetadataCache.class.getName());
+
+    private static final long TTL_NANOS = TimeUnit.MINUTES.toNanos(
+            SystemProperties.getLong(BitbucketRepositoryMetadataCache.class.getName() + ".ttlInMinutes", 60L));
+    private static final long STALE_WHILE_REVALIDATE_NANOS = TimeUnit.MINUTES.toNanos(SystemProperties.getLong(
+            BitbucketRepositoryMetadataCache.class.getName() + ".staleWhileRevalidateInMinutes", 1440L));
+    private static final int MAX_ENTRIES =
+            SystemProperties.getInteger(BitbucketRepositoryMetadataCache.class.getName() + ".maxEntries", 1000);
+    private static final int REFRESH_THREADS =
+            SystemProperties.getInteger(BitbucketRepositoryMetadataCache.class.getName() + ".refreshThreads", 2);
+    private static final int REFRESH_QUEUE_CAPACITY = SystemProperties.getInteger(
+            BitbucketRepositoryMetadataCache.class.getName() + ".refreshQueueCapacity", 100);
+
+    private static final BitbucketRepositoryMetadataCache INSTANCE = new BitbucketRepositoryMetadataCache(
+            TTL_NANOS,
+            STALE_WHILE_REVALIDATE_NANOS,
+            MAX_ENTRIES,
+            createRefreshExecutor(REFRESH_THREADS, REFRESH_QUEUE_CAPACITY),
+            System::nanoTime);
+
+    private final Map<String, Entry> entries;
+    private final long ttlNanos;
+    private final long staleWhileRevalidateNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+
+    BitbucketRepositoryMetadataCache(
+            long ttlNanos,
+            long staleWhileRevalidateNanos,
+            int maxEntries,
+            Executor refreshExecutor,
+            LongSupplier clock) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.ttlNanos = ttlNanos;
+        this.staleWhileRevalidateNanos = staleWhileRevalidateNanos;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    // The refreshes block on Bitbucket REST calls, so they stay off the shared Jenkins timer. A full queue rejects
+    // the refresh, which resets the entry so that a later caller can try again.
+    static ThreadPoolExecutor createRefreshExecutor(int threads, int queueCapacity) {
+        int poolSize = Math.max(1, threads);
+        ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                new NamingThreadFactory(
+                        new DaemonThreadFactory(), BitbucketRepositoryMetadataCache.class.getSimpleName()));
+        refreshExecutor.allowCoreThreadTimeOut(true);
+        return refreshExecutor;
+    }
+
+    public static BitbucketRepositoryMetadataCache getInstance() {
+        return INSTANCE;
+    }
+
+    public Metadata get(
+            String serverUrl, String credentialsId, String repoOwner, String repository, Callable<Metadata> loader)
+            throws Exception {
+        String key = key(serverUrl, credentialsId, repoOwner, repository);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        long now = clock.getAsLong();
+
+        if (entry != null) {
+            long age = now - entry.loadedAtNanos;
+            if (age <= ttlNanos) {
+                return entry.metadata;
+            }
+            if (age <= ttlNanos + staleWhileRevalidateNanos) {
+                refreshInBackground(key, entry, loader);
+                return entry.metadata;
+            }
+        }
+
+        try {
+            return load(key, loader);
+        } catch (Exception e) {
+            if (entry != null) {
+                LOGGER.log(Level.FINE, "Using expired Bitbucket repository metadata for " + key, e);
+                return entry.metadata;
+            }
+            throw e;
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Metadata load(String key, Callable<Metadata> loader) throws Exception {
+        Metadata metadata = loader.call();
+        if (metadata != null) {
+            Entry entry = new Entry(metadata, clock.getAsLong());
+            synchronized (entries) {
+                entries.put(key, entry);
+            }
+        }
+        return metadata;
+    }
+
+    private void refreshInBackground(String key, Entry entry, Callable<Metadata> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, loader);
+                } catch (Exception e) {
+                    LOGGER.log(Level.FINE, "Failed to refresh Bitbucket repository metadata for " + key, e);
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            entry.refreshing.set(false);
+            LOGGER.log(Level.FINE, "Dropped Bitbucket repository metadata refresh for " + key, e);
+        }
+    }
+
+    private static String key(String serverUrl, String credentialsId, String repoOwner, String repository) {
+        return String.join(
+                "|",
+                String.valueOf(serverUrl),
+                String.valueOf(credentialsId),
+                String.valueOf(repoOwner),
+                String.valueOf(repository));
+    }
+
+    private static final class Entry {
+        private final Metadata metadata;
+        private final long loadedAtNanos;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(Metadata metadata, long loadedAtNanos) {
+            this.metadata = metadata;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+
+    public static final class Metadata {
+        private final String repositoryName;
+        private final String ownerName;
+
+        public Metadata(String repositoryName, String ownerName) {
+            this.repositoryName = repositoryName;
+            this.ownerName = ownerName;
+        }
+
+        public String getRepositoryName() {
+            return repositoryName;
+        }
+
+        public String getOwnerName() {
+            return ownerName;
+        }
+    }
+}
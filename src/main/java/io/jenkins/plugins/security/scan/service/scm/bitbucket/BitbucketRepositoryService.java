@@ -20,10 +20,16 @@ import java.util.Map;
 
 public class BitbucketRepositoryService {
     private final LoggerWrapper logger;
+    private final BitbucketRepositoryMetadataCache metadataCache;
     public static final String BITBUCKET_CLOUD_HOST_URL = "https://bitbucket.org";
 
     public BitbucketRepositoryService(TaskListener listener) {
+        this(listener, BitbucketRepositoryMetadataCache.getInstance());
+    }
+
+    public BitbucketRepositoryService(TaskListener listener, BitbucketRepositoryMetadataCache metadataCache) {
         this.logger = new LoggerWrapper(listener);
+        this.metadataCache = metadataCache;
     }
 
     public Bitbucket fetchBitbucketRepositoryDetails(
@@ -51,12 +57,20 @@ public class BitbucketRepositoryService {
             throw new PluginExceptionHandler(ErrorCode.NO_BITBUCKET_TOKEN_FOUND);
         }
 
-        BitbucketApi bitbucketApiFromSCMSource = bitbucketSCMSource.buildBitbucketClient(
-                bitbucketSCMSource.getRepoOwner(), bitbucketSCMSource.getRepository());
+        String repoOwner = bitbucketSCMSource.getRepoOwner();
+        String repository = bitbucketSCMSource.getRepository();
+        String credentialsId = bitbucketSCMSource.getCredentialsId();
 
-        BitbucketRepository bitbucketRepository = null;
+        BitbucketRepositoryMetadataCache.Metadata metadata = null;
         try {
-            bitbucketRepository = bitbucketApiFromSCMSource.getRepository();
+            metadata = metadataCache.get(serverUrl, credentialsId, repoOwner, repository, () -> {
+                BitbucketApi bitbucketApiFromSCMSource = bitbucketSCMSource.buildBitbucketClient(repoOwner, repository);
+                BitbucketRepository bitbucketRepository = bitbucketApiFromSCMSource.getRepository();
+                return bitbucketRepository == null
+                        ? null
+                        : new BitbucketRepositoryMetadataCache.Metadata(
+                                bitbucketRepository.getRepositoryName(), bitbucketRepository.getOwnerName());
+            });
         } catch (Exception e) {
             logger.error(
                     ApplicationConstants.EXCEPTION_WHILE_GETTING_THE_BITBUCKET_REPOSITORY_FROM_BITBUCKET_API,
@@ -64,9 +78,9 @@ public class BitbucketRepositoryService {
             Thread.currentThread().interrupt();
         }
 
-        if (bitbucketRepository != null) {
-            repositoryName = bitbucketRepository.getRepositoryName();
-            projectKey = bitbucketRepository.getOwnerName();
+        if (metadata != null) {
+            repositoryName = metadata.getRepositoryName();
+            projectKey = metadata.getOwnerName();
         }
 
         boolean isBitbucketCloud = serverUrl != null && serverUrl.startsWith(BITBUCKET_CLOUD_HOST_URL);
@@ -2,19 +2,37 @@ package io.jenkins.plugins.security.scan;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
+import com.sun.net.httpserver.HttpServer;
 import hudson.EnvVars;
 import hudson.FilePath;
 import hudson.model.TaskListener;
 import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+import io.jenkins.plugins.security.scan.global.ErrorCode;
+import io.jenkins.plugins.security.scan.global.ParameterDiagnostics;
+import io.jenkins.plugins.security.scan.global.ProductCircuitBreaker;
+import io.jenkins.plugins.security.scan.global.ScanConfiguration;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -22,10 +40,11 @@ import org.mockito.Mockito;
 public class ScanInitializerTest {
     private ScanInitializer scanInitializer;
     private ScanInitializer scanInitializerMock;
+    private SecurityScanner securityScannerMock;
 
     @BeforeEach
     void setUp() {
-        SecurityScanner securityScannerMock = Mockito.mock(SecurityScanner.class);
+        securityScannerMock = Mockito.mock(SecurityScanner.class);
         FilePath workspace = new FilePath(new File(System.getProperty("user.home")));
         TaskListener listenerMock = Mockito.mock(TaskListener.class);
         EnvVars envVarsMock = Mockito.mock(EnvVars.class);
@@ -35,6 +54,12 @@ public class ScanInitializerTest {
         Mockito.when(listenerMock.getLogger()).thenReturn(Mockito.mock(PrintStream.class));
     }
 
+    @AfterEach
+    void tearDown() {
+        // the circuit breaker is shared by the whole JVM
+        ProductCircuitBreaker.getInstance().reset();
+    }
+
     @Test
     public void initializeScannerValidParametersTest() throws PluginExceptionHandler {
         Map<String, Object> scanParameters = new HashMap<>();
@@ -105,6 +130,244 @@ public class ScanInitializerTest {
         assertEquals(0, exitCode);
     }
 
+    @Test
+    public void stoppedAsyncScanIsNotRecordedWithCircuitBreakerTest() throws PluginExceptionHandler {
+        String serverUrl = "https://stopped-scan.blackduck.url";
+        ProductCircuitBreaker.getInstance().recordFailure(serverUrl);
+        ProductCircuitBreaker.getInstance().recordFailure(serverUrl);
+        CompletableFuture<Integer> stoppedScan = new CompletableFuture<>();
+        stoppedScan.cancel(false);
+        Mockito.when(securityScannerMock.runScannerAsync(any(), any(), any(), any()))
+                .thenReturn(stoppedScan);
+
+        Map<String, Object> scanParameters = new HashMap<>();
+        scanParameters.put(ApplicationConstants.PRODUCT_KEY, "BLACKDUCKSCA");
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_URL_KEY, serverUrl);
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY, "MDJDSROSVC56FAKEKEY");
+        scanParameters.put(ApplicationConstants.NETWORK_AIRGAP_KEY, true);
+
+        CompletableFuture<Integer> scan =
+                scanInitializer.initializeScannerAsync(scanParameters, new ParameterDiagnostics(), Runnable::run);
+
+        assertTrue(scan.isCompletedExceptionally());
+        // had the stopped scan counted as a success, the earlier failures would have been forgotten
+        ProductCircuitBreaker.getInstance().recordFailure(serverUrl);
+        assertEquals(ProductCircuitBreaker.State.OPEN, ProductCircuitBreaker.getInstance().getState(serverUrl));
+    }
+
+    @Test
+    public void initializeScannerOpenCircuitTest() {
+        String serverUrl = "https://open-circuit.blackduck.url";
+        for (int i = 0; i < 3; i++) {
+            ProductCircuitBreaker.getInstance().recordFailure(serverUrl);
+        }
+
+        Map<String, Object> scanParameters = new HashMap<>();
+        scanParameters.put(ApplicationConstants.PRODUCT_KEY, "BLACKDUCKSCA");
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_URL_KEY, serverUrl);
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY, "MDJDSROSVC56FAKEKEY");
+        scanParameters.put(ApplicationConstants.NETWORK_AIRGAP_KEY, true);
+
+        PluginExceptionHandler exception =
+                assertThrows(PluginExceptionHandler.class, () -> scanInitializer.initializeScanner(scanParameters));
+
+        assertEquals(ErrorCode.PRODUCT_SERVER_UNAVAILABLE, exception.getCode());
+    }
+
+    @Test
+    public void initializeScannerFailedScanAgainstReachableServerTest() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            String serverUrl = "http://localhost:" + server.getAddress().getPort();
+            when(securityScannerMock.runScanner(any(ScanConfiguration.class), any(), any()))
+                    .thenReturn(ErrorCode.BRIDGE_ADAPTER_ERROR);
+
+            Map<String, Object> scanParameters = new HashMap<>();
+            scanParameters.put(ApplicationConstants.PRODUCT_KEY, "BLACKDUCKSCA");
+            scanParameters.put(ApplicationConstants.BLACKDUCKSCA_URL_KEY, serverUrl);
+            scanParameters.put(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY, "MDJDSROSVC56FAKEKEY");
+            scanParameters.put(ApplicationConstants.NETWORK_AIRGAP_KEY, true);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(ErrorCode.BRIDGE_ADAPTER_ERROR, scanInitializer.initializeScanner(scanParameters));
+            }
+
+            // the server answered the probes, so the adapter errors are not counted as an outage
+            assertEquals(ProductCircuitBreaker.State.CLOSED, ProductCircuitBreaker.getInstance().getState(serverUrl));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void initializeScannerFailureUnrelatedToServerIsNotProbedTest() throws Exception {
+        AtomicInteger probes = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            probes.incrementAndGet();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            String serverUrl = "http://localhost:" + server.getAddress().getPort();
+            ProductCircuitBreaker.getInstance().recordFailure(serverUrl);
+            ProductCircuitBreaker.getInstance().recordFailure(serverUrl);
+            when(securityScannerMock.runScanner(any(ScanConfiguration.class), any(), any()))
+                    .thenReturn(ErrorCode.BRIDGE_STARTUP_FAILED);
+
+            Map<String, Object> scanParameters = new HashMap<>();
+            scanParameters.put(ApplicationConstants.PRODUCT_KEY, "BLACKDUCKSCA");
+            scanParameters.put(ApplicationConstants.BLACKDUCKSCA_URL_KEY, serverUrl);
+            scanParameters.put(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY, "MDJDSROSVC56FAKEKEY");
+            scanParameters.put(ApplicationConstants.NETWORK_AIRGAP_KEY, true);
+
+            assertEquals(ErrorCode.BRIDGE_STARTUP_FAILED, scanInitializer.initializeScanner(scanParameters));
+
+            assertEquals(0, probes.get());
+            // neither a success nor a failure was recorded for the server
+            ProductCircuitBreaker.getInstance().recordFailure(serverUrl);
+            assertEquals(ProductCircuitBreaker.State.OPEN, ProductCircuitBreaker.getInstance().getState(serverUrl));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void initializeScannerRepositoryContextFailureTest() throws Exception {
+        SecurityScanner securityScannerMock = Mockito.mock(SecurityScanner.class);
+        doThrow(new PluginExceptionHandler(ErrorCode.NO_BITBUCKET_TOKEN_FOUND))
+                .when(securityScannerMock)
+                .prepareRepositoryContext(any(ScanConfiguration.class), any(TaskListener.class));
+
+        PluginExceptionHandler exception = withConcurrentPreScan(() -> assertThrows(
+                PluginExceptionHandler.class,
+                () -> multibranchScanInitializer(securityScannerMock, mock(PrintStream.class))
+                        .initializeScanner(multibranchScanParameters())));
+
+        assertEquals(ErrorCode.NO_BITBUCKET_TOKEN_FOUND, exception.getCode());
+        verify(securityScannerMock, never()).runScanner(any(ScanConfiguration.class), any(), any());
+    }
+
+    @Test
+    public void initializeScannerResolvesRepositoryContextOnCallingThreadByDefaultTest() throws Exception {
+        SecurityScanner securityScannerMock = Mockito.mock(SecurityScanner.class);
+
+        multibranchScanInitializer(securityScannerMock, mock(PrintStream.class))
+                .initializeScanner(multibranchScanParameters());
+
+        verify(securityScannerMock, never()).prepareRepositoryContext(any(ScanConfiguration.class), any());
+    }
+
+    @Test
+    public void initializeScannerCopiesRepositoryContextLogOnceResolvedTest() throws Exception {
+        SecurityScanner securityScannerMock = Mockito.mock(SecurityScanner.class);
+        AtomicReference<String> resolvingThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+                    resolvingThread.set(Thread.currentThread().getName());
+                    invocation.getArgument(1, TaskListener.class).getLogger().println("Repository details resolved");
+                    return null;
+                })
+                .when(securityScannerMock)
+                .prepareRepositoryContext(any(ScanConfiguration.class), any(TaskListener.class));
+        ByteArrayOutputStream buildLog = new ByteArrayOutputStream();
+
+        int exitCode = withConcurrentPreScan(() -> multibranchScanInitializer(
+                        securityScannerMock, new PrintStream(buildLog, true, StandardCharsets.UTF_8))
+                .initializeScanner(multibranchScanParameters()));
+
+        assertEquals(ErrorCode.SCAN_SUCCESSFUL, exitCode);
+        assertTrue(resolvingThread.get().startsWith(ScanInitializer.class.getSimpleName()));
+        String log = buildLog.toString(StandardCharsets.UTF_8);
+        // the buffered lines are written in one piece before Bridge CLI is started
+        assertTrue(log.contains("Repository details resolved" + System.lineSeparator()));
+        assertTrue(log.indexOf("Repository details resolved") < log.indexOf("Bridge CLI version is"));
+    }
+
+    @Test
+    public void initializeScannerStopsWhenInterruptedWhileWaitingForRepositoryContextTest() throws Exception {
+        SecurityScanner securityScannerMock = Mockito.mock(SecurityScanner.class);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                    release.await();
+                    return null;
+                })
+                .when(securityScannerMock)
+                .prepareRepositoryContext(any(ScanConfiguration.class), any(TaskListener.class));
+        ScanInitializer multibranchScanInitializer =
+                multibranchScanInitializer(securityScannerMock, mock(PrintStream.class));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean interruptFlagKept = new AtomicBoolean();
+
+        withConcurrentPreScan(() -> {
+            Thread scan = new Thread(() -> {
+                try {
+                    multibranchScanInitializer.initializeScanner(multibranchScanParameters());
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+                interruptFlagKept.set(Thread.currentThread().isInterrupted());
+            });
+            scan.start();
+            while (scan.isAlive() && !isWaitingForRepositoryContext(scan)) {
+                Thread.sleep(10);
+            }
+            scan.interrupt();
+            scan.join(5000);
+            return null;
+        });
+        release.countDown();
+
+        assertTrue(failure.get() instanceof PluginExceptionHandler);
+        assertEquals(ErrorCode.SCAN_INTERRUPTED, ((PluginExceptionHandler) failure.get()).getCode());
+        assertTrue(interruptFlagKept.get());
+        verify(securityScannerMock, never()).runScanner(any(ScanConfiguration.class), any(), any());
+    }
+
+    private static boolean isWaitingForRepositoryContext(Thread thread) {
+        for (StackTraceElement element : thread.getStackTrace()) {
+            if (element.getMethodName().equals("awaitRepositoryContextResolution")) {
+                return thread.getState() == Thread.State.WAITING;
+            }
+        }
+        return false;
+    }
+
+    private static ScanInitializer multibranchScanInitializer(SecurityScanner securityScanner, PrintStream logger) {
+        TaskListener listenerMock = Mockito.mock(TaskListener.class);
+        Mockito.when(listenerMock.getLogger()).thenReturn(logger);
+        JobContext jobContextMock = Mockito.mock(JobContext.class);
+        Mockito.when(jobContextMock.getEnvVars()).thenReturn(Mockito.mock(EnvVars.class));
+        Mockito.when(jobContextMock.getJobType()).thenReturn(ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME);
+        Mockito.when(jobContextMock.isMultibranchJob()).thenReturn(true);
+        return new ScanInitializer(
+                securityScanner, new FilePath(new File(System.getProperty("user.home"))), jobContextMock, listenerMock);
+    }
+
+    private static Map<String, Object> multibranchScanParameters() {
+        Map<String, Object> scanParameters = new HashMap<>();
+        scanParameters.put(ApplicationConstants.PRODUCT_KEY, "BLACKDUCKSCA");
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_URL_KEY, "https://fake.blackduck.url");
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY, "MDJDSROSVC56FAKEKEY");
+        scanParameters.put(ApplicationConstants.NETWORK_AIRGAP_KEY, true);
+        return scanParameters;
+    }
+
+    private static <T> T withConcurrentPreScan(Callable<T> callable) throws Exception {
+        String property = ScanInitializer.class.getName() + ".concurrentPreScan";
+        System.setProperty(property, "true");
+        try {
+            return callable.call();
+        } finally {
+            System.clearProperty(property);
+        }
+    }
+
     @Test
     public void testLogMessagesForParameters_basic() {
         Map<String, Object> scanParameters = new HashMap<>();
@@ -0,0 +1,111 @@
+package io.jenkins.plugins.security.scan;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import hudson.EnvVars;
+import hudson.FilePath;
+import hudson.Launcher;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import io.jenkins.plugins.security.scan.bridge.BridgeDownloadParameters;
+import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+import io.jenkins.plugins.security.scan.global.ErrorCode;
+import io.jenkins.plugins.security.scan.global.LoggerWrapper;
+import io.jenkins.plugins.security.scan.global.ScanConfiguration;
+import io.jenkins.plugins.security.scan.service.scm.JobContext;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SecurityScannerTest {
+    private static final String CONCURRENT_PRODUCTS_PROPERTY = SecurityScanner.class.getName() + ".concurrentProducts";
+
+    private LoggerWrapper logger;
+
+    @BeforeEach
+    void setUp() {
+        TaskListener listenerMock = mock(TaskListener.class);
+        when(listenerMock.getLogger()).thenReturn(mock(PrintStream.class));
+        logger = new LoggerWrapper(listenerMock);
+    }
+
+    @Test
+    public void productsExitCodeIsFirstFailureTest() throws Exception {
+        int exitCode = SecurityScanner.getProductsExitCode(
+                Arrays.asList(exitCode(0), exitCode(ErrorCode.BRIDGE_BUILD_BREAK), exitCode(2)), logger);
+
+        assertEquals(ErrorCode.BRIDGE_BUILD_BREAK, exitCode);
+    }
+
+    @Test
+    public void productThatCouldNotBeLaunchedFailsTheScanTest() throws Exception {
+        CompletableFuture<Integer> launchFailure = new CompletableFuture<>();
+        launchFailure.completeExceptionally(new IOException("Cannot run program \"bridge-cli\""));
+
+        int exitCode = SecurityScanner.getProductsExitCode(Arrays.asList(exitCode(0), launchFailure), logger);
+
+        assertEquals(ErrorCode.BRIDGE_UNDEFINED_ERROR, exitCode);
+    }
+
+    @Test
+    public void productsExitCodeIsZeroWhenAllSucceedTest() throws Exception {
+        assertEquals(0, SecurityScanner.getProductsExitCode(Arrays.asList(exitCode(0), exitCode(0)), logger));
+    }
+
+    @Test
+    public void stoppedScannerDoesNotLaunchBridgeCliTest() throws Exception {
+        Launcher launcherMock = mock(Launcher.class);
+        SecurityScanner securityScanner = securityScanner(launcherMock);
+
+        securityScanner.stopScanner();
+        CompletableFuture<Integer> scan = securityScanner.runScannerAsync(
+                ScanConfiguration.from(Collections.singletonMap(ApplicationConstants.PRODUCT_KEY, "BLACKDUCKSCA")),
+                mock(FilePath.class),
+                mock(BridgeDownloadParameters.class),
+                Runnable::run);
+
+        assertTrue(scan.isCancelled());
+        verifyNoInteractions(launcherMock);
+    }
+
+    @Test
+    public void productsRunConcurrentlyOnlyWithoutSarifOrDiagnosticsTest() {
+        SecurityScanner securityScanner = securityScanner(mock(Launcher.class));
+        Map<String, Object> scanParameters = new HashMap<>();
+        scanParameters.put(ApplicationConstants.PRODUCT_KEY, "blackducksca,polaris");
+
+        System.setProperty(CONCURRENT_PRODUCTS_PROPERTY, "true");
+        try {
+            assertTrue(securityScanner.shouldRunScannerPerProduct(ScanConfiguration.from(scanParameters)));
+
+            scanParameters.put(ApplicationConstants.POLARIS_REPORTS_SARIF_CREATE_KEY, true);
+            assertFalse(securityScanner.shouldRunScannerPerProduct(ScanConfiguration.from(scanParameters)));
+
+            scanParameters.remove(ApplicationConstants.POLARIS_REPORTS_SARIF_CREATE_KEY);
+            scanParameters.put(ApplicationConstants.INCLUDE_DIAGNOSTICS_KEY, true);
+            assertFalse(securityScanner.shouldRunScannerPerProduct(ScanConfiguration.from(scanParameters)));
+        } finally {
+            System.clearProperty(CONCURRENT_PRODUCTS_PROPERTY);
+        }
+    }
+
+    private static SecurityScanner securityScanner(Launcher launcher) {
+        TaskListener listenerMock = mock(TaskListener.class);
+        when(listenerMock.getLogger()).thenReturn(mock(PrintStream.class));
+        JobContext jobContextMock = mock(JobContext.class);
+        when(jobContextMock.getEnvVars()).thenReturn(new EnvVars());
+        return new SecurityScanner(mock(Run.class), listenerMock, launcher, mock(FilePath.class), jobContextMock);
+    }
+
+    private static Future<Integer> exitCode(int exitCode) {
+        return CompletableFuture.completedFuture(exitCode);
+    }
+}
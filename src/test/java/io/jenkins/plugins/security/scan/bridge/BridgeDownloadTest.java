@@ -7,6 +7,8 @@ import hudson.FilePath;
 import hudson.model.TaskListener;
 import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+import io.jenkins.plugins.security.scan.global.ErrorCode;
+import io.jenkins.plugins.security.scan.global.PreScanDeadline;
 import io.jenkins.plugins.security.scan.global.Utility;
 import java.io.File;
 import java.io.PrintStream;
@@ -52,6 +54,20 @@ public class BridgeDownloadTest {
         Utility.removeFile(validBridgeDownloadPath.getRemote(), workspace, listenerMock);
     }
 
+    @Test
+    public void downloadBridgeCLIExpiredDeadlineTest() {
+        BridgeDownload bridgeDownload = new BridgeDownload(
+                workspace, listenerMock, envVarsMock, scanParameters, PreScanDeadline.ofMillis(0));
+
+        String bridgeDownloadUrl = String.join(
+                "/", ApplicationConstants.BRIDGE_ARTIFACTORY_URL, "latest", "bridge-cli-bundle-linux64.zip");
+
+        PluginExceptionHandler exception = assertThrows(
+                PluginExceptionHandler.class,
+                () -> bridgeDownload.downloadBridgeCLI(bridgeDownloadUrl, workspace.getRemote()));
+        assertEquals(ErrorCode.PRE_SCAN_DEADLINE_EXCEEDED, exception.getCode());
+    }
+
     @Test
     public void getHttpStatusCodeTest() {
         String bridgeDownloadUrl = String.join(
@@ -0,0 +1,52 @@
+package io.jenkins.plugins.security.scan.bridge;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import hudson.Proc;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BridgeProcessWatcherTest {
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void completesWithExitCodeOnceProcessEndsTest() throws Exception {
+        Proc proc = mock(Proc.class);
+        when(proc.isAlive()).thenReturn(true, true, false);
+        when(proc.join()).thenReturn(8);
+
+        CompletableFuture<Integer> exitCode = BridgeProcessWatcher.watch(proc, scheduler, 10);
+
+        assertEquals(8, exitCode.get(5, TimeUnit.SECONDS));
+        verify(proc, times(1)).join();
+        verify(proc, never()).kill();
+    }
+
+    @Test
+    public void cancellingKillsProcessTest() throws Exception {
+        Proc proc = mock(Proc.class);
+        when(proc.isAlive()).thenReturn(true);
+
+        CompletableFuture<Integer> exitCode = BridgeProcessWatcher.watch(proc, scheduler, 10);
+        exitCode.cancel(true);
+
+        verify(proc, timeout(5000)).kill();
+        verify(proc, never()).join();
+    }
+}
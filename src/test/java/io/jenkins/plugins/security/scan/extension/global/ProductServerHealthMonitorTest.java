@@ -0,0 +1,70 @@
+package io.jenkins.plugins.security.scan.extension.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.sun.net.httpserver.HttpServer;
+import hudson.model.TaskListener;
+import io.jenkins.plugins.security.scan.global.ProductServerHealthRegistry;
+import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class ProductServerHealthMonitorTest {
+    private final TaskListener listenerMock = Mockito.mock(TaskListener.class);
+    private final ScannerGlobalConfig configMock = Mockito.mock(ScannerGlobalConfig.class);
+    private final ProductServerHealthRegistry registry = ProductServerHealthRegistry.getInstance();
+    private HttpServer server;
+    private String serverUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(listenerMock.getLogger()).thenReturn(Mockito.mock(PrintStream.class));
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            int statusCode = exchange.getRequestURI().getPath().startsWith("/down") ? 503 : 200;
+            exchange.sendResponseHeaders(statusCode, -1);
+            exchange.close();
+        });
+        server.start();
+        serverUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        registry.retainOnly(Collections.emptyList());
+    }
+
+    @Test
+    public void executeIsOffByDefaultTest() {
+        assertFalse(ProductServerHealthMonitor.isEnabled());
+        // there is no Jenkins instance, so this only passes when the global configuration is not looked up
+        assertDoesNotThrow(() -> new ProductServerHealthMonitor().execute(listenerMock));
+        assertTrue(registry.getSnapshot(serverUrl + "/up").isEmpty());
+    }
+
+    @Test
+    public void probeProductServersRecordsReachabilityTest() {
+        when(configMock.getProductServerUrl(SecurityProduct.COVERITY)).thenReturn(serverUrl + "/up");
+        when(configMock.getProductServerUrl(SecurityProduct.SRM)).thenReturn(serverUrl + "/down");
+
+        new ProductServerHealthMonitor().probeProductServers(configMock, listenerMock);
+
+        ProductServerHealthRegistry.Snapshot up = registry.getSnapshot(serverUrl + "/up").orElseThrow();
+        assertEquals(200, up.getLastStatusCode());
+        assertTrue(up.isLastAvailable());
+
+        ProductServerHealthRegistry.Snapshot down = registry.getSnapshot(serverUrl + "/down").orElseThrow();
+        assertEquals(503, down.getLastStatusCode());
+        assertFalse(down.isLastAvailable());
+        verify(configMock, never()).getProductCredentialsId(any());
+    }
+}
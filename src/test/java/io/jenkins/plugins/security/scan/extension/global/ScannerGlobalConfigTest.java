@@ -0,0 +1,156 @@
+package io.jenkins.plugins.security.scan.extension.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.SystemCredentialsProvider;
+import com.sun.net.httpserver.HttpServer;
+import hudson.XmlFile;
+import hudson.model.Saveable;
+import hudson.model.listeners.SaveableListener;
+import hudson.util.FormValidation;
+import hudson.util.Secret;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import jenkins.model.GlobalConfiguration;
+import net.sf.json.JSONObject;
+import org.jenkinsci.plugins.plaincredentials.impl.StringCredentialsImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.TestExtension;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+import org.kohsuke.stapler.StaplerRequest2;
+
+@WithJenkins
+public class ScannerGlobalConfigTest {
+    private HttpServer server;
+    private String serverUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        serverUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void connectionTestsOutlastTheRequestTimeoutsTest(JenkinsRule jenkinsRule) {
+        // a single test may use up the connection request, connect and response timeouts of 120 seconds each
+        assertTrue(ScannerGlobalConfig.CONNECTION_TESTS_TIMEOUT_IN_SECONDS > 3 * 120);
+
+        Callable<ConnectionTestResult> slowTest = () -> {
+            Thread.sleep(10_000);
+            return new ConnectionTestResult("Slow", serverUrl, 200, 10_000, -1, null);
+        };
+        Callable<ConnectionTestResult> fastTest = () -> new ConnectionTestResult("Fast", serverUrl, 200, 1, -1, null);
+
+        List<FormValidation> validations = getConfig().runConnectionTests(List.of(slowTest, fastTest), 1);
+
+        assertEquals(FormValidation.Kind.ERROR, validations.get(0).kind);
+        assertTrue(validations.get(0).getMessage().contains("did not finish within 1 seconds"));
+        assertEquals(FormValidation.Kind.OK, validations.get(1).kind);
+    }
+
+    @Test
+    public void testAllConnectionsTest(JenkinsRule jenkinsRule) throws Exception {
+        SystemCredentialsProvider.getInstance()
+                .getCredentials()
+                .add(new StringCredentialsImpl(
+                        CredentialsScope.GLOBAL, "srm-api-key", null, Secret.fromString("srm-secret")));
+        SystemCredentialsProvider.getInstance()
+                .getCredentials()
+                .add(new StringCredentialsImpl(
+                        CredentialsScope.GLOBAL, "github-token", null, Secret.fromString("github-secret")));
+        SystemCredentialsProvider.getInstance().save();
+
+        FormValidation validation = getConfig()
+                .doTestAllConnections(
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        serverUrl,
+                        "srm-api-key",
+                        null,
+                        "github-token",
+                        "missing-token");
+
+        String html = validation.renderHtml();
+        assertEquals(FormValidation.Kind.ERROR, validation.kind);
+        assertTrue(html.contains("SRM (" + serverUrl + "): Connection successful."));
+        assertTrue(html.contains("GitHub credentials lookup: Credentials found. The server was not contacted."));
+        assertTrue(html.contains("GitLab credentials lookup: Credentials"));
+        assertTrue(html.contains("could not be found"));
+        assertFalse(html.contains("Bitbucket"));
+    }
+
+    @Test
+    public void testAllConnectionsWithoutConfigurationTest(JenkinsRule jenkinsRule) {
+        FormValidation validation =
+                getConfig().doTestAllConnections(null, null, null, null, null, null, null, null, null, null, null);
+
+        assertEquals(FormValidation.Kind.WARNING, validation.kind);
+    }
+
+    @Test
+    public void configureSavesOnceTest(JenkinsRule jenkinsRule) throws Exception {
+        ScannerGlobalConfig config = getConfig();
+        JSONObject json = new JSONObject();
+        StaplerRequest2 req = mock(StaplerRequest2.class);
+        doAnswer(invocation -> {
+                    config.setBlackDuckSCAUrl("https://fake-blackducksca.url");
+                    config.setCoverityConnectUrl("https://fake-coverity.url");
+                    config.setSrmUrl("https://fake-srm.url");
+                    config.setSrmCredentialsId("srm-api-key");
+                    config.setNetworkSslTrustAll(true);
+                    return null;
+                })
+                .when(req)
+                .bindJSON(config, json);
+        SaveCounter.SAVES.set(0);
+
+        assertTrue(config.configure(req, json));
+
+        assertEquals(1, SaveCounter.SAVES.get());
+        ScannerGlobalConfig reloaded = new ScannerGlobalConfig();
+        assertEquals("https://fake-srm.url", reloaded.getSrmUrl());
+        assertEquals("srm-api-key", reloaded.getSrmCredentialsId());
+
+        // outside of a form submit every setter still saves on its own
+        config.setPolarisServerUrl("https://fake-polaris.url");
+        assertEquals(2, SaveCounter.SAVES.get());
+    }
+
+    @TestExtension("configureSavesOnceTest")
+    public static class SaveCounter extends SaveableListener {
+        static final AtomicInteger SAVES = new AtomicInteger();
+
+        @Override
+        public void onChange(Saveable saveable, XmlFile file) {
+            if (saveable instanceof ScannerGlobalConfig) {
+                SAVES.incrementAndGet();
+            }
+        }
+    }
+
+    private static ScannerGlobalConfig getConfig() {
+        return GlobalConfiguration.all().get(ScannerGlobalConfig.class);
+    }
+}
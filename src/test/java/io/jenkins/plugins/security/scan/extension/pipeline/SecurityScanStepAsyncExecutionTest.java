@@ -0,0 +1,104 @@
+package io.jenkins.plugins.security.scan.extension.pipeline;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import hudson.Functions;
+import hudson.model.Result;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.workflow.job.WorkflowJob;
+import org.jenkinsci.plugins.workflow.job.WorkflowRun;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+public class SecurityScanStepAsyncExecutionTest {
+    private static final String ASYNC_EXECUTION_PROPERTY = SecurityScanStep.class.getName() + ".asyncExecution";
+
+    @TempDir
+    Path bridgeInstallationDirectory;
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty(ASYNC_EXECUTION_PROPERTY, "true");
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(ASYNC_EXECUTION_PROPERTY);
+    }
+
+    @Test
+    public void asyncScanCompletesWithBridgeExitCodeTest(JenkinsRule jenkinsRule) throws Exception {
+        WorkflowJob job = createScanJob(jenkinsRule, "exit 0");
+
+        WorkflowRun run = jenkinsRule.buildAndAssertSuccess(job);
+
+        jenkinsRule.assertLogContains("END EXECUTION OF BRIDGE CLI", run);
+    }
+
+    @Test
+    public void asyncScanFailsWhenBridgeCliCannotBeLaunchedTest(JenkinsRule jenkinsRule) throws Exception {
+        WorkflowJob job = createScanJob(jenkinsRule, "exit 0");
+        assertTrue(bridgeInstallationDirectory.resolve("bridge-cli").toFile().setExecutable(false));
+
+        WorkflowRun run = jenkinsRule.buildAndAssertStatus(Result.FAILURE, job);
+
+        jenkinsRule.assertLogContains("END EXECUTION OF BRIDGE CLI", run);
+    }
+
+    @Test
+    public void stoppedAsyncScanCompletesAfterCleanupTest(JenkinsRule jenkinsRule) throws Exception {
+        WorkflowJob job = createScanJob(jenkinsRule, "sleep 60");
+        WorkflowRun run = job.scheduleBuild2(0).waitForStart();
+        jenkinsRule.waitForMessage("START EXECUTION OF BRIDGE CLI", run);
+
+        run.doStop();
+
+        jenkinsRule.assertBuildStatus(Result.ABORTED, jenkinsRule.waitForCompletion(run));
+        // the step only completes once the killed Bridge CLI has been cleaned up
+        String log = JenkinsRule.getLog(run);
+        int endOfBridgeCli = log.indexOf("END EXECUTION OF BRIDGE CLI");
+        assertTrue(endOfBridgeCli >= 0);
+        assertTrue(endOfBridgeCli < log.indexOf("Finished: ABORTED"));
+    }
+
+    private WorkflowJob createScanJob(JenkinsRule jenkinsRule, String bridgeCommand) throws Exception {
+        assumeFalse(Functions.isWindows());
+
+        Path bridgeCli = bridgeInstallationDirectory.resolve("bridge-cli");
+        Files.writeString(bridgeCli, "#!/bin/sh\n" + bridgeCommand + "\n", StandardCharsets.UTF_8);
+        assertTrue(bridgeCli.toFile().setExecutable(true));
+        Files.writeString(
+                bridgeInstallationDirectory.resolve("versions.txt"),
+                "bridge-cli-bundle: 3.0.0\n",
+                StandardCharsets.UTF_8);
+
+        WorkflowJob job = jenkinsRule.createProject(WorkflowJob.class);
+        job.setDefinition(new CpsFlowDefinition(
+                "node {\n"
+                        + "  security_scan product: 'blackducksca',\n"
+                        + "    blackducksca_url: 'https://async-scan.blackduck.example',\n"
+                        + "    blackducksca_token: 'MDJDSROSVC56FAKEKEY',\n"
+                        + "    bridgecli_install_directory: '" + toScriptPath(bridgeInstallationDirectory.toFile())
+                        + "',\n"
+                        + "    bridgecli_download_url: "
+                        + "'https://repo.blackduck.example/bridge-cli-bundle/3.0.0/bridge-cli-bundle-linux64.zip',\n"
+                        + "    network_airgap: true\n"
+                        + "}",
+                true));
+        return job;
+    }
+
+    private static String toScriptPath(File file) {
+        return file.getAbsolutePath().replace("\\", "\\\\").replace("'", "\\'");
+    }
+}
@@ -0,0 +1,128 @@
+package io.jenkins.plugins.security.scan.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import hudson.EnvVars;
+import hudson.model.TaskListener;
+import java.io.PrintStream;
+import java.net.URL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class CompiledProxySelectorTest {
+    private static final String PROXY = "https://fake-proxy.com:1010";
+
+    private final TaskListener listenerMock = Mockito.mock(TaskListener.class);
+    private final PrintStream printStreamMock = Mockito.mock(PrintStream.class);
+    private LoggerWrapper logger;
+
+    @BeforeEach
+    void setup() {
+        CompiledProxySelector.clearCache();
+        logger = new LoggerWrapper(listenerMock);
+        when(listenerMock.getLogger()).thenReturn(printStreamMock);
+    }
+
+    @Test
+    public void selectHostSuffixTest() throws Exception {
+        CompiledProxySelector selector = selectorFor(" *.example.com, .internal.org ,https://artifactory.local:8443");
+
+        assertEquals(ApplicationConstants.NO_PROXY, selector.select(new URL("https://example.com/path"), logger));
+        assertEquals(ApplicationConstants.NO_PROXY, selector.select(new URL("https://a.b.example.com"), logger));
+        assertEquals(ApplicationConstants.NO_PROXY, selector.select(new URL("http://repo.internal.org:8080"), logger));
+        assertEquals(ApplicationConstants.NO_PROXY, selector.select(new URL("https://artifactory.local"), logger));
+        assertEquals(PROXY, selector.select(new URL("https://notexample.com"), logger));
+        assertEquals(PROXY, selector.select(new URL("https://example.com.evil.io"), logger));
+    }
+
+    @Test
+    public void selectPlainHostEntryTest() throws Exception {
+        CompiledProxySelector selector = selectorFor("example.com");
+
+        assertEquals(ApplicationConstants.NO_PROXY, selector.select(new URL("https://example.com"), logger));
+        assertEquals(ApplicationConstants.NO_PROXY, selector.select(new URL("https://repo.example.com"), logger));
+        assertEquals(PROXY, selector.select(new URL("https://myexample.com"), logger));
+        // only the host is compared, not the rest of the url
+        assertEquals(PROXY, selector.select(new URL("https://fake-url.com/example.com?host=example.com"), logger));
+    }
+
+    @Test
+    public void selectCidrTest() throws Exception {
+        CompiledProxySelector selector = selectorFor("10.0.0.0/8,192.168.1.17,172.16.0.0/12,fd00::/8");
+
+        assertEquals(ApplicationConstants.NO_PROXY, selector.select(new URL("https://10.20.30.40"), logger));
+        assertEquals(ApplicationConstants.NO_PROXY, selector.select(new URL("https://192.168.1.17:443"), logger));
+        assertEquals(ApplicationConstants.NO_PROXY, selector.select(new URL("https://172.31.255.1"), logger));
+        assertEquals(ApplicationConstants.NO_PROXY, selector.select(new URL("https://[fd12::1]"), logger));
+        assertEquals(PROXY, selector.select(new URL("https://172.32.0.1"), logger));
+        assertEquals(PROXY, selector.select(new URL("https://192.168.1.18"), logger));
+    }
+
+    @Test
+    public void selectWildcardTest() throws Exception {
+        assertEquals(ApplicationConstants.NO_PROXY, selectorFor("foo.com,*").select(new URL("https://bar.com"), logger));
+    }
+
+    @Test
+    public void forEnvironmentCachesSelectorTest() {
+        EnvVars envVars = new EnvVars();
+        envVars.put("HTTPS_PROXY", PROXY);
+        envVars.put("NO_PROXY", "*.example.com");
+
+        CompiledProxySelector selector = CompiledProxySelector.forEnvironment(envVars);
+
+        assertSame(selector, CompiledProxySelector.forEnvironment(new EnvVars(envVars)));
+
+        envVars.put("NO_PROXY", "*.example.org");
+
+        assertNotSame(selector, CompiledProxySelector.forEnvironment(envVars));
+    }
+
+    @Test
+    public void selectLogsRouteOncePerHostTest() throws Exception {
+        CompiledProxySelector selector = selectorFor("*.example.com");
+
+        selector.select(new URL("https://fake-url.com/first"), logger);
+        selector.select(new URL("https://fake-url.com/second"), logger);
+
+        verify(printStreamMock, times(1)).println("[Security Scan] INFO: Found HTTPS_PROXY configuration - " + PROXY);
+    }
+
+    @Test
+    public void selectLogsRouteForEveryListenerTest() throws Exception {
+        CompiledProxySelector selector = selectorFor("*.example.com");
+        TaskListener otherListenerMock = Mockito.mock(TaskListener.class);
+        PrintStream otherPrintStreamMock = Mockito.mock(PrintStream.class);
+        when(otherListenerMock.getLogger()).thenReturn(otherPrintStreamMock);
+
+        selector.select(new URL("https://fake-url.com"), logger);
+        selector.select(new URL("https://fake-url.com"), new LoggerWrapper(otherListenerMock));
+
+        verify(printStreamMock, times(1)).println("[Security Scan] INFO: Found HTTPS_PROXY configuration - " + PROXY);
+        verify(otherPrintStreamMock, times(1))
+                .println("[Security Scan] INFO: Found HTTPS_PROXY configuration - " + PROXY);
+    }
+
+    @Test
+    public void forEnvironmentEvictsLeastRecentlyUsedSelectorTest() {
+        CompiledProxySelector first = selectorFor("first.example.com");
+        CompiledProxySelector second = selectorFor("second.example.com");
+        selectorFor("first.example.com");
+        for (int i = 0; i < 31; i++) {
+            selectorFor("host" + i + ".example.com");
+        }
+
+        assertEquals(32, CompiledProxySelector.cachedSelectorCount());
+        assertSame(first, selectorFor("first.example.com"));
+        assertNotSame(second, selectorFor("second.example.com"));
+    }
+
+    private CompiledProxySelector selectorFor(String noProxy) {
+        EnvVars envVars = new EnvVars();
+        envVars.put("HTTPS_PROXY", PROXY);
+        envVars.put("NO_PROXY", noProxy);
+        return CompiledProxySelector.forEnvironment(envVars);
+    }
+}
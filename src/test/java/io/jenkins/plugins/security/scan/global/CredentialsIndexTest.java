@@ -0,0 +1,143 @@
+package io.jenkins.plugins.security.scan.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.cloudbees.plugins.credentials.Credentials;
+import com.cloudbees.plugins.credentials.SystemCredentialsProvider;
+import com.cloudbees.plugins.credentials.impl.UsernamePasswordCredentialsImpl;
+import hudson.XmlFile;
+import hudson.model.Saveable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jenkinsci.plugins.plaincredentials.impl.StringCredentialsImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CredentialsIndexTest {
+    private final AtomicInteger rebuilds = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        CredentialsIndex.invalidate();
+    }
+
+    @Test
+    public void snapshotIndexesStoredCredentialsByIdTest() {
+        StringCredentialsImpl apiToken = mock(StringCredentialsImpl.class);
+        when(apiToken.getId()).thenReturn("shared-id");
+        UsernamePasswordCredentialsImpl usernamePassword = mock(UsernamePasswordCredentialsImpl.class);
+        when(usernamePassword.getId()).thenReturn("shared-id");
+        StringCredentialsImpl vaultToken = mock(StringCredentialsImpl.class);
+        when(vaultToken.getId()).thenReturn("vault-id");
+        Credentials withoutId = mock(Credentials.class);
+
+        CredentialsIndex.Snapshot snapshot = CredentialsIndex.Snapshot.build(
+                0,
+                Arrays.asList(apiToken, vaultToken, usernamePassword, withoutId),
+                Arrays.asList(usernamePassword, apiToken, withoutId));
+
+        assertEquals(Arrays.asList(apiToken, usernamePassword), snapshot.get("shared-id"));
+        // credentials of other providers may change without notice, so they are never indexed
+        assertTrue(snapshot.get("vault-id").isEmpty());
+        assertTrue(snapshot.get("unknown-id").isEmpty());
+    }
+
+    @Test
+    public void snapshotIsReusedUntilInvalidatedTest() {
+        CredentialsIndex.Snapshot first = CredentialsIndex.getSnapshot(this::countingRebuild);
+        assertSame(first, CredentialsIndex.getSnapshot(this::countingRebuild));
+        assertEquals(1, rebuilds.get());
+
+        CredentialsIndex.invalidate();
+
+        assertNotSame(first, CredentialsIndex.getSnapshot(this::countingRebuild));
+        assertEquals(2, rebuilds.get());
+    }
+
+    @Test
+    public void snapshotBuiltDuringInvalidationIsNotReusedTest() {
+        CredentialsIndex.getSnapshot(generation -> {
+            // a credentials store is saved while the lookup is still running
+            CredentialsIndex.invalidate();
+            return countingRebuild(generation);
+        });
+
+        CredentialsIndex.getSnapshot(this::countingRebuild);
+        CredentialsIndex.getSnapshot(this::countingRebuild);
+
+        assertEquals(2, rebuilds.get());
+    }
+
+    @Test
+    public void concurrentCallersShareOneRebuildTest() throws Exception {
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<CredentialsIndex.Snapshot>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return CredentialsIndex.getSnapshot(generation -> {
+                        sleep(200);
+                        return countingRebuild(generation);
+                    });
+                }));
+            }
+            start.countDown();
+
+            CredentialsIndex.Snapshot shared = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<CredentialsIndex.Snapshot> future : futures) {
+                assertSame(shared, future.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, rebuilds.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void savingACredentialsStoreInvalidatesTest() {
+        CredentialsIndex.CredentialsStoreListener listener = new CredentialsIndex.CredentialsStoreListener();
+        CredentialsIndex.Snapshot first = CredentialsIndex.getSnapshot(this::countingRebuild);
+
+        listener.onChange(mock(Saveable.class), new XmlFile(new File("config.xml")));
+        assertSame(first, CredentialsIndex.getSnapshot(this::countingRebuild));
+
+        listener.onChange(mock(SystemCredentialsProvider.class), null);
+        CredentialsIndex.Snapshot second = CredentialsIndex.getSnapshot(this::countingRebuild);
+        assertNotSame(first, second);
+
+        listener.onChange(mock(Saveable.class), new XmlFile(new File("credentials.xml")));
+        assertNotSame(second, CredentialsIndex.getSnapshot(this::countingRebuild));
+        assertEquals(3, rebuilds.get());
+    }
+
+    @Test
+    public void findWithoutJenkinsReturnsEmptyTest() {
+        assertFalse(CredentialsIndex.find(StringCredentialsImpl.class, "any-id").isPresent());
+    }
+
+    private CredentialsIndex.Snapshot countingRebuild(long generation) {
+        rebuilds.incrementAndGet();
+        return CredentialsIndex.Snapshot.build(generation, Collections.emptyList(), Collections.emptyList());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.jenkins.plugins.security.scan.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jenkins.plugins.security.scan.global.enums.BranchSourcePlugin;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InstalledBranchSourcePluginsTest {
+    private final Set<String> installedPluginNames = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        InstalledBranchSourcePlugins.invalidate();
+        installedPluginNames.add(ApplicationConstants.GITHUB_BRANCH_SOURCE_PLUGIN_NAME);
+    }
+
+    @Test
+    public void dynamicallyLoadedPluginIsPickedUpTest() {
+        assertEquals(EnumSet.of(BranchSourcePlugin.GITHUB), installedPlugins());
+
+        installedPluginNames.add(ApplicationConstants.GITLAB_BRANCH_SOURCE_PLUGIN_NAME);
+        // until the SCM source descriptors change the lookup is not repeated
+        assertEquals(EnumSet.of(BranchSourcePlugin.GITHUB), installedPlugins());
+
+        new InstalledBranchSourcePlugins.DescriptorListener().onChange();
+
+        assertEquals(EnumSet.of(BranchSourcePlugin.GITHUB, BranchSourcePlugin.GITLAB), installedPlugins());
+    }
+
+    @Test
+    public void pluginLoadedDuringLookupIsPickedUpByNextCallerTest() {
+        Set<BranchSourcePlugin> stale = InstalledBranchSourcePlugins.getSnapshot(pluginName -> {
+                    if (pluginName.equals(ApplicationConstants.GITLAB_BRANCH_SOURCE_PLUGIN_NAME)) {
+                        // the Bitbucket plugin is loaded after it was already looked up
+                        installedPluginNames.add(ApplicationConstants.BITBUCKET_BRANCH_SOURCE_PLUGIN_NAME);
+                        new InstalledBranchSourcePlugins.DescriptorListener().onChange();
+                    }
+                    return installedPluginNames.contains(pluginName);
+                })
+                .getPlugins();
+
+        assertEquals(EnumSet.of(BranchSourcePlugin.GITHUB), stale);
+        assertEquals(EnumSet.of(BranchSourcePlugin.BITBUCKET, BranchSourcePlugin.GITHUB), installedPlugins());
+    }
+
+    @Test
+    public void installedPluginsCannotBeModifiedTest() {
+        assertThrows(UnsupportedOperationException.class, () -> installedPlugins().add(BranchSourcePlugin.GITLAB));
+    }
+
+    @Test
+    public void withoutJenkinsNothingIsInstalledTest() {
+        assertTrue(InstalledBranchSourcePlugins.get().isEmpty());
+    }
+
+    private Set<BranchSourcePlugin> installedPlugins() {
+        return InstalledBranchSourcePlugins.getSnapshot(installedPluginNames::contains).getPlugins();
+    }
+}
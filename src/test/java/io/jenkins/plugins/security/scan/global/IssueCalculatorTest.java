@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
 public class IssueCalculatorTest {
@@ -223,4 +225,82 @@ public class IssueCalculatorTest {
         int totalIssues = issueCalculator.calculateTotalIssues(rootNode, product);
         assertEquals(10, totalIssues);
     }
+
+    @Test
+    public void testCalculatePolarisIssues_FirstCaseInsensitiveMatchWins() throws IOException {
+        String jsonContent = "{\"data\": {\"polaris\": {\"test\": {"
+                + "\"sast\": {\"tests\": {\"full\": {\"issues\": {\"high\": 1}}}}, "
+                + "\"SAST\": {\"tests\": {\"full\": {\"issues\": {\"high\": 100}}}}, "
+                + "\"Sca\": {\"Tests\": {\"scaPackage\": {\"issues\": {\"low\": 2}}}}}}}}";
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode rootNode = objectMapper.readTree(jsonContent);
+
+        int totalIssues = issueCalculator.calculateTotalIssues(rootNode, "polaris");
+
+        assertEquals(3, totalIssues);
+    }
+
+    @Test
+    public void testCalculateIssueSummary_MatchesTreeResult() throws IOException {
+        String[][] fixtures = {
+            {
+                "polaris",
+                "{\"meta\": [1, {\"data\": 2}], \"data\": {\"srm\": {}, \"POLARIS\": {\"project\": {\"issues\": "
+                        + "{\"url\": \"http://example.com/issues\"}}, \"test\": {\"SAST\": {\"TESTS\": {\"FULL\": "
+                        + "{\"issues\": {\"CRITICAL\": 2, \"high\": \"3\"}}, "
+                        + "\"sastFull\": {\"issues\": {\"low\": 9}}}}, "
+                        + "\"SCA\": {\"tests\": {\"scaSignature\": {\"issues\": {\"low\": 1, \"info\": {}}}, "
+                        + "\"SCAPACKAGE\": {\"IsSuEs\": {\"medium\": 4, \"LOW\": 5}}}}}}}}"
+            },
+            {"polaris", "{\"data\": {\"polaris\": {\"test\": \"skipped\"}}}"},
+            {
+                "blackducksca",
+                "{\"data\": {\"BLACKDUCKSCA\": {\"projectBomUrl\": \"http://bd.example.com/bom\", \"policy\": "
+                        + "{\"status\": {\"issues\": {\"critical\": 5, \"high\": 20}}}}}}"
+            },
+            {"blackducksca", "{\"data\": {\"blackducksca\": {\"policy\": {\"status\": \"PASSED\"}}}}"},
+            {
+                "coverity",
+                "{\"data\": {\"COVERITY\": {\"CONNECT\": {\"policy\": {\"issueCount\": 7}, "
+                        + "\"resultURL\": \"http://coverity.example.com/result\"}}}}"
+            },
+            {"coverity", "{\"data\": {\"coverity\": {\"connect\": {\"policy\": {\"issueCount\": \"n/a\"}}}}}"},
+            {
+                "srm",
+                "{\"data\": {\"SRM\": {\"analysis\": {\"issues\": {\"CRITICAL\": 1, \"HIGH\": 2}}, "
+                        + "\"project\": {\"issues\": {\"URL\": \"http://srm.example.com/issues\"}}}}}"
+            },
+            {"srm", "{\"data\": {\"polaris\": {\"analysis\": {\"issues\": {\"high\": 2}}}}}"},
+            {"srm", "{\"data\": []}"}
+        };
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (String[] fixture : fixtures) {
+            String product = fixture[0];
+            String jsonContent = fixture[1];
+            JsonNode rootNode = objectMapper.readTree(jsonContent);
+
+            IssueCalculator.IssueSummary issueSummary = issueCalculator.calculateIssueSummary(
+                    new ByteArrayInputStream(jsonContent.getBytes(StandardCharsets.UTF_8)), product);
+
+            assertEquals(issueCalculator.getIssuesUrl(rootNode, product), issueSummary.getIssuesUrl(), jsonContent);
+            assertEquals(
+                    issueCalculator.calculateTotalIssues(rootNode, product),
+                    issueSummary.getTotalIssues(),
+                    jsonContent);
+        }
+    }
+
+    @Test
+    public void testFieldNamesAreMatchedLikeEqualsIgnoreCase() throws IOException {
+        // the long s upper-cases to S, so equalsIgnoreCase matches it although lower-casing does not
+        String jsonContent = "{\"data\": {\"\u017Frm\": {\"analy\u017Fis\": {\"issues\": {\"high\": 2}}}}}";
+        JsonNode rootNode = new ObjectMapper().readTree(jsonContent);
+
+        IssueCalculator.IssueSummary issueSummary = issueCalculator.calculateIssueSummary(
+                new ByteArrayInputStream(jsonContent.getBytes(StandardCharsets.UTF_8)), "srm");
+
+        assertEquals(2, issueCalculator.calculateTotalIssues(rootNode, "srm"));
+        assertEquals(2, issueSummary.getTotalIssues());
+    }
 }
@@ -0,0 +1,33 @@
+package io.jenkins.plugins.security.scan.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.jenkins.plugins.security.scan.input.BridgeInput;
+import io.jenkins.plugins.security.scan.input.network.Network;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class JsonMapperProviderTest {
+    @Test
+    public void writerOmitsEmptyValuesTest() throws Exception {
+        BridgeInput bridgeInput = new BridgeInput();
+        Network network = new Network();
+        network.setAirgap(true);
+        bridgeInput.setNetwork(network);
+
+        String json = JsonMapperProvider.writer().writeValueAsString(Collections.singletonMap("data", bridgeInput));
+
+        assertEquals("{\"data\":{\"network\":{\"airgap\":true}}}", json);
+    }
+
+    @Test
+    public void sharedInstancesAreReusedTest() throws Exception {
+        assertSame(JsonMapperProvider.writer(), JsonMapperProvider.writer());
+        assertSame(JsonMapperProvider.treeReader(), JsonMapperProvider.treeReader());
+
+        JsonNode node = JsonMapperProvider.treeReader().readTree("{\"data\":{\"status\":\"ok\"}}");
+
+        assertEquals("ok", node.path("data").path("status").asText());
+    }
+}
@@ -0,0 +1,45 @@
+package io.jenkins.plugins.security.scan.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
+import java.util.EnumSet;
+import org.junit.jupiter.api.Test;
+
+public class ParameterKeyRegistryTest {
+    @Test
+    public void lookupClassifiesProductKeysTest() {
+        ParameterKeyRegistry.ParameterKey token =
+                ParameterKeyRegistry.lookup(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY);
+
+        assertTrue(token.isSensitive());
+        assertFalse(token.isAdditional());
+        assertTrue(token.isLoggedFor("BLACKDUCKSCA"));
+        assertTrue(token.isLoggedFor("blackduck"));
+        assertFalse(token.isLoggedFor("POLARIS"));
+        assertSame(token, ParameterKeyRegistry.lookup(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY));
+    }
+
+    @Test
+    public void lookupClassifiesSharedKeysTest() {
+        assertEquals(
+                EnumSet.allOf(SecurityProduct.class),
+                ParameterKeyRegistry.lookup(ApplicationConstants.PROJECT_DIRECTORY_KEY)
+                        .getProducts());
+        assertEquals(
+                EnumSet.of(SecurityProduct.COVERITY, SecurityProduct.POLARIS, SecurityProduct.SRM),
+                ParameterKeyRegistry.lookup(ApplicationConstants.COVERITY_BUILD_COMMAND_KEY)
+                        .getProducts());
+        assertFalse(ParameterKeyRegistry.lookup(ApplicationConstants.BLACKDUCKSCA_SCAN_FULL_KEY)
+                .isLoggedFor("POLARIS"));
+    }
+
+    @Test
+    public void lookupClassifiesAdditionalKeysTest() {
+        ParameterKeyRegistry.ParameterKey airGap = ParameterKeyRegistry.lookup(ApplicationConstants.NETWORK_AIRGAP_KEY);
+
+        assertTrue(airGap.isAdditional());
+        assertTrue(airGap.getProducts().isEmpty());
+        assertTrue(ParameterKeyRegistry.lookup(ApplicationConstants.BRIDGECLI_DOWNLOAD_URL).isAdditional());
+    }
+}
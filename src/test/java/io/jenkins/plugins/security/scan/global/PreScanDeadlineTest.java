@@ -0,0 +1,79 @@
+package io.jenkins.plugins.security.scan.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.junit.jupiter.api.Test;
+
+public class PreScanDeadlineTest {
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    @Test
+    public void remainingMillisTest() throws PluginExceptionHandler {
+        PreScanDeadline deadline = new PreScanDeadline(TimeUnit.MINUTES.toMillis(2), nanoClock::get);
+
+        assertEquals(TimeUnit.MINUTES.toMillis(2), deadline.remainingMillis());
+        assertFalse(deadline.isExpired());
+        deadline.checkNotExpired();
+
+        nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(90));
+
+        assertEquals(TimeUnit.SECONDS.toMillis(30), deadline.remainingMillis());
+
+        nanoClock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        assertEquals(0, deadline.remainingMillis());
+        assertTrue(deadline.isExpired());
+        PluginExceptionHandler exception = assertThrows(PluginExceptionHandler.class, deadline::checkNotExpired);
+        assertEquals(ErrorCode.PRE_SCAN_DEADLINE_EXCEEDED, exception.getCode());
+    }
+
+    @Test
+    public void unboundedDeadlineTest() {
+        PreScanDeadline deadline = PreScanDeadline.unbounded();
+
+        assertTrue(deadline.isUnbounded());
+        assertFalse(deadline.isExpired());
+        assertSame(RequestConfig.DEFAULT, HttpClientProvider.getRequestConfig(deadline));
+    }
+
+    @Test
+    public void preScanPhaseIsUnboundedByDefaultTest() {
+        assertTrue(PreScanDeadline.forPreScanPhase().isUnbounded());
+    }
+
+    @Test
+    public void preScanPhaseBudgetIsClampedTest() {
+        String timeoutProperty = PreScanDeadline.class.getName() + ".timeoutInMinutes";
+        System.setProperty(timeoutProperty, String.valueOf(Long.MAX_VALUE / 2));
+        try {
+            PreScanDeadline deadline = PreScanDeadline.forPreScanPhase();
+
+            assertFalse(deadline.isExpired());
+            assertEquals(ApplicationConstants.MAX_PRE_SCAN_TIMEOUT_IN_MINUTES, deadline.getBudgetInMinutes());
+        } finally {
+            System.clearProperty(timeoutProperty);
+        }
+    }
+
+    @Test
+    public void requestConfigFollowsRemainingBudgetTest() {
+        PreScanDeadline deadline = new PreScanDeadline(TimeUnit.MINUTES.toMillis(10), nanoClock::get);
+
+        RequestConfig requestConfig = HttpClientProvider.getRequestConfig(deadline);
+
+        assertEquals(
+                TimeUnit.SECONDS.toMillis(ApplicationConstants.MAX_NETWORK_CONNECT_TIMEOUT_IN_SECONDS),
+                requestConfig.getConnectTimeout().toMilliseconds());
+        assertEquals(TimeUnit.MINUTES.toMillis(10), requestConfig.getResponseTimeout().toMilliseconds());
+
+        nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(595));
+        requestConfig = HttpClientProvider.getRequestConfig(deadline);
+
+        assertEquals(TimeUnit.SECONDS.toMillis(5), requestConfig.getConnectTimeout().toMilliseconds());
+        assertEquals(TimeUnit.SECONDS.toMillis(5), requestConfig.getResponseTimeout().toMilliseconds());
+    }
+}
@@ -0,0 +1,89 @@
+package io.jenkins.plugins.security.scan.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class ProductCircuitBreakerTest {
+    private static final String COVERITY_URL = "https://fake.coverity.url/";
+
+    private final AtomicLong nanoClock = new AtomicLong();
+    private final ProductCircuitBreaker circuitBreaker =
+            new ProductCircuitBreaker(3, TimeUnit.MINUTES.toMillis(5), nanoClock::get);
+
+    @Test
+    public void circuitOpensAfterConsecutiveFailuresTest() {
+        circuitBreaker.recordFailure(COVERITY_URL);
+        circuitBreaker.recordFailure(COVERITY_URL);
+
+        assertTrue(circuitBreaker.allowRequest(COVERITY_URL));
+        assertEquals(ProductCircuitBreaker.State.CLOSED, circuitBreaker.getState(COVERITY_URL));
+
+        circuitBreaker.recordFailure("https://FAKE.coverity.url");
+
+        assertEquals(ProductCircuitBreaker.State.OPEN, circuitBreaker.getState(COVERITY_URL));
+        assertFalse(circuitBreaker.allowRequest(COVERITY_URL));
+        assertEquals(TimeUnit.MINUTES.toMillis(5), circuitBreaker.getRemainingOpenMillis(COVERITY_URL));
+        assertTrue(circuitBreaker.allowRequest("https://fake.polaris.url"));
+    }
+
+    @Test
+    public void successResetsFailureCountTest() {
+        circuitBreaker.recordFailure(COVERITY_URL);
+        circuitBreaker.recordFailure(COVERITY_URL);
+        circuitBreaker.recordSuccess(COVERITY_URL);
+        circuitBreaker.recordFailure(COVERITY_URL);
+
+        assertEquals(ProductCircuitBreaker.State.CLOSED, circuitBreaker.getState(COVERITY_URL));
+    }
+
+    @Test
+    public void resetClosesEveryCircuitTest() {
+        openCircuit();
+
+        circuitBreaker.reset();
+
+        assertEquals(ProductCircuitBreaker.State.CLOSED, circuitBreaker.getState(COVERITY_URL));
+        assertTrue(circuitBreaker.allowRequest(COVERITY_URL));
+    }
+
+    @Test
+    public void halfOpenProbeTest() {
+        openCircuit();
+        nanoClock.addAndGet(TimeUnit.MINUTES.toNanos(5));
+
+        assertTrue(circuitBreaker.allowRequest(COVERITY_URL));
+        assertEquals(ProductCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState(COVERITY_URL));
+        assertFalse(circuitBreaker.allowRequest(COVERITY_URL));
+
+        circuitBreaker.recordFailure(COVERITY_URL);
+
+        assertEquals(ProductCircuitBreaker.State.OPEN, circuitBreaker.getState(COVERITY_URL));
+        assertFalse(circuitBreaker.allowRequest(COVERITY_URL));
+
+        nanoClock.addAndGet(TimeUnit.MINUTES.toNanos(5));
+
+        assertTrue(circuitBreaker.allowRequest(COVERITY_URL));
+
+        circuitBreaker.recordSuccess(COVERITY_URL);
+
+        assertEquals(ProductCircuitBreaker.State.CLOSED, circuitBreaker.getState(COVERITY_URL));
+        assertTrue(circuitBreaker.allowRequest(COVERITY_URL));
+    }
+
+    @Test
+    public void blankUrlIsAlwaysAllowedTest() {
+        circuitBreaker.recordFailure("");
+
+        assertTrue(circuitBreaker.allowRequest(null));
+        assertTrue(circuitBreaker.allowRequest(""));
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.recordFailure(COVERITY_URL);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.jenkins.plugins.security.scan.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class ProductServerHealthRegistryTest {
+    private static final String SRM_URL = "https://fake.srm.url";
+
+    private final ProductServerHealthRegistry registry = new ProductServerHealthRegistry();
+
+    @Test
+    public void snapshotPercentilesAndAvailabilityTest() {
+        for (int latency = 1; latency <= 100; latency++) {
+            registry.record("SRM", SRM_URL, latency, 200, latency % 10 != 0);
+        }
+
+        ProductServerHealthRegistry.Snapshot snapshot =
+                registry.getSnapshot(SRM_URL + "/").orElseThrow();
+
+        assertEquals(50, snapshot.getSampleCount());
+        assertEquals(75, snapshot.getP50LatencyMillis());
+        assertEquals(98, snapshot.getP95LatencyMillis());
+        assertEquals(100, snapshot.getP99LatencyMillis());
+        assertEquals(0.9, snapshot.getAvailability(), 0.0001);
+        assertFalse(snapshot.isLastAvailable());
+        assertTrue(snapshot.isDegraded());
+    }
+
+    @Test
+    public void healthyServerIsNotDegradedTest() {
+        registry.record("SRM", SRM_URL, 20, 200, true);
+        registry.record("SRM", SRM_URL, 30, 401, true);
+
+        ProductServerHealthRegistry.Snapshot snapshot = registry.getSnapshot(SRM_URL).orElseThrow();
+
+        assertEquals("100.0%", snapshot.getAvailabilityPercentage());
+        assertEquals(401, snapshot.getLastStatusCode());
+        assertFalse(snapshot.isDegraded());
+    }
+
+    @Test
+    public void retainOnlyDropsUnconfiguredServersTest() {
+        registry.record("SRM", SRM_URL, 20, 200, true);
+
+        registry.retainOnly(Collections.singletonList("https://fake.coverity.url"));
+
+        assertTrue(registry.getSnapshot(SRM_URL).isEmpty());
+        assertTrue(registry.getSnapshot(null).isEmpty());
+    }
+}
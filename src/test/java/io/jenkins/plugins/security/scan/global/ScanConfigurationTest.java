@@ -0,0 +1,67 @@
+package io.jenkins.plugins.security.scan.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class ScanConfigurationTest {
+    @Test
+    public void fromParsesProductsAndFlagsTest() {
+        Map<String, Object> scanParameters = new HashMap<>();
+        scanParameters.put(ApplicationConstants.PRODUCT_KEY, " blackducksca, polaris ,unknown");
+        scanParameters.put(ApplicationConstants.POLARIS_PRCOMMENT_ENABLED_KEY, true);
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_FIXPR_ENABLED_KEY, false);
+        scanParameters.put(ApplicationConstants.INCLUDE_DIAGNOSTICS_KEY, true);
+        scanParameters.put(ApplicationConstants.POLARIS_WAITFORSCAN_KEY, false);
+        scanParameters.put(ApplicationConstants.NETWORK_SSL_CERT_FILE_KEY, "/path/to/cert.pem");
+
+        ScanConfiguration scanConfiguration = ScanConfiguration.from(scanParameters);
+
+        assertEquals(
+                EnumSet.of(SecurityProduct.BLACKDUCKSCA, SecurityProduct.POLARIS),
+                scanConfiguration.getSecurityProducts());
+        assertEquals(Set.of("BLACKDUCKSCA", "POLARIS", "UNKNOWN"), scanConfiguration.getSecurityProductNames());
+        assertTrue(scanConfiguration.isBlackDuckSCAScan());
+        assertTrue(scanConfiguration.isPrCommentEnabled());
+        assertFalse(scanConfiguration.isFixPrEnabled());
+        assertTrue(scanConfiguration.isIncludeDiagnostics());
+        assertFalse(scanConfiguration.isNetworkAirGap());
+        assertFalse(scanConfiguration.getPolarisWaitForScan());
+        assertNull(scanConfiguration.getBlackDuckSCAWaitForScan());
+        assertEquals("/path/to/cert.pem", scanConfiguration.getNetworkSslCertFile());
+    }
+
+    @Test
+    public void fromIsDetachedFromSourceMapTest() {
+        Map<String, Object> scanParameters = new HashMap<>();
+        scanParameters.put(ApplicationConstants.PRODUCT_KEY, "coverity");
+
+        ScanConfiguration scanConfiguration = ScanConfiguration.from(scanParameters);
+        scanParameters.put(ApplicationConstants.PRODUCT_KEY, "srm");
+
+        assertTrue(scanConfiguration.hasSecurityProduct(SecurityProduct.COVERITY));
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> scanConfiguration.getParameters().put(ApplicationConstants.PRODUCT_KEY, "srm"));
+    }
+
+    @Test
+    public void fingerprintTest() {
+        Map<String, Object> scanParameters = new HashMap<>();
+        scanParameters.put(ApplicationConstants.PRODUCT_KEY, "blackducksca");
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_URL_KEY, "https://fake.blackduck.url");
+
+        String fingerprint = ScanConfiguration.from(scanParameters).getFingerprint();
+
+        assertEquals(fingerprint, ScanConfiguration.from(new HashMap<>(scanParameters)).getFingerprint());
+
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_URL_KEY, "https://other.blackduck.url");
+
+        assertNotEquals(fingerprint, ScanConfiguration.from(scanParameters).getFingerprint());
+    }
+}
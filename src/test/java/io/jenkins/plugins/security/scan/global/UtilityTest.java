@@ -16,7 +16,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.net.*;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -94,62 +93,6 @@ public class UtilityTest {
         assertFalse(Utility.isStringNullOrBlank(validString));
     }
 
-    @Test
-    public void getHttpURLConnectionTest() {
-        EnvVars envVars = new EnvVars();
-        envVars.put("HTTP_PROXY", "http://fake-proxy.com:1010");
-
-        Map<String, Object> scanParameters = new HashMap<>();
-
-        HttpURLConnection httpProxyConnection = Utility.getHttpURLConnection(url, envVars, logger, scanParameters);
-
-        assertNotNull(httpProxyConnection);
-        assertEquals(url, httpProxyConnection.getURL());
-
-        envVars.put("NO_PROXY", "https://test-url.com, https://fake-url.com");
-
-        HttpURLConnection noProxyConnection = Utility.getHttpURLConnection(url, envVars, logger, scanParameters);
-
-        assertNotNull(noProxyConnection);
-        assertEquals(url, noProxyConnection.getURL());
-    }
-
-    @Test
-    public void createTrustAllConnectionTest() throws Exception {
-        EnvVars envVars = new EnvVars();
-        envVars.put("HTTP_PROXY", "https://fake-proxy.com:1010");
-
-        HttpURLConnection connection = Utility.createTrustAllConnection(url, envVars, logger);
-
-        assertNotNull(connection);
-        assertEquals(url, connection.getURL());
-
-        envVars.put("NO_PROXY", "https://test-url.com");
-
-        connection = Utility.createTrustAllConnection(url, envVars, logger);
-
-        assertNotNull(connection);
-        assertEquals(url, connection.getURL());
-    }
-
-    @Test
-    public void createDefaultConnectionTest() throws Exception {
-        EnvVars envVars = new EnvVars();
-        envVars.put("HTTP_PROXY", "https://fake-proxy.com:1010");
-
-        HttpURLConnection connection = Utility.createDefaultConnection(url, envVars, logger);
-
-        assertNotNull(connection);
-        assertEquals(url, connection.getURL());
-
-        envVars.put("NO_PROXY", "https://test-url.com");
-
-        connection = Utility.createDefaultConnection(url, envVars, logger);
-
-        assertNotNull(connection);
-        assertEquals(url, connection.getURL());
-    }
-
     @Test
     public void getProxyTest() throws IOException {
         EnvVars envVars = new EnvVars();
@@ -193,32 +136,6 @@ public class UtilityTest {
                 Utility.getEnvOrSystemProxyDetails(ApplicationConstants.HTTPS_PROXY, envVars));
     }
 
-    @Test
-    public void setDefaultProxyAuthenticatorTest() {
-        Authenticator.setDefault(null);
-
-        PasswordAuthentication passwordAuth = new PasswordAuthentication("username", "password".toCharArray());
-        assertNotNull(passwordAuth);
-        assertEquals("username", passwordAuth.getUserName());
-        assertArrayEquals("password".toCharArray(), passwordAuth.getPassword());
-
-        Utility.setDefaultProxyAuthenticator(
-                passwordAuth.getUserName().concat(":").concat(Arrays.toString(passwordAuth.getPassword())));
-        Authenticator authenticator = Authenticator.getDefault();
-        assertNotNull(authenticator);
-
-        Authenticator.setDefault(null);
-    }
-
-    @Test
-    public void testSetDefaultProxyAuthenticatorWithInvalidUserInfo() {
-        Authenticator.setDefault(null);
-
-        Utility.setDefaultProxyAuthenticator("invalidUserInfo");
-
-        assertNull(Authenticator.getDefault());
-    }
-
     @Test
     public void testGetCustomSarifReportFilePath_BlackDuckScan() {
         Map<String, Object> scanParams = new HashMap<>();
@@ -0,0 +1,137 @@
+package io.jenkins.plugins.security.scan.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.cloudbees.plugins.credentials.CredentialsScope;
+import com.cloudbees.plugins.credentials.SystemCredentialsProvider;
+import com.cloudbees.plugins.credentials.impl.UsernamePasswordCredentialsImpl;
+import hudson.FilePath;
+import hudson.model.TaskListener;
+import hudson.util.Secret;
+import io.jenkins.plugins.security.scan.extension.global.ScannerGlobalConfig;
+import io.jenkins.plugins.security.scan.extension.pipeline.SecurityScanStep;
+import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import jenkins.model.GlobalConfiguration;
+import org.jenkinsci.plugins.plaincredentials.impl.StringCredentialsImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+@WithJenkins
+public class ParameterMappingServiceGlobalConfigTest {
+    private FilePath workspace;
+    private SecurityScanStep securityScanStep;
+
+    @BeforeEach
+    void setUp(JenkinsRule jenkinsRule) throws Exception {
+        workspace = new FilePath(new File(System.getProperty("user.home")));
+        securityScanStep = new SecurityScanStep();
+
+        SystemCredentialsProvider credentialsProvider = SystemCredentialsProvider.getInstance();
+        credentialsProvider.getCredentials().add(apiToken("blackducksca-token", "fake-blackducksca-token"));
+        credentialsProvider.getCredentials().add(apiToken("polaris-token", "fake-polaris-token"));
+        credentialsProvider.getCredentials().add(apiToken("srm-token", "fake-srm-token"));
+        credentialsProvider.getCredentials().add(apiToken("github-token", "fake-github-token"));
+        credentialsProvider.getCredentials().add(apiToken("gitlab-token", "fake-gitlab-token"));
+        credentialsProvider
+                .getCredentials()
+                .add(new UsernamePasswordCredentialsImpl(
+                        CredentialsScope.GLOBAL, "coverity-user", null, "fake-coverity-user", "fake-coverity-pass"));
+        credentialsProvider
+                .getCredentials()
+                .add(new UsernamePasswordCredentialsImpl(
+                        CredentialsScope.GLOBAL, "bitbucket-user", null, "fake-bitbucket-user", "fake-bitbucket-pass"));
+        credentialsProvider.save();
+
+        ScannerGlobalConfig config = GlobalConfiguration.all().get(ScannerGlobalConfig.class);
+        config.setBlackDuckSCAUrl("https://fake-blackducksca.url");
+        config.setBlackDuckSCACredentialsId("blackducksca-token");
+        config.setDetectInstallationPath("/fake/detect");
+        config.setCoverityConnectUrl("https://fake-coverity.url");
+        config.setCoverityCredentialsId("coverity-user");
+        config.setCoverityInstallationPath("/fake/coverity");
+        config.setPolarisServerUrl("https://fake-polaris.url");
+        config.setPolarisCredentialsId("polaris-token");
+        config.setSrmUrl("https://fake-srm.url");
+        config.setSrmCredentialsId("srm-token");
+        config.setSrmSCAInstallationPath("/fake/srm/sca");
+        config.setSrmSASTInstallationPath("/fake/srm/sast");
+        config.setBitbucketCredentialsId("bitbucket-user");
+        config.setGithubCredentialsId("github-token");
+        config.setGitlabCredentialsId("gitlab-token");
+        config.setBridgeInstallationPath("/fake/bridge");
+        config.setBridgeDownloadVersion("3.0.0");
+        config.setNetworkSslTrustAll(true);
+    }
+
+    @Test
+    public void prepareParametersMapMatchesUnscopedGlobalValuesTest() throws Exception {
+        securityScanStep.setProduct("blackducksca,coverity,polaris,srm");
+        securityScanStep.setBlackducksca_prComment_enabled(true);
+        securityScanStep.setPolaris_server_url("https://step-polaris.url");
+
+        Map<String, Object> parametersMap =
+                ParameterMappingService.prepareParametersMap(securityScanStep, workspace, TaskListener.NULL);
+
+        // every product and PR comments are selected, so nothing may be left out compared to resolving all values
+        Map<String, Object> expected = allGlobalValues();
+        expected.putAll(ParameterMappingService.preparePipelineParametersMap(
+                securityScanStep, new HashMap<>(), TaskListener.NULL));
+        assertEquals(expected, parametersMap);
+        assertEquals("https://step-polaris.url", parametersMap.get(ApplicationConstants.POLARIS_SERVER_URL_KEY));
+    }
+
+    @Test
+    public void prepareParametersMapResolvesOnlySelectedProductValuesTest() throws Exception {
+        securityScanStep.setProduct("coverity");
+
+        Map<String, Object> parametersMap =
+                ParameterMappingService.prepareParametersMap(securityScanStep, workspace, TaskListener.NULL);
+
+        Map<String, Object> allGlobalValues = allGlobalValues();
+        for (Map.Entry<String, Object> entry : parametersMap.entrySet()) {
+            if (!entry.getKey().equals(ApplicationConstants.PRODUCT_KEY)) {
+                assertEquals(allGlobalValues.get(entry.getKey()), entry.getValue(), entry.getKey());
+            }
+        }
+        assertEquals("fake-coverity-user", parametersMap.get(ApplicationConstants.COVERITY_USER_KEY));
+        assertEquals("fake-coverity-pass", parametersMap.get(ApplicationConstants.COVERITY_PASSPHRASE_KEY));
+        assertFalse(parametersMap.containsKey(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY));
+        assertFalse(parametersMap.containsKey(ApplicationConstants.POLARIS_ACCESS_TOKEN_KEY));
+        assertFalse(parametersMap.containsKey(ApplicationConstants.GITHUB_TOKEN_KEY));
+    }
+
+    // the values the removed getGlobalConfigurationValues returned for the configuration above
+    private static Map<String, Object> allGlobalValues() {
+        Map<String, Object> globalValues = new HashMap<>();
+        globalValues.put(ApplicationConstants.BLACKDUCKSCA_URL_KEY, "https://fake-blackducksca.url");
+        globalValues.put(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY, "fake-blackducksca-token");
+        globalValues.put(ApplicationConstants.DETECT_INSTALL_DIRECTORY_KEY, "/fake/detect");
+        globalValues.put(ApplicationConstants.COVERITY_URL_KEY, "https://fake-coverity.url");
+        globalValues.put(ApplicationConstants.COVERITY_USER_KEY, "fake-coverity-user");
+        globalValues.put(ApplicationConstants.COVERITY_PASSPHRASE_KEY, "fake-coverity-pass");
+        globalValues.put(ApplicationConstants.COVERITY_INSTALL_DIRECTORY_KEY, "/fake/coverity");
+        globalValues.put(ApplicationConstants.POLARIS_SERVER_URL_KEY, "https://fake-polaris.url");
+        globalValues.put(ApplicationConstants.POLARIS_ACCESS_TOKEN_KEY, "fake-polaris-token");
+        globalValues.put(ApplicationConstants.SRM_URL_KEY, "https://fake-srm.url");
+        globalValues.put(ApplicationConstants.SRM_APIKEY_KEY, "fake-srm-token");
+        globalValues.put(ApplicationConstants.DETECT_EXECUTION_PATH_KEY, "/fake/srm/sca");
+        globalValues.put(ApplicationConstants.COVERITY_EXECUTION_PATH_KEY, "/fake/srm/sast");
+        globalValues.put(ApplicationConstants.BITBUCKET_USERNAME_KEY, "fake-bitbucket-user");
+        globalValues.put(ApplicationConstants.BITBUCKET_TOKEN_KEY, "fake-bitbucket-pass");
+        globalValues.put(ApplicationConstants.GITHUB_TOKEN_KEY, "fake-github-token");
+        globalValues.put(ApplicationConstants.GITLAB_TOKEN_KEY, "fake-gitlab-token");
+        globalValues.put(ApplicationConstants.BRIDGECLI_INSTALL_DIRECTORY, "/fake/bridge");
+        globalValues.put(ApplicationConstants.BRIDGECLI_DOWNLOAD_VERSION, "3.0.0");
+        globalValues.put(ApplicationConstants.NETWORK_SSL_TRUSTALL_KEY, true);
+        return globalValues;
+    }
+
+    private static StringCredentialsImpl apiToken(String id, String secret) {
+        return new StringCredentialsImpl(CredentialsScope.GLOBAL, id, null, Secret.fromString(secret));
+    }
+}
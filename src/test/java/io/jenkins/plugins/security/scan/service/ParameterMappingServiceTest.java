@@ -12,12 +12,13 @@ import io.jenkins.plugins.security.scan.extension.pipeline.SecurityScanStep;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
 import io.jenkins.plugins.security.scan.global.ErrorCode;
 import io.jenkins.plugins.security.scan.global.LoggerWrapper;
+import io.jenkins.plugins.security.scan.global.ParameterDiagnostics;
 import io.jenkins.plugins.security.scan.global.enums.BuildStatus;
 import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
 import java.io.File;
 import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,25 +36,40 @@ public class ParameterMappingServiceTest {
         listenerMock = Mockito.mock(TaskListener.class);
         securityScanStep = new SecurityScanStep();
         securityScanFreestyle = new SecurityScanFreestyle();
-        ParameterMappingService.getDeprecatedParameters().clear();
         Mockito.when(listenerMock.getLogger()).thenReturn(Mockito.mock(PrintStream.class));
     }
 
     @Test
     void testGetDeprecatedParameters_initiallyEmpty() {
-        List<String> deprecatedParameters = ParameterMappingService.getDeprecatedParameters();
-        assertTrue(deprecatedParameters.isEmpty(), "DEPRECATED_PARAMETERS should be initially empty");
+        ParameterDiagnostics diagnostics = new ParameterDiagnostics();
+
+        assertTrue(diagnostics.getDeprecatedParameters().isEmpty());
+        assertFalse(diagnostics.hasDeprecatedParameters());
     }
 
     @Test
-    void testGetDeprecatedParameters_reflectsInternalChanges() {
-        ParameterMappingService.addDeprecatedParameter("param1");
-        ParameterMappingService.addDeprecatedParameter("param2");
-
-        List<String> deprecatedParameters = ParameterMappingService.getDeprecatedParameters();
-        assertEquals(2, deprecatedParameters.size());
-        assertTrue(deprecatedParameters.contains("param1"));
-        assertTrue(deprecatedParameters.contains("param2"));
+    void testGetDeprecatedParameters_collectedPerBuild() throws PluginExceptionHandler {
+        ParameterDiagnostics diagnostics = new ParameterDiagnostics();
+        securityScanStep.setProduct("blackducksca");
+        securityScanStep.setBlackduck_url("https://fake.blackduck.url");
+        securityScanStep.setBlackduck_token("fake-token");
+
+        Map<String, Object> parametersMap = ParameterMappingService.preparePipelineParametersMap(
+                securityScanStep, new HashMap<>(), listenerMock, diagnostics);
+
+        assertEquals("https://fake.blackduck.url", parametersMap.get(ApplicationConstants.BLACKDUCKSCA_URL_KEY));
+        assertEquals(
+                Arrays.asList(ApplicationConstants.BLACKDUCK_URL_KEY, ApplicationConstants.BLACKDUCK_TOKEN_KEY),
+                diagnostics.getDeprecatedParameters());
+
+        SecurityScanStep otherBuildStep = new SecurityScanStep();
+        otherBuildStep.setProduct("blackducksca");
+        otherBuildStep.setBlackducksca_url("https://fake.blackduck.url");
+        ParameterDiagnostics otherBuildDiagnostics = new ParameterDiagnostics();
+        ParameterMappingService.preparePipelineParametersMap(
+                otherBuildStep, new HashMap<>(), listenerMock, otherBuildDiagnostics);
+
+        assertFalse(otherBuildDiagnostics.hasDeprecatedParameters());
     }
 
     @Test
@@ -517,6 +533,46 @@ public class ParameterMappingServiceTest {
         }
     }
 
+    @Test
+    public void preparePipelineParametersMapKeepsBindingPrecedenceTest() throws PluginExceptionHandler {
+        securityScanFreestyle.setProduct("blackducksca,srm");
+        securityScanFreestyle.setDetect_search_depth(1);
+        securityScanFreestyle.setSrm_sca_search_depth(3);
+        ParameterDiagnostics diagnostics = new ParameterDiagnostics();
+
+        Map<String, Object> parametersMap = ParameterMappingService.preparePipelineParametersMap(
+                securityScanFreestyle, new HashMap<>(), listenerMock, diagnostics);
+
+        assertEquals("BLACKDUCKSCA,SRM", parametersMap.get(ApplicationConstants.PRODUCT_KEY));
+        assertEquals(3, parametersMap.get(ApplicationConstants.DETECT_SEARCH_DEPTH_KEY));
+        assertFalse(diagnostics.hasDeprecatedParameters());
+    }
+
+    @Test
+    public void polarisScaToolConfigurationOverridesSharedDetectValuesTest() throws PluginExceptionHandler {
+        securityScanFreestyle.setProduct("blackducksca,polaris");
+        securityScanFreestyle.setDetect_search_depth(1);
+        securityScanFreestyle.setDetect_args("--shared");
+        securityScanFreestyle.setPolaris_sca_search_depth(2);
+
+        Map<String, Object> parametersMap = ParameterMappingService.preparePipelineParametersMap(
+                securityScanFreestyle, new HashMap<>(), listenerMock, new ParameterDiagnostics());
+
+        assertEquals(2, parametersMap.get(ApplicationConstants.DETECT_SEARCH_DEPTH_KEY));
+        assertEquals("--shared", parametersMap.get(ApplicationConstants.DETECT_ARGS_KEY));
+    }
+
+    @Test
+    public void blankPolarisPrCommentSeveritiesArePassedOnTest() {
+        SecurityScanStep securityScanStepMock = Mockito.mock(SecurityScanStep.class);
+        Mockito.when(securityScanStepMock.getPolaris_prComment_severities()).thenReturn(" ");
+
+        Map<String, Object> polarisParametersMap = ParameterBindingTable.bind(
+                ParameterBindingTable.POLARIS, securityScanStepMock, new ParameterDiagnostics());
+
+        assertEquals(" ", polarisParametersMap.get(ApplicationConstants.POLARIS_PRCOMMENT_SEVERITIES_KEY));
+    }
+
     @Test
     public void validateProductTest() {
         assertTrue(ParameterMappingService.validateProduct("blackduck", listenerMock));
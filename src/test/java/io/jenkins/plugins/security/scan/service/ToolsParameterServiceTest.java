@@ -11,8 +11,10 @@ import io.jenkins.plugins.security.scan.bridge.BridgeDownloadParameters;
 import io.jenkins.plugins.security.scan.exception.PluginExceptionHandler;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
 import io.jenkins.plugins.security.scan.global.BridgeParams;
+import io.jenkins.plugins.security.scan.global.ScanConfiguration;
 import io.jenkins.plugins.security.scan.global.Utility;
 import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
+import io.jenkins.plugins.security.scan.input.BridgeInput;
 import io.jenkins.plugins.security.scan.input.blackducksca.Automation;
 import io.jenkins.plugins.security.scan.input.blackducksca.BlackDuckSCA;
 import io.jenkins.plugins.security.scan.input.coverity.Connect;
@@ -90,6 +92,27 @@ public class ToolsParameterServiceTest {
         Utility.removeFile(filePath.toString(), workspace, listenerMock);
     }
 
+    @Test
+    void prepareBridgeInputJsonWritesDataObjectTest() throws IOException {
+        BlackDuckSCA blackDuckSCA = new BlackDuckSCA();
+        blackDuckSCA.setUrl("https://fake.blackduck.url");
+        blackDuckSCA.setToken(TOKEN);
+
+        Map<String, Object> scanParameters = new HashMap<>();
+        scanParameters.put(ApplicationConstants.PRODUCT_KEY, SecurityProduct.BLACKDUCKSCA.name());
+
+        String inputJsonPath = toolsParameterService.prepareBridgeInputJson(
+                scanParameters, blackDuckSCA, null, ApplicationConstants.BLACKDUCKSCA_INPUT_JSON_PREFIX, null);
+        JsonNode rootNode = new ObjectMapper().readTree(Files.readString(Paths.get(inputJsonPath)));
+
+        assertEquals(1, rootNode.size());
+        assertEquals(
+                "https://fake.blackduck.url",
+                rootNode.path("data").path("blackducksca").path("url").asText());
+        assertTrue(rootNode.path("data").path("bitbucket").isMissingNode());
+        Utility.removeFile(inputJsonPath, workspace, listenerMock);
+    }
+
     @Test
     void bitbucket_blackDuckInputJson_withoutPrCommentTest() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -333,25 +356,29 @@ public class ToolsParameterServiceTest {
     }
 
     @Test
-    public void writeInputJsonToFileTest() {
-        String jsonString =
-                "{\"data\":{\"blackduck\":{\"url\":\"https://fake.blackduck.url\",\"token\":\"MDJDSROSVC56FAKEKEY\"}}}";
+    public void writeBridgeInputToFileTest() throws IOException {
+        BlackDuckSCA blackDuckSCA = new BlackDuckSCA();
+        blackDuckSCA.setUrl("https://fake.blackduck.url");
+        blackDuckSCA.setToken(TOKEN);
+        BridgeInput bridgeInput = new BridgeInput();
+        bridgeInput.setBlackDuckSCA(blackDuckSCA);
 
-        String jsonPath = toolsParameterService.writeInputJsonToFile(
-                jsonString, ApplicationConstants.BLACKDUCKSCA_INPUT_JSON_PREFIX);
-        String fileContent = null;
-        try {
-            fileContent = new String(Files.readAllBytes(Paths.get(jsonPath)));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        String jsonPath = toolsParameterService.writeBridgeInputToFile(
+                bridgeInput, ApplicationConstants.BLACKDUCKSCA_INPUT_JSON_PREFIX);
+        Path filePath = Path.of(jsonPath);
 
         assertTrue(
-                Files.exists(Path.of(jsonPath)),
+                Files.exists(filePath),
                 String.format(
                         "%s does not exist at the specified path.",
                         ApplicationConstants.BLACKDUCKSCA_INPUT_JSON_PREFIX.concat(".json")));
-        assertEquals(jsonString, fileContent);
+        assertEquals(Path.of(workspace.getParent().getRemote()), filePath.getParent());
+        assertTrue(filePath.getFileName().toString().startsWith(ApplicationConstants.BLACKDUCKSCA_INPUT_JSON_PREFIX));
+
+        JsonNode blackDuckSCANode =
+                new ObjectMapper().readTree(Files.readString(filePath)).path("data").path("blackducksca");
+        assertEquals("https://fake.blackduck.url", blackDuckSCANode.path("url").asText());
+        assertEquals(TOKEN, blackDuckSCANode.path("token").asText());
 
         Utility.removeFile(jsonPath, workspace, listenerMock);
     }
@@ -574,6 +601,88 @@ public class ToolsParameterServiceTest {
         Utility.removeFile(commandLineArgs.get(4), workspace, listenerMock);
     }
 
+    @Test
+    public void getCommandLineArgsForCombinedInputTest() throws Exception {
+        Map<String, Object> scanParameters = new HashMap<>();
+        scanParameters.put(ApplicationConstants.PRODUCT_KEY, "BLACKDUCKSCA,COVERITY");
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_URL_KEY, "https://fake.blackduck.url");
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY, TOKEN);
+        scanParameters.put(ApplicationConstants.COVERITY_URL_KEY, "https://fake.coverity.url");
+        scanParameters.put(ApplicationConstants.COVERITY_USER_KEY, "fake-user");
+        scanParameters.put(ApplicationConstants.COVERITY_PASSPHRASE_KEY, "fakeUserPassword");
+
+        BridgeDownloadParameters bridgeDownloadParams = Mockito.mock(BridgeDownloadParameters.class);
+        String combinedInputProperty = ToolsParameterService.class.getName() + ".combinedInput";
+
+        List<String> commandLineArgs;
+        System.setProperty(combinedInputProperty, "true");
+        try {
+            commandLineArgs =
+                    toolsParameterService.getCommandLineArgs(scanParameters, workspace, bridgeDownloadParams);
+        } finally {
+            System.clearProperty(combinedInputProperty);
+        }
+
+        assertEquals(
+                List.of(
+                        BridgeParams.STAGE_OPTION,
+                        BridgeParams.BLACKDUCKSCA_STAGE,
+                        BridgeParams.STAGE_OPTION,
+                        BridgeParams.COVERITY_STAGE,
+                        BridgeParams.INPUT_OPTION),
+                commandLineArgs.subList(1, 6));
+        assertEquals(BridgeParams.OUT_OPTION, commandLineArgs.get(7));
+        assertEquals(9, commandLineArgs.size());
+
+        JsonNode dataNode = new ObjectMapper()
+                .readTree(Files.readString(Path.of(commandLineArgs.get(6))))
+                .path("data");
+        assertEquals("https://fake.blackduck.url", dataNode.path("blackducksca").path("url").asText());
+        assertEquals(
+                "https://fake.coverity.url",
+                dataNode.path("coverity").path("connect").path("url").asText());
+
+        Utility.removeFile(commandLineArgs.get(6), workspace, listenerMock);
+    }
+
+    @Test
+    public void getProductCommandLinesTest() throws Exception {
+        Map<String, Object> scanParameters = new HashMap<>();
+        scanParameters.put(ApplicationConstants.PRODUCT_KEY, "BLACKDUCKSCA,COVERITY");
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_URL_KEY, "https://fake.blackduck.url");
+        scanParameters.put(ApplicationConstants.BLACKDUCKSCA_TOKEN_KEY, TOKEN);
+        scanParameters.put(ApplicationConstants.COVERITY_URL_KEY, "https://fake.coverity.url");
+        scanParameters.put(ApplicationConstants.COVERITY_USER_KEY, "fake-user");
+        scanParameters.put(ApplicationConstants.COVERITY_PASSPHRASE_KEY, "fakeUserPassword");
+
+        List<ToolsParameterService.ProductCommandLine> productCommandLines =
+                toolsParameterService.getProductCommandLines(
+                        ScanConfiguration.from(scanParameters),
+                        workspace,
+                        Mockito.mock(BridgeDownloadParameters.class));
+
+        assertEquals(2, productCommandLines.size());
+
+        ToolsParameterService.ProductCommandLine blackDuckSCA = productCommandLines.get(0);
+        assertEquals("blackducksca", blackDuckSCA.getProduct());
+        assertEquals(".bridge/output/blackducksca/scan_info_out.json", blackDuckSCA.getScanInfoOutFile());
+        assertEquals(
+                List.of(BridgeParams.STAGE_OPTION, BridgeParams.BLACKDUCKSCA_STAGE, BridgeParams.INPUT_OPTION),
+                blackDuckSCA.getCommandLineArgs().subList(1, 4));
+        assertEquals(
+                List.of(BridgeParams.OUT_OPTION, blackDuckSCA.getScanInfoOutFile()),
+                blackDuckSCA.getCommandLineArgs().subList(5, 7));
+
+        ToolsParameterService.ProductCommandLine coverity = productCommandLines.get(1);
+        assertEquals("coverity", coverity.getProduct());
+        assertEquals(BridgeParams.COVERITY_STAGE, coverity.getCommandLineArgs().get(2));
+        assertEquals(".bridge/output/coverity/scan_info_out.json", coverity.getScanInfoOutFile());
+
+        for (ToolsParameterService.ProductCommandLine productCommandLine : productCommandLines) {
+            Utility.removeFile(productCommandLine.getCommandLineArgs().get(4), workspace, listenerMock);
+        }
+    }
+
     @Test
     public void getCommandLineArgsForCoverityTest() throws PluginExceptionHandler {
         Map<String, Object> coverityParameters = new HashMap<>();
@@ -9,7 +9,7 @@ import io.jenkins.plugins.security.scan.global.ApplicationConstants;
 import io.jenkins.plugins.security.scan.global.enums.SecurityProduct;
 import io.jenkins.plugins.security.scan.input.coverity.Coverity;
 import io.jenkins.plugins.security.scan.input.project.Project;
-import io.jenkins.plugins.security.scan.service.scm.RepositoryDetailsHolder;
+import io.jenkins.plugins.security.scan.service.scm.RepositoryContext;
 import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.Map;
@@ -128,7 +128,8 @@ public class CoverityParametersServiceTest {
         Mockito.when(envVarsMock.get(ApplicationConstants.ENV_CHANGE_TARGET_KEY))
                 .thenReturn("main");
 
-        RepositoryDetailsHolder.setRepositoryName("default-repo-name");
+        coverityParametersService = new CoverityParametersService(
+                listenerMock, envVarsMock, bridgeDownloadParameters, new RepositoryContext(null, "default-repo-name"));
 
         Mockito.when(bridgeDownloadParameters.getBridgeDownloadVersion()).thenReturn("3.8.0");
 
@@ -152,7 +153,8 @@ public class CoverityParametersServiceTest {
 
         Mockito.when(envVarsMock.get(ApplicationConstants.ENV_BRANCH_NAME_KEY)).thenReturn("feature");
 
-        RepositoryDetailsHolder.setRepositoryName("default-repo-name");
+        coverityParametersService = new CoverityParametersService(
+                listenerMock, envVarsMock, bridgeDownloadParameters, new RepositoryContext(null, "default-repo-name"));
 
         Coverity coverity = coverityParametersService.prepareCoverityObjectForBridge(coverityParameters);
 
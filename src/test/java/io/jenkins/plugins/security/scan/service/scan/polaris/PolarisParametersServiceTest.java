@@ -10,7 +10,7 @@ import io.jenkins.plugins.security.scan.input.polaris.Polaris;
 import io.jenkins.plugins.security.scan.input.project.Project;
 import io.jenkins.plugins.security.scan.input.report.Sarif;
 import io.jenkins.plugins.security.scan.service.scan.coverity.CoverityParametersService;
-import io.jenkins.plugins.security.scan.service.scm.RepositoryDetailsHolder;
+import io.jenkins.plugins.security.scan.service.scm.RepositoryContext;
 import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -204,7 +204,8 @@ public class PolarisParametersServiceTest {
         polarisParameters.put(ApplicationConstants.POLARIS_ACCESS_TOKEN_KEY, TEST_POLARIS_ACCESS_TOKEN);
         polarisParameters.put(ApplicationConstants.POLARIS_ASSESSMENT_TYPES_KEY, "SCA,SAST");
 
-        RepositoryDetailsHolder.setRepositoryName("default-repo-name");
+        polarisParametersService = new PolarisParametersService(
+                listenerMock, envVarsMock, new RepositoryContext(null, "default-repo-name"));
 
         Mockito.when(envVarsMock.get(ApplicationConstants.ENV_BRANCH_NAME_KEY)).thenReturn("feature");
 
@@ -227,7 +228,8 @@ public class PolarisParametersServiceTest {
         polarisParameters.put(ApplicationConstants.POLARIS_ASSESSMENT_TYPES_KEY, "SCA,SAST");
         polarisParameters.put(ApplicationConstants.POLARIS_PRCOMMENT_ENABLED_KEY, true);
 
-        RepositoryDetailsHolder.setRepositoryName("default-repo-name");
+        polarisParametersService = new PolarisParametersService(
+                listenerMock, envVarsMock, new RepositoryContext(null, "default-repo-name"));
 
         Mockito.when(envVarsMock.get(ApplicationConstants.ENV_CHANGE_ID_KEY)).thenReturn("1");
         Mockito.when(envVarsMock.get(ApplicationConstants.ENV_CHANGE_BRANCH_KEY))
@@ -11,7 +11,7 @@ import io.jenkins.plugins.security.scan.input.detect.Detect;
 import io.jenkins.plugins.security.scan.input.srm.SRM;
 import io.jenkins.plugins.security.scan.service.scan.blackducksca.DetectParametersService;
 import io.jenkins.plugins.security.scan.service.scan.coverity.CoverityParametersService;
-import io.jenkins.plugins.security.scan.service.scm.RepositoryDetailsHolder;
+import io.jenkins.plugins.security.scan.service.scm.RepositoryContext;
 import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.List;
@@ -124,7 +124,8 @@ public class SRMParametersServiceTest {
         srmParameters.put(ApplicationConstants.SRM_APIKEY_KEY, TEST_SRM_API_KEY_TOKEN);
         srmParameters.put(ApplicationConstants.SRM_ASSESSMENT_TYPES_KEY, TEST_SRM_ASSESSMENT_TYPES);
 
-        RepositoryDetailsHolder.setRepositoryName("default-repo-name");
+        srmParametersService =
+                new SRMParametersService(listenerMock, envVarsMock, new RepositoryContext(null, "default-repo-name"));
 
         SRM srm = srmParametersService.prepareSrmObjectForBridge(srmParameters);
 
@@ -144,7 +145,8 @@ public class SRMParametersServiceTest {
         srmParameters.put(ApplicationConstants.SRM_PROJECT_ID_KEY, TEST_SRM_PROJECT_ID);
         srmParameters.put(ApplicationConstants.SRM_ASSESSMENT_TYPES_KEY, TEST_SRM_ASSESSMENT_TYPES);
 
-        RepositoryDetailsHolder.setRepositoryName("default-repo-name");
+        srmParametersService =
+                new SRMParametersService(listenerMock, envVarsMock, new RepositoryContext(null, "default-repo-name"));
 
         SRM srm = srmParametersService.prepareSrmObjectForBridge(srmParameters);
 
@@ -0,0 +1,43 @@
+package io.jenkins.plugins.security.scan.service.scm;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import hudson.EnvVars;
+import hudson.model.TaskListener;
+import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+import io.jenkins.plugins.security.scan.global.enums.InvokedFrom;
+import java.io.PrintStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JobContextTest {
+    private final TaskListener listenerMock = mock(TaskListener.class);
+    private final EnvVars envVarsMock = mock(EnvVars.class);
+    private JobContext jobContext;
+
+    @BeforeEach
+    void setUp() {
+        when(listenerMock.getLogger()).thenReturn(mock(PrintStream.class));
+        when(envVarsMock.get(ApplicationConstants.ENV_JOB_NAME_KEY)).thenReturn("folder/job");
+        jobContext = new JobContext(listenerMock, envVarsMock);
+    }
+
+    @Test
+    void jobTypeIsResolvedOnceTest() {
+        String jobType = jobContext.getJobType();
+
+        assertSame(jobType, jobContext.getJobType());
+        assertFalse(jobContext.isMultibranchJob());
+        verify(envVarsMock, times(1)).get(ApplicationConstants.ENV_JOB_NAME_KEY);
+    }
+
+    @Test
+    void invokedFromIsResolvedOnceTest() {
+        InvokedFrom invokedFrom = jobContext.getInvokedFrom();
+
+        assertEquals(InvokedFrom.INT_JENKINS_PIPELINE, invokedFrom);
+        assertSame(invokedFrom, jobContext.getInvokedFrom());
+        assertSame(jobContext.getInstalledBranchSourcePlugins(), jobContext.getInstalledBranchSourcePlugins());
+    }
+}
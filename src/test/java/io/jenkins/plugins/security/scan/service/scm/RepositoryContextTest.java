@@ -0,0 +1,36 @@
+package io.jenkins.plugins.security.scan.service.scm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.jenkins.plugins.security.scan.input.scm.github.Github;
+import io.jenkins.plugins.security.scan.input.scm.github.Repository;
+import org.junit.jupiter.api.Test;
+
+public class RepositoryContextTest {
+    @Test
+    public void testFromWithoutScmObject() {
+        RepositoryContext repositoryContext = RepositoryContext.from(null);
+
+        assertSame(RepositoryContext.EMPTY, repositoryContext);
+        assertNull(repositoryContext.getScmObject());
+        assertNull(repositoryContext.getRepositoryName(), "Repository name should be null without SCM details.");
+    }
+
+    @Test
+    public void testContextsAreIndependentPerBuild() {
+        RepositoryContext firstBuild = RepositoryContext.from(createGithub("first-repo"));
+        RepositoryContext secondBuild = RepositoryContext.from(createGithub("second-repo"));
+
+        assertEquals("first-repo", firstBuild.getRepositoryName());
+        assertEquals("second-repo", secondBuild.getRepositoryName());
+    }
+
+    private Github createGithub(String repositoryName) {
+        Github github = new Github();
+        github.setRepository(new Repository());
+        github.getRepository().setName(repositoryName);
+        return github;
+    }
+}
@@ -8,13 +8,14 @@ import hudson.EnvVars;
 import hudson.model.TaskListener;
 import io.jenkins.plugins.gitlabbranchsource.GitLabSCMSource;
 import io.jenkins.plugins.security.scan.global.ApplicationConstants;
+import io.jenkins.plugins.security.scan.global.enums.BranchSourcePlugin;
 import io.jenkins.plugins.security.scan.global.enums.InvokedFrom;
 import io.jenkins.plugins.security.scan.input.scm.bitbucket.Bitbucket;
 import io.jenkins.plugins.security.scan.input.scm.github.Github;
 import io.jenkins.plugins.security.scan.input.scm.gitlab.Gitlab;
 import java.io.PrintStream;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.EnumSet;
+import java.util.Set;
 import org.jenkinsci.plugins.github_branch_source.GitHubSCMSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,9 +39,7 @@ public class SCMRepositoryServiceTest {
         github.setRepository(new io.jenkins.plugins.security.scan.input.scm.github.Repository());
         github.getRepository().setName("github-repo");
 
-        scmRepositoryService.setRepositoryName(github);
-
-        assertEquals(RepositoryDetailsHolder.getRepositoryName(), "github-repo");
+        assertEquals(RepositoryContext.from(github).getRepositoryName(), "github-repo");
     }
 
     @Test
@@ -55,9 +54,7 @@ public class SCMRepositoryServiceTest {
         Mockito.when(project.getRepository()).thenReturn(repository);
         Mockito.when(repository.getName()).thenReturn("bitbucket-repo");
 
-        scmRepositoryService.setRepositoryName(bitbucket);
-
-        assertEquals(RepositoryDetailsHolder.getRepositoryName(), "bitbucket-repo");
+        assertEquals(RepositoryContext.from(bitbucket).getRepositoryName(), "bitbucket-repo");
     }
 
     @Test
@@ -69,20 +66,17 @@ public class SCMRepositoryServiceTest {
         Mockito.when(gitlab.getRepository()).thenReturn(repository);
         Mockito.when(repository.getName()).thenReturn("gitlab/repo/gitlab-repo");
 
-        scmRepositoryService.setRepositoryName(gitlab);
-
-        assertEquals(RepositoryDetailsHolder.getRepositoryName(), "gitlab-repo");
+        assertEquals(RepositoryContext.from(gitlab).getRepositoryName(), "gitlab-repo");
     }
 
     @Test
     void testGetInvokedFrom_MultiBranchJob_GitHubCloud() {
         when(envVarsMock.get(ApplicationConstants.GIT_URL)).thenReturn("https://github.com/test/repo");
 
-        Map<String, Boolean> installedBranchSourceDependencies = new HashMap<>();
-        installedBranchSourceDependencies.put(ApplicationConstants.GITHUB_BRANCH_SOURCE_PLUGIN_NAME, true);
+        Set<BranchSourcePlugin> installedBranchSourcePlugins = EnumSet.of(BranchSourcePlugin.GITHUB);
 
         InvokedFrom result = scmRepositoryService.getInvokedFrom(
-                installedBranchSourceDependencies,
+                installedBranchSourcePlugins,
                 ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME,
                 new GitHubSCMSource("owner", "repo", "https://github.com/test/repo", true));
 
@@ -93,11 +87,10 @@ public class SCMRepositoryServiceTest {
     void testGetInvokedFrom_MultiBranchJob_GitHubEE() {
         when(envVarsMock.get(ApplicationConstants.GIT_URL)).thenReturn("https://github-ee.com/test/repo");
 
-        Map<String, Boolean> installedBranchSourceDependencies = new HashMap<>();
-        installedBranchSourceDependencies.put(ApplicationConstants.GITHUB_BRANCH_SOURCE_PLUGIN_NAME, true);
+        Set<BranchSourcePlugin> installedBranchSourcePlugins = EnumSet.of(BranchSourcePlugin.GITHUB);
 
         InvokedFrom result = scmRepositoryService.getInvokedFrom(
-                installedBranchSourceDependencies,
+                installedBranchSourcePlugins,
                 ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME,
                 new GitHubSCMSource("owner", "repo", "https://github.com/test/repo", true));
 
@@ -108,11 +101,10 @@ public class SCMRepositoryServiceTest {
     void testGetInvokedFrom_MultiBranchJob_BitbucketCloud() {
         when(envVarsMock.get(ApplicationConstants.GIT_URL)).thenReturn("https://bitbucket.org/test/repo");
 
-        Map<String, Boolean> installedBranchSourceDependencies = new HashMap<>();
-        installedBranchSourceDependencies.put(ApplicationConstants.BITBUCKET_BRANCH_SOURCE_PLUGIN_NAME, true);
+        Set<BranchSourcePlugin> installedBranchSourcePlugins = EnumSet.of(BranchSourcePlugin.BITBUCKET);
 
         InvokedFrom result = scmRepositoryService.getInvokedFrom(
-                installedBranchSourceDependencies,
+                installedBranchSourcePlugins,
                 ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME,
                 new BitbucketSCMSource("owner", "repo"));
 
@@ -123,11 +115,10 @@ public class SCMRepositoryServiceTest {
     void testGetInvokedFrom_MultiBranchJob_BitbucketEE() {
         when(envVarsMock.get(ApplicationConstants.GIT_URL)).thenReturn("https://bitbucket-ee.org/test/repo");
 
-        Map<String, Boolean> installedBranchSourceDependencies = new HashMap<>();
-        installedBranchSourceDependencies.put(ApplicationConstants.BITBUCKET_BRANCH_SOURCE_PLUGIN_NAME, true);
+        Set<BranchSourcePlugin> installedBranchSourcePlugins = EnumSet.of(BranchSourcePlugin.BITBUCKET);
 
         InvokedFrom result = scmRepositoryService.getInvokedFrom(
-                installedBranchSourceDependencies,
+                installedBranchSourcePlugins,
                 ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME,
                 new BitbucketSCMSource("owner", "repo"));
 
@@ -138,11 +129,10 @@ public class SCMRepositoryServiceTest {
     void testGetInvokedFrom_MultiBranchJob_GitlabCloud() {
         when(envVarsMock.get(ApplicationConstants.GIT_URL)).thenReturn("https://gitlab.com/test/repo");
 
-        Map<String, Boolean> installedBranchSourceDependencies = new HashMap<>();
-        installedBranchSourceDependencies.put(ApplicationConstants.GITLAB_BRANCH_SOURCE_PLUGIN_NAME, true);
+        Set<BranchSourcePlugin> installedBranchSourcePlugins = EnumSet.of(BranchSourcePlugin.GITLAB);
 
         InvokedFrom result = scmRepositoryService.getInvokedFrom(
-                installedBranchSourceDependencies,
+                installedBranchSourcePlugins,
                 ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME,
                 new GitLabSCMSource("gitlab.com", "owner", "repo/my-repo"));
 
@@ -153,11 +143,10 @@ public class SCMRepositoryServiceTest {
     void testGetInvokedFrom_MultiBranchJob_GitlabEE() {
         when(envVarsMock.get(ApplicationConstants.GIT_URL)).thenReturn("https://gitlab-ee.com/test/repo");
 
-        Map<String, Boolean> installedBranchSourceDependencies = new HashMap<>();
-        installedBranchSourceDependencies.put(ApplicationConstants.GITLAB_BRANCH_SOURCE_PLUGIN_NAME, true);
+        Set<BranchSourcePlugin> installedBranchSourcePlugins = EnumSet.of(BranchSourcePlugin.GITLAB);
 
         InvokedFrom result = scmRepositoryService.getInvokedFrom(
-                installedBranchSourceDependencies,
+                installedBranchSourcePlugins,
                 ApplicationConstants.MULTIBRANCH_JOB_TYPE_NAME,
                 new GitLabSCMSource("gitlab.com", "owner", "repo/my-repo"));
 
@@ -166,19 +155,19 @@ public class SCMRepositoryServiceTest {
 
     @Test
     void testGetInvokedFrom_FreestyleJob() {
-        Map<String, Boolean> installedBranchSourceDependencies = new HashMap<>();
+        Set<BranchSourcePlugin> installedBranchSourcePlugins = EnumSet.noneOf(BranchSourcePlugin.class);
 
         InvokedFrom result = scmRepositoryService.getInvokedFrom(
-                installedBranchSourceDependencies, ApplicationConstants.FREESTYLE_JOB_TYPE_NAME, null);
+                installedBranchSourcePlugins, ApplicationConstants.FREESTYLE_JOB_TYPE_NAME, null);
 
         assertEquals(InvokedFrom.INT_JENKINS_FREESTYLE, result);
     }
 
     @Test
     void testGetInvokedFrom_PipelineJob() {
-        Map<String, Boolean> installedBranchSourceDependencies = new HashMap<>();
+        Set<BranchSourcePlugin> installedBranchSourcePlugins = EnumSet.noneOf(BranchSourcePlugin.class);
 
-        InvokedFrom result = scmRepositoryService.getInvokedFrom(installedBranchSourceDependencies, "pipeline", null);
+        InvokedFrom result = scmRepositoryService.getInvokedFrom(installedBranchSourcePlugins, "pipeline", null);
 
         assertEquals(InvokedFrom.INT_JENKINS_PIPELINE, result);
     }
@@ -0,0 +1,167 @@
+package io.jenkins.plugins.security.scan.service.scm.bitbucket;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BitbucketRepositoryMetadataCacheTest {
+    private static final String SERVER_URL = "https://bitbucket.example.com";
+    private static final String CREDENTIALS_ID = "bitbucket-user";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> scheduledRefreshes = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private BitbucketRepositoryMetadataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BitbucketRepositoryMetadataCache(10, 100, 2, scheduledRefreshes::add, clock::get);
+    }
+
+    private BitbucketRepositoryMetadataCache.Metadata get() throws Exception {
+        return get(CREDENTIALS_ID, "repo");
+    }
+
+    private BitbucketRepositoryMetadataCache.Metadata get(String credentialsId, String repository) throws Exception {
+        return cache.get(
+                SERVER_URL,
+                credentialsId,
+                "owner",
+                repository,
+                () -> new BitbucketRepositoryMetadataCache.Metadata(
+                        repository + "-" + loads.incrementAndGet(), "owner"));
+    }
+
+    @Test
+    public void freshEntryIsServedWithoutLoadingTest() throws Exception {
+        assertEquals("repo-1", get().getRepositoryName());
+        clock.set(10);
+
+        assertEquals("repo-1", get().getRepositoryName());
+        assertEquals(1, loads.get());
+        assertTrue(scheduledRefreshes.isEmpty());
+    }
+
+    @Test
+    public void staleEntryIsServedWhileOneRefreshRunsTest() throws Exception {
+        get();
+        clock.set(50);
+
+        assertEquals("repo-1", get().getRepositoryName());
+        assertEquals("repo-1", get().getRepositoryName());
+        assertEquals(1, scheduledRefreshes.size());
+
+        scheduledRefreshes.get(0).run();
+
+        assertEquals("repo-2", get().getRepositoryName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void expiredEntryIsLoadedAgainTest() throws Exception {
+        get();
+        clock.set(200);
+
+        assertEquals("repo-2", get().getRepositoryName());
+        assertTrue(scheduledRefreshes.isEmpty());
+    }
+
+    @Test
+    public void expiredEntryIsKeptWhenLoadingFailsTest() throws Exception {
+        get();
+        clock.set(200);
+
+        BitbucketRepositoryMetadataCache.Metadata metadata =
+                cache.get(SERVER_URL, CREDENTIALS_ID, "owner", "repo", () -> {
+                    throw new IOException("Bitbucket is not reachable");
+                });
+
+        assertEquals("repo-1", metadata.getRepositoryName());
+        assertThrows(IOException.class, () -> cache.get(SERVER_URL, CREDENTIALS_ID, "owner", "other-repo", () -> {
+            throw new IOException("Bitbucket is not reachable");
+        }));
+    }
+
+    @Test
+    public void entriesAreKeptPerCredentialsTest() throws Exception {
+        assertEquals("repo-1", get().getRepositoryName());
+
+        assertEquals("repo-2", get("other-user", "repo").getRepositoryName());
+        assertEquals("repo-1", get().getRepositoryName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvictedTest() throws Exception {
+        get(CREDENTIALS_ID, "first");
+        get(CREDENTIALS_ID, "second");
+        get(CREDENTIALS_ID, "first");
+
+        get(CREDENTIALS_ID, "third");
+
+        assertEquals(2, cache.size());
+        assertEquals("first-1", get(CREDENTIALS_ID, "first").getRepositoryName());
+        assertEquals("second-4", get(CREDENTIALS_ID, "second").getRepositoryName());
+    }
+
+    @Test
+    public void droppedRefreshIsRetriedByNextCallerTest() throws Exception {
+        AtomicBoolean refreshQueueFull = new AtomicBoolean(true);
+        cache = new BitbucketRepositoryMetadataCache(
+                10,
+                100,
+                2,
+                command -> {
+                    if (refreshQueueFull.get()) {
+                        throw new RejectedExecutionException("refresh queue is full");
+                    }
+                    scheduledRefreshes.add(command);
+                },
+                clock::get);
+        get();
+        clock.set(50);
+
+        assertEquals("repo-1", get().getRepositoryName());
+        assertTrue(scheduledRefreshes.isEmpty());
+
+        refreshQueueFull.set(false);
+
+        assertEquals("repo-1", get().getRepositoryName());
+        assertEquals(1, scheduledRefreshes.size());
+    }
+
+    @Test
+    public void refreshExecutorRejectsRefreshesBeyondItsQueueTest() throws Exception {
+        ThreadPoolExecutor refreshExecutor = BitbucketRepositoryMetadataCache.createRefreshExecutor(1, 1);
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            refreshExecutor.execute(() -> {
+                refreshing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(refreshing.await(10, TimeUnit.SECONDS));
+            refreshExecutor.execute(() -> {});
+
+            assertThrows(RejectedExecutionException.class, () -> refreshExecutor.execute(() -> {}));
+        } finally {
+            release.countDown();
+            refreshExecutor.shutdownNow();
+        }
+    }
+}